@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.benchmark.java;
+
+import io.github.cowwoc.requirements13.java.JavaValidators;
+import io.github.cowwoc.requirements13.java.validator.CollectionValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testng.annotations.Test;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures chained size checks on a collection whose {@code size()} traverses all of its elements.
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings({"CanBeFinal", "LongLine", "FieldMayBeFinal", "PMD.ImmutableField"})
+public class CollectionSizeTest
+{
+	private static final boolean FAST_ESTIMATE = Boolean.getBoolean("FAST_ESTIMATE");
+	private static final int SIZE = 1_000_000;
+	// Fields may not be final:
+	// https://github.com/openjdk/jmh/blob/cb3c3a90137dad781a2a37fda72dc11ebf253593/jmh-samples/src/main/java/org/openjdk/jmh/samples/JMHSample_10_ConstantFold.java#L58
+	private String name = "queue";
+	private Queue<Integer> value = new ConcurrentLinkedQueue<>();
+	private JavaValidators validators = JavaValidators.newInstance();
+
+	public CollectionSizeTest()
+	{
+		for (int i = 0; i < SIZE; ++i)
+			value.add(i);
+	}
+
+	@Test
+	public void runBenchmarks() throws RunnerException
+	{
+		ChainedOptionsBuilder builder = new OptionsBuilder().
+			include(CollectionSizeTest.class.getSimpleName()).
+			timeUnit(TimeUnit.MILLISECONDS).
+			mode(Mode.AverageTime);
+		if (FAST_ESTIMATE)
+		{
+			builder.warmupIterations(5).
+				measurementIterations(5).
+				forks(1);
+		}
+		else
+		{
+			builder.warmupIterations(10).
+				measurementIterations(20);
+		}
+		Options options = builder.build();
+		new Runner(options).run();
+	}
+
+	@Benchmark
+	public void manualCheck(Blackhole bh)
+	{
+		if (value.isEmpty())
+			throw new IllegalArgumentException("queue may not be empty");
+		int size = value.size();
+		if (size < 1 || size > SIZE)
+			throw new IllegalArgumentException("queue.size() must be between 1 and " + SIZE);
+		bh.consume(size);
+	}
+
+	@Benchmark
+	public void requireThatChainedSizeChecks(Blackhole bh)
+	{
+		CollectionValidator<Queue<Integer>, Integer> validator = validators.requireThat(value, name).
+			isNotEmpty();
+		validator.size().isBetween(1, true, SIZE, true);
+		bh.consume(validator.size().isLessThanOrEqualTo(SIZE));
+	}
+}
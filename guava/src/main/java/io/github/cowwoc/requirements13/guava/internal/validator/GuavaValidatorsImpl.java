@@ -12,12 +12,12 @@ import io.github.cowwoc.requirements13.java.ValidationFailure;
 import io.github.cowwoc.requirements13.java.internal.Configuration;
 import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
 import io.github.cowwoc.requirements13.java.internal.validator.AbstractValidators;
+import io.github.cowwoc.requirements13.java.internal.validator.ContextValue;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import static io.github.cowwoc.requirements13.java.internal.util.ValidationTarget.valid;
 import static io.github.cowwoc.requirements13.java.internal.validator.JavaValidatorsImpl.DEFAULT_NAME;
@@ -86,9 +86,9 @@ public class GuavaValidatorsImpl extends AbstractValidators<GuavaValidators>
 			newValidatorFailures());
 	}
 
-	private Map<String, Optional<Object>> newValidatorContext()
+	private Map<String, ContextValue> newValidatorContext()
 	{
-		Map<String, Optional<Object>> context = HashMap.newHashMap(this.context.size() + 2);
+		Map<String, ContextValue> context = HashMap.newHashMap(this.context.size() + 2);
 		context.putAll(this.context);
 		return context;
 	}
@@ -107,7 +107,7 @@ public class GuavaValidatorsImpl extends AbstractValidators<GuavaValidators>
 	@Override
 	public GuavaValidators withContext(Object value, String name)
 	{
-		context.put(name, Optional.ofNullable(value));
+		context.put(name, new ContextValue(value));
 		return this;
 	}
 
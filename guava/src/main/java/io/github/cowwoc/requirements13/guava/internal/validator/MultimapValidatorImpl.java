@@ -14,6 +14,7 @@ import io.github.cowwoc.requirements13.java.internal.util.Pluralizer;
 import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
 import io.github.cowwoc.requirements13.java.internal.validator.AbstractObjectValidator;
 import io.github.cowwoc.requirements13.java.internal.validator.CollectionValidatorImpl;
+import io.github.cowwoc.requirements13.java.internal.validator.ContextValue;
 import io.github.cowwoc.requirements13.java.internal.validator.ObjectSizeValidatorImpl;
 import io.github.cowwoc.requirements13.java.validator.CollectionValidator;
 import io.github.cowwoc.requirements13.java.validator.PrimitiveUnsignedIntegerValidator;
@@ -22,7 +23,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -47,7 +47,7 @@ public final class MultimapValidatorImpl<K, V, T extends Multimap<K, V>>
 	 *                                  or {@code failures} are null
 	 */
 	public MultimapValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<T> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<T> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
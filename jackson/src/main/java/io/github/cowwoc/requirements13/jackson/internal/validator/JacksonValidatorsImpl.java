@@ -13,6 +13,7 @@ import io.github.cowwoc.requirements13.java.internal.MutableStringMappers;
 import io.github.cowwoc.requirements13.java.internal.StringMapper;
 import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
 import io.github.cowwoc.requirements13.java.internal.validator.AbstractValidators;
+import io.github.cowwoc.requirements13.java.internal.validator.ContextValue;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ObjectNode;
 
@@ -20,7 +21,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.TreeMap;
 
 import static io.github.cowwoc.requirements13.java.internal.util.ValidationTarget.valid;
@@ -129,9 +129,9 @@ public class JacksonValidatorsImpl extends AbstractValidators<JacksonValidators>
 			newValidatorFailures());
 	}
 
-	private Map<String, Optional<Object>> newValidatorContext()
+	private Map<String, ContextValue> newValidatorContext()
 	{
-		Map<String, Optional<Object>> context = HashMap.newHashMap(this.context.size() + 2);
+		Map<String, ContextValue> context = HashMap.newHashMap(this.context.size() + 2);
 		context.putAll(this.context);
 		return context;
 	}
@@ -150,7 +150,7 @@ public class JacksonValidatorsImpl extends AbstractValidators<JacksonValidators>
 	@Override
 	public JacksonValidators withContext(Object value, String name)
 	{
-		context.put(name, Optional.ofNullable(value));
+		context.put(name, new ContextValue(value));
 		return this;
 	}
 
@@ -12,6 +12,7 @@ import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
 import io.github.cowwoc.requirements13.java.internal.util.Pluralizer;
 import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
 import io.github.cowwoc.requirements13.java.internal.validator.AbstractObjectValidator;
+import io.github.cowwoc.requirements13.java.internal.validator.ContextValue;
 import io.github.cowwoc.requirements13.java.internal.validator.ObjectSizeValidatorImpl;
 import io.github.cowwoc.requirements13.java.validator.PrimitiveUnsignedIntegerValidator;
 import tools.jackson.databind.JsonNode;
@@ -28,7 +29,6 @@ import tools.jackson.databind.node.ValueNode;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Predicate;
 
 /**
@@ -51,7 +51,7 @@ public final class JsonNodeValidatorImpl<T extends JsonNode>
 	 *                                  or {@code failures} are null
 	 */
 	public JsonNodeValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<T> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<T> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -11,7 +11,9 @@ import io.github.cowwoc.requirements13.java.internal.validator.JavaValidatorsImp
 import io.github.cowwoc.requirements13.java.validator.BigDecimalValidator;
 import io.github.cowwoc.requirements13.java.validator.BigIntegerValidator;
 import io.github.cowwoc.requirements13.java.validator.BooleanValidator;
+import io.github.cowwoc.requirements13.java.validator.ByteBufferValidator;
 import io.github.cowwoc.requirements13.java.validator.ByteValidator;
+import io.github.cowwoc.requirements13.java.validator.CharSequenceValidator;
 import io.github.cowwoc.requirements13.java.validator.CharacterValidator;
 import io.github.cowwoc.requirements13.java.validator.CollectionValidator;
 import io.github.cowwoc.requirements13.java.validator.ComparableValidator;
@@ -23,6 +25,7 @@ import io.github.cowwoc.requirements13.java.validator.IntegerValidator;
 import io.github.cowwoc.requirements13.java.validator.ListValidator;
 import io.github.cowwoc.requirements13.java.validator.LongValidator;
 import io.github.cowwoc.requirements13.java.validator.MapValidator;
+import io.github.cowwoc.requirements13.java.validator.MemorySegmentValidator;
 import io.github.cowwoc.requirements13.java.validator.ObjectArrayValidator;
 import io.github.cowwoc.requirements13.java.validator.ObjectValidator;
 import io.github.cowwoc.requirements13.java.validator.OptionalValidator;
@@ -44,21 +47,26 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveLongValidator;
 import io.github.cowwoc.requirements13.java.validator.PrimitiveShortArrayValidator;
 import io.github.cowwoc.requirements13.java.validator.PrimitiveShortValidator;
 import io.github.cowwoc.requirements13.java.validator.ShortValidator;
+import io.github.cowwoc.requirements13.java.validator.StreamValidator;
 import io.github.cowwoc.requirements13.java.validator.StringValidator;
 import io.github.cowwoc.requirements13.java.validator.UriValidator;
 import io.github.cowwoc.requirements13.java.validator.component.ValidatorComponent;
 import io.github.cowwoc.requirements13.annotation.CheckReturnValue;
 
+import java.lang.foreign.MemorySegment;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Stream;
 
 /**
  * Creates validators for the Java API.
@@ -683,6 +691,120 @@ public final class DefaultJavaValidators
 		return DELEGATE.requireThat(value, name);
 	}
 
+	/**
+	 * Validates the elements of a {@code Stream} as it is consumed.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails.
+	 *
+	 * @param <E>   the type of elements in the stream
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static <E> StreamValidator<E> requireThat(Stream<E> value, String name)
+	{
+		return DELEGATE.requireThat(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails.
+	 *
+	 * @param <T>   the type of the value
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static <T extends CharSequence> CharSequenceValidator<T> requireThat(T value, String name)
+	{
+		return DELEGATE.requireThat(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code StringBuilder}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static CharSequenceValidator<StringBuilder> requireThat(StringBuilder value, String name)
+	{
+		return DELEGATE.requireThat(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code StringBuffer}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static CharSequenceValidator<StringBuffer> requireThat(StringBuffer value, String name)
+	{
+		return DELEGATE.requireThat(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code CharBuffer}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static CharSequenceValidator<CharBuffer> requireThat(CharBuffer value, String name)
+	{
+		return DELEGATE.requireThat(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static ByteBufferValidator requireThat(ByteBuffer value, String name)
+	{
+		return DELEGATE.requireThat(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code MemorySegment}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static MemorySegmentValidator requireThat(MemorySegment value, String name)
+	{
+		return DELEGATE.requireThat(value, name);
+	}
+
 	/**
 	 * Validates the state of an {@code InetAddress}.
 	 * <p>
@@ -2127,7 +2249,7 @@ public final class DefaultJavaValidators
 	}
 
 	/**
-	 * Validates the state of an {@code InetAddress}.
+	 * Validates the elements of a {@code Stream} as it is consumed.
 	 * <p>
 	 * The returned validator throws an exception immediately if a validation fails. This exception is then
 	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
@@ -2135,19 +2257,20 @@ public final class DefaultJavaValidators
 	 * This method is intended to be used with the {@code assert} keyword, like so:
 	 * {@code assert that(value, name)}.
 	 *
+	 * @param <E>   the type of elements in the stream
 	 * @param value the value
 	 * @param name  the name of the value
 	 * @return a validator for the value
 	 * @throws NullPointerException     if {@code name} is null
 	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
 	 */
-	public static InetAddressValidator that(InetAddress value, String name)
+	public static <E> StreamValidator<E> that(Stream<E> value, String name)
 	{
 		return DELEGATE.that(value, name);
 	}
 
 	/**
-	 * Validates the state of an {@code InetAddress}.
+	 * Validates the elements of a {@code Stream} as it is consumed.
 	 * <p>
 	 * The returned validator throws an exception immediately if a validation fails. This exception is then
 	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
@@ -2155,53 +2278,62 @@ public final class DefaultJavaValidators
 	 * This method is intended to be used with the {@code assert} keyword, like so:
 	 * {@code assert that(value, name)}.
 	 *
+	 * @param <E>   the type of elements in the stream
 	 * @param value the value
 	 * @return a validator for the value
 	 */
-	public static InetAddressValidator that(InetAddress value)
+	public static <E> StreamValidator<E> that(Stream<E> value)
 	{
 		return DELEGATE.that(value);
 	}
 
 	/**
-	 * Validates the state of a {@code byte}.
+	 * Validates the state of a {@code CharSequence}.
 	 * <p>
-	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
-	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
-	 * validation failures are thrown immediately.
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
 	 *
+	 * @param <T>   the type of the value
 	 * @param value the value
 	 * @param name  the name of the value
 	 * @return a validator for the value
 	 * @throws NullPointerException     if {@code name} is null
 	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
 	 */
-	public static PrimitiveByteValidator checkIf(byte value, String name)
+	public static <T extends CharSequence> CharSequenceValidator<T> that(T value, String name)
 	{
-		return DELEGATE.checkIf(value, name);
+		return DELEGATE.that(value, name);
 	}
 
 	/**
-	 * Validates the state of a {@code byte}
+	 * Validates the state of a {@code CharSequence}.
 	 * <p>
-	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
-	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
-	 * validation failures are thrown immediately.
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
 	 *
+	 * @param <T>   the type of the value
 	 * @param value the value
 	 * @return a validator for the value
 	 */
-	public static PrimitiveByteValidator checkIf(byte value)
+	public static <T extends CharSequence> CharSequenceValidator<T> that(T value)
 	{
-		return DELEGATE.checkIf(value);
+		return DELEGATE.that(value);
 	}
 
 	/**
-	 * Validates the state of a {@code Byte}
+	 * Validates the state of a {@code StringBuilder}.
 	 * <p>
-	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
-	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
-	 * validation failures are thrown immediately.
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
 	 *
 	 * @param value the value
 	 * @param name  the name of the value
@@ -2209,65 +2341,73 @@ public final class DefaultJavaValidators
 	 * @throws NullPointerException     if {@code name} is null
 	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
 	 */
-	public static ByteValidator checkIf(Byte value, String name)
+	public static CharSequenceValidator<StringBuilder> that(StringBuilder value, String name)
 	{
-		return DELEGATE.checkIf(value, name);
+		return DELEGATE.that(value, name);
 	}
 
 	/**
-	 * Validates the state of a {@code Byte}
+	 * Validates the state of a {@code StringBuilder}.
 	 * <p>
-	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
-	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
-	 * validation failures are thrown immediately.
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
 	 *
 	 * @param value the value
 	 * @return a validator for the value
 	 */
-	public static ByteValidator checkIf(Byte value)
+	public static CharSequenceValidator<StringBuilder> that(StringBuilder value)
 	{
-		return DELEGATE.checkIf(value);
+		return DELEGATE.that(value);
 	}
 
 	/**
-	 * Validates the state of a {@code short}
+	 * Validates the state of a {@code StringBuffer}.
 	 * <p>
-	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
-	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
-	 * validation failures are thrown immediately.
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
 	 *
 	 * @param value the value
 	 * @param name  the name of the value
 	 * @return a validator for the value
 	 * @throws NullPointerException     if {@code name} is null
-	 * @throws IllegalArgumentException if {@code name} contains whitespace, or is empty
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
 	 */
-	public static PrimitiveShortValidator checkIf(short value, String name)
+	public static CharSequenceValidator<StringBuffer> that(StringBuffer value, String name)
 	{
-		return DELEGATE.checkIf(value, name);
+		return DELEGATE.that(value, name);
 	}
 
 	/**
-	 * Validates the state of a {@code short}
+	 * Validates the state of a {@code StringBuffer}.
 	 * <p>
-	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
-	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
-	 * validation failures are thrown immediately.
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
 	 *
 	 * @param value the value
 	 * @return a validator for the value
 	 */
-	public static PrimitiveShortValidator checkIf(short value)
+	public static CharSequenceValidator<StringBuffer> that(StringBuffer value)
 	{
-		return DELEGATE.checkIf(value);
+		return DELEGATE.that(value);
 	}
 
 	/**
-	 * Validates the state of a {@code Short}
+	 * Validates the state of a {@code CharBuffer}.
 	 * <p>
-	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
-	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
-	 * validation failures are thrown immediately.
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
 	 *
 	 * @param value the value
 	 * @param name  the name of the value
@@ -2275,32 +2415,36 @@ public final class DefaultJavaValidators
 	 * @throws NullPointerException     if {@code name} is null
 	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
 	 */
-	public static ShortValidator checkIf(Short value, String name)
+	public static CharSequenceValidator<CharBuffer> that(CharBuffer value, String name)
 	{
-		return DELEGATE.checkIf(value, name);
+		return DELEGATE.that(value, name);
 	}
 
 	/**
-	 * Validates the state of a {@code Short}
+	 * Validates the state of a {@code CharBuffer}.
 	 * <p>
-	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
-	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
-	 * validation failures are thrown immediately.
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
 	 *
 	 * @param value the value
 	 * @return a validator for the value
 	 */
-	public static ShortValidator checkIf(Short value)
+	public static CharSequenceValidator<CharBuffer> that(CharBuffer value)
 	{
-		return DELEGATE.checkIf(value);
+		return DELEGATE.that(value);
 	}
 
 	/**
-	 * Validates the state of an {@code int}
+	 * Validates the state of a {@code ByteBuffer}.
 	 * <p>
-	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
-	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
-	 * validation failures are thrown immediately.
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
 	 *
 	 * @param value the value
 	 * @param name  the name of the value
@@ -2308,32 +2452,36 @@ public final class DefaultJavaValidators
 	 * @throws NullPointerException     if {@code name} is null
 	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
 	 */
-	public static PrimitiveIntegerValidator checkIf(int value, String name)
+	public static ByteBufferValidator that(ByteBuffer value, String name)
 	{
-		return DELEGATE.checkIf(value, name);
+		return DELEGATE.that(value, name);
 	}
 
 	/**
-	 * Validates the state of an {@code int}
+	 * Validates the state of a {@code ByteBuffer}.
 	 * <p>
-	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
-	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
-	 * validation failures are thrown immediately.
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
 	 *
 	 * @param value the value
 	 * @return a validator for the value
 	 */
-	public static PrimitiveIntegerValidator checkIf(int value)
+	public static ByteBufferValidator that(ByteBuffer value)
 	{
-		return DELEGATE.checkIf(value);
+		return DELEGATE.that(value);
 	}
 
 	/**
-	 * Validates the state of an {@code Integer}
+	 * Validates the state of a {@code MemorySegment}.
 	 * <p>
-	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
-	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
-	 * validation failures are thrown immediately.
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
 	 *
 	 * @param value the value
 	 * @param name  the name of the value
@@ -2341,32 +2489,269 @@ public final class DefaultJavaValidators
 	 * @throws NullPointerException     if {@code name} is null
 	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
 	 */
-	public static IntegerValidator checkIf(Integer value, String name)
+	public static MemorySegmentValidator that(MemorySegment value, String name)
 	{
-		return DELEGATE.checkIf(value, name);
+		return DELEGATE.that(value, name);
 	}
 
 	/**
-	 * Validates the state of an {@code Integer}
+	 * Validates the state of a {@code MemorySegment}.
 	 * <p>
-	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
-	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
-	 * validation failures are thrown immediately.
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
 	 *
 	 * @param value the value
 	 * @return a validator for the value
 	 */
-	public static IntegerValidator checkIf(Integer value)
+	public static MemorySegmentValidator that(MemorySegment value)
 	{
-		return DELEGATE.checkIf(value);
+		return DELEGATE.that(value);
 	}
 
 	/**
-	 * Validates the state of a {@code long}
+	 * Validates the state of an {@code InetAddress}.
 	 * <p>
-	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
-	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
-	 * validation failures are thrown immediately.
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static InetAddressValidator that(InetAddress value, String name)
+	{
+		return DELEGATE.that(value, name);
+	}
+
+	/**
+	 * Validates the state of an {@code InetAddress}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static InetAddressValidator that(InetAddress value)
+	{
+		return DELEGATE.that(value);
+	}
+
+	/**
+	 * Validates the state of a {@code byte}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static PrimitiveByteValidator checkIf(byte value, String name)
+	{
+		return DELEGATE.checkIf(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code byte}
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static PrimitiveByteValidator checkIf(byte value)
+	{
+		return DELEGATE.checkIf(value);
+	}
+
+	/**
+	 * Validates the state of a {@code Byte}
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static ByteValidator checkIf(Byte value, String name)
+	{
+		return DELEGATE.checkIf(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code Byte}
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static ByteValidator checkIf(Byte value)
+	{
+		return DELEGATE.checkIf(value);
+	}
+
+	/**
+	 * Validates the state of a {@code short}
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace, or is empty
+	 */
+	public static PrimitiveShortValidator checkIf(short value, String name)
+	{
+		return DELEGATE.checkIf(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code short}
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static PrimitiveShortValidator checkIf(short value)
+	{
+		return DELEGATE.checkIf(value);
+	}
+
+	/**
+	 * Validates the state of a {@code Short}
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static ShortValidator checkIf(Short value, String name)
+	{
+		return DELEGATE.checkIf(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code Short}
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static ShortValidator checkIf(Short value)
+	{
+		return DELEGATE.checkIf(value);
+	}
+
+	/**
+	 * Validates the state of an {@code int}
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static PrimitiveIntegerValidator checkIf(int value, String name)
+	{
+		return DELEGATE.checkIf(value, name);
+	}
+
+	/**
+	 * Validates the state of an {@code int}
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static PrimitiveIntegerValidator checkIf(int value)
+	{
+		return DELEGATE.checkIf(value);
+	}
+
+	/**
+	 * Validates the state of an {@code Integer}
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static IntegerValidator checkIf(Integer value, String name)
+	{
+		return DELEGATE.checkIf(value, name);
+	}
+
+	/**
+	 * Validates the state of an {@code Integer}
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static IntegerValidator checkIf(Integer value)
+	{
+		return DELEGATE.checkIf(value);
+	}
+
+	/**
+	 * Validates the state of a {@code long}
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
 	 *
 	 * @param value the value
 	 * @param name  the name of the value
@@ -3410,6 +3795,241 @@ public final class DefaultJavaValidators
 		return DELEGATE.checkIf(value);
 	}
 
+	/**
+	 * Validates the elements of a {@code Stream} as it is consumed.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param <E>   the type of elements in the stream
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static <E> StreamValidator<E> checkIf(Stream<E> value, String name)
+	{
+		return DELEGATE.checkIf(value, name);
+	}
+
+	/**
+	 * Validates the elements of a {@code Stream} as it is consumed.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param <E>   the type of elements in the stream
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static <E> StreamValidator<E> checkIf(Stream<E> value)
+	{
+		return DELEGATE.checkIf(value);
+	}
+
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param <T>   the type of the value
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static <T extends CharSequence> CharSequenceValidator<T> checkIf(T value, String name)
+	{
+		return DELEGATE.checkIf(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param <T>   the type of the value
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static <T extends CharSequence> CharSequenceValidator<T> checkIf(T value)
+	{
+		return DELEGATE.checkIf(value);
+	}
+
+	/**
+	 * Validates the state of a {@code StringBuilder}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static CharSequenceValidator<StringBuilder> checkIf(StringBuilder value, String name)
+	{
+		return DELEGATE.checkIf(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code StringBuilder}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static CharSequenceValidator<StringBuilder> checkIf(StringBuilder value)
+	{
+		return DELEGATE.checkIf(value);
+	}
+
+	/**
+	 * Validates the state of a {@code StringBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static CharSequenceValidator<StringBuffer> checkIf(StringBuffer value, String name)
+	{
+		return DELEGATE.checkIf(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code StringBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static CharSequenceValidator<StringBuffer> checkIf(StringBuffer value)
+	{
+		return DELEGATE.checkIf(value);
+	}
+
+	/**
+	 * Validates the state of a {@code CharBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static CharSequenceValidator<CharBuffer> checkIf(CharBuffer value, String name)
+	{
+		return DELEGATE.checkIf(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code CharBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static CharSequenceValidator<CharBuffer> checkIf(CharBuffer value)
+	{
+		return DELEGATE.checkIf(value);
+	}
+
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static ByteBufferValidator checkIf(ByteBuffer value, String name)
+	{
+		return DELEGATE.checkIf(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static ByteBufferValidator checkIf(ByteBuffer value)
+	{
+		return DELEGATE.checkIf(value);
+	}
+
+	/**
+	 * Validates the state of a {@code MemorySegment}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static MemorySegmentValidator checkIf(MemorySegment value, String name)
+	{
+		return DELEGATE.checkIf(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code MemorySegment}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static MemorySegmentValidator checkIf(MemorySegment value)
+	{
+		return DELEGATE.checkIf(value);
+	}
+
 	/**
 	 * Validates the state of an {@code InetAddress}.
 	 * <p>
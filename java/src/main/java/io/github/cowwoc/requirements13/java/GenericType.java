@@ -10,8 +10,8 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A reference to a type that may contain type parameters. Based on Neal Gafter's
@@ -31,7 +31,26 @@ import java.util.Set;
  */
 public abstract class GenericType<T>
 {
+	/**
+	 * Maps each class to its type.
+	 */
+	private static final ClassValue<GenericType<?>> CLASS_TO_TYPE = new ClassValue<>()
+	{
+		@Override
+		protected GenericType<?> computeValue(Class<?> type)
+		{
+			return new GenericType<>(type)
+			{
+			};
+		}
+	};
 	private final Type type;
+	/**
+	 * The raw types represented by this type, or {@code null} if they were not computed yet. The list is
+	 * immutable, so threads that compute it concurrently or observe it through a data race still see its
+	 * contents.
+	 */
+	private List<Class<? super T>> rawTypes;
 
 	/**
 	 * Wraps a {@code Class}.
@@ -44,9 +63,9 @@ public abstract class GenericType<T>
 	{
 		if (type == null)
 			return null;
-		return new GenericType<>(type)
-		{
-		};
+		@SuppressWarnings("unchecked")
+		GenericType<T> result = (GenericType<T>) CLASS_TO_TYPE.get(type);
+		return result;
 	}
 
 	/**
@@ -60,6 +79,12 @@ public abstract class GenericType<T>
 	{
 		if (type == null)
 			return null;
+		if (type instanceof Class<?> aClass)
+		{
+			@SuppressWarnings("unchecked")
+			GenericType<T> result = (GenericType<T>) CLASS_TO_TYPE.get(aClass);
+			return result;
+		}
 		return new GenericType<>(type)
 		{
 		};
@@ -147,39 +172,46 @@ public abstract class GenericType<T>
 			return false;
 		return switch (parent.type)
 		{
-			case TypeVariable<?> typeVariable ->
+			// Given: Parent extends X & Y & Z
+			// Return true if we are a subtype of one of the bounds.
+			case TypeVariable<?> _, ParameterizedType _, Class<?> _ ->
 			{
-				// Given: Parent extends X & Y & Z
-				// Return true if we are a subtype of one of the bounds.
-				for (Type bound : typeVariable.getBounds())
-					if (isSubtypeOf(from(bound)))
+				Class<? super T> rawType = getRawType();
+				for (Class<?> parentClass : parent.getRawTypes())
+					if (parentClass.isAssignableFrom(rawType))
 						yield true;
 				yield false;
 			}
-			case ParameterizedType parameterizedType -> isSubtypeOf(from(parameterizedType.getRawType()));
-			case Class<?> parentClass -> parentClass.isAssignableFrom(getRawType());
 			default -> throw new AssertionError(unexpectedType(parent.type));
 		};
 	}
 
 	/**
+	 * Returns the raw types represented by this type. The raw types of a type with bounds (e.g. a type
+	 * variable) are the raw types of its bounds, in order.
+	 *
 	 * @return the raw types represented by this type
 	 */
-	private Set<Class<? super T>> getRawTypes()
+	private List<Class<? super T>> getRawTypes()
 	{
-		return switch (type)
+		List<Class<? super T>> result = rawTypes;
+		if (result != null)
+			return result;
+		result = switch (type)
 		{
 			case GenericArrayType array ->
 			{
 				Type componentType = array.getGenericComponentType();
-				yield Set.of(toRawType(getClassOfArray(from(componentType).getRawType())));
+				yield List.of(toRawType(getClassOfArray(from(componentType).getRawType())));
 			}
-			case ParameterizedType pt -> Set.of(toRawType(pt.getRawType()));
+			case ParameterizedType pt -> List.of(toRawType(pt.getRawType()));
 			case TypeVariable<?> tv -> typesToRawTypes(tv.getBounds());
 			case WildcardType wildcard -> typesToRawTypes(wildcard.getUpperBounds());
-			case Class<?> theClass -> Set.of(toRawType(theClass));
+			case Class<?> theClass -> List.of(toRawType(theClass));
 			default -> throw new AssertionError(unexpectedType(type));
 		};
+		rawTypes = result;
+		return result;
 	}
 
 	/**
@@ -202,14 +234,15 @@ public abstract class GenericType<T>
 	 * Converts an array of types to their corresponding raw types.
 	 *
 	 * @param types an array of types
-	 * @return a set of the types converted to their corresponding raw types
+	 * @return the raw types of each type, in order
 	 */
-	private Set<Class<? super T>> typesToRawTypes(Type[] types)
+	private List<Class<? super T>> typesToRawTypes(Type[] types)
 	{
-		Set<Class<? super T>> classes = new HashSet<>();
+		List<Class<? super T>> classes = new ArrayList<>(types.length);
 		for (Type bound : types)
-			classes.add(toRawType(bound));
-		return classes;
+			for (Class<?> rawType : from(bound).getRawTypes())
+				classes.add(toRawType(rawType));
+		return List.copyOf(classes);
 	}
 
 	private static <T> Class<T[]> getClassOfArray(Class<T> componentType)
@@ -234,8 +267,7 @@ public abstract class GenericType<T>
 		return switch (type)
 		{
 			case GenericArrayType _ -> this.equals(from(object.getClass()));
-			case ParameterizedType parameterizedType -> from(parameterizedType.getRawType()).
-				isTypeOf(object);
+			case ParameterizedType _ -> getRawType().isInstance(object);
 			case Class<?> aClass -> aClass.isInstance(object);
 			default -> throw new AssertionError(unexpectedType(type));
 		};
@@ -261,7 +293,7 @@ public abstract class GenericType<T>
 	{
 		// Classes have a single raw type.
 		// The raw type of Types with bounds (e.g. wildcards) is equal to their first bound.
-		return getRawTypes().iterator().next();
+		return getRawTypes().getFirst();
 	}
 
 	@Override
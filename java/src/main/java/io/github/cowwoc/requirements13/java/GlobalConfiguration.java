@@ -37,4 +37,23 @@ public interface GlobalConfiguration
 	 * @throws NullPointerException if {@code encoding} is null
 	 */
 	GlobalConfiguration terminalEncoding(TerminalEncoding encoding);
+
+	/**
+	 * Returns the maximum number of threads that may be used to diff very large values.
+	 *
+	 * @return the maximum number of threads (defaults to {@code 1}, which disables parallel diffing)
+	 */
+	int diffParallelism();
+
+	/**
+	 * Sets the maximum number of threads that may be used to diff very large values.
+	 * <p>
+	 * This only affects the time it takes to generate exception messages. The messages themselves are the
+	 * same regardless of this value.
+	 *
+	 * @param parallelism the maximum number of threads ({@code 1} disables parallel diffing)
+	 * @return this
+	 * @throws IllegalArgumentException if {@code parallelism} is less than 1
+	 */
+	GlobalConfiguration diffParallelism(int parallelism);
 }
\ No newline at end of file
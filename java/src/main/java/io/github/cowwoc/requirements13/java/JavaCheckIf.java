@@ -7,7 +7,9 @@ package io.github.cowwoc.requirements13.java;
 import io.github.cowwoc.requirements13.java.validator.BigDecimalValidator;
 import io.github.cowwoc.requirements13.java.validator.BigIntegerValidator;
 import io.github.cowwoc.requirements13.java.validator.BooleanValidator;
+import io.github.cowwoc.requirements13.java.validator.ByteBufferValidator;
 import io.github.cowwoc.requirements13.java.validator.ByteValidator;
+import io.github.cowwoc.requirements13.java.validator.CharSequenceValidator;
 import io.github.cowwoc.requirements13.java.validator.CharacterValidator;
 import io.github.cowwoc.requirements13.java.validator.CollectionValidator;
 import io.github.cowwoc.requirements13.java.validator.ComparableValidator;
@@ -19,6 +21,7 @@ import io.github.cowwoc.requirements13.java.validator.IntegerValidator;
 import io.github.cowwoc.requirements13.java.validator.ListValidator;
 import io.github.cowwoc.requirements13.java.validator.LongValidator;
 import io.github.cowwoc.requirements13.java.validator.MapValidator;
+import io.github.cowwoc.requirements13.java.validator.MemorySegmentValidator;
 import io.github.cowwoc.requirements13.java.validator.ObjectArrayValidator;
 import io.github.cowwoc.requirements13.java.validator.ObjectValidator;
 import io.github.cowwoc.requirements13.java.validator.OptionalValidator;
@@ -40,18 +43,23 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveLongValidator;
 import io.github.cowwoc.requirements13.java.validator.PrimitiveShortArrayValidator;
 import io.github.cowwoc.requirements13.java.validator.PrimitiveShortValidator;
 import io.github.cowwoc.requirements13.java.validator.ShortValidator;
+import io.github.cowwoc.requirements13.java.validator.StreamValidator;
 import io.github.cowwoc.requirements13.java.validator.StringValidator;
 import io.github.cowwoc.requirements13.java.validator.UriValidator;
 
+import java.lang.foreign.MemorySegment;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Creates validators for the Java API that capture exceptions on validation failure rather than throwing them
@@ -1117,6 +1125,199 @@ public interface JavaCheckIf
 	@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
 	<T> OptionalValidator<T> checkIf(Optional<T> value);
 
+	/**
+	 * Validates the elements of a {@code Stream} as it is consumed.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param <E>   the type of elements in the stream
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	<E> StreamValidator<E> checkIf(Stream<E> value, String name);
+
+	/**
+	 * Validates the elements of a {@code Stream} as it is consumed.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param <E>   the type of elements in the stream
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	<E> StreamValidator<E> checkIf(Stream<E> value);
+
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param <T>   the type of the value
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	<T extends CharSequence> CharSequenceValidator<T> checkIf(T value, String name);
+
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param <T>   the type of the value
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	<T extends CharSequence> CharSequenceValidator<T> checkIf(T value);
+
+	/**
+	 * Validates the state of a {@code StringBuilder}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	CharSequenceValidator<StringBuilder> checkIf(StringBuilder value, String name);
+
+	/**
+	 * Validates the state of a {@code StringBuilder}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	CharSequenceValidator<StringBuilder> checkIf(StringBuilder value);
+
+	/**
+	 * Validates the state of a {@code StringBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	CharSequenceValidator<StringBuffer> checkIf(StringBuffer value, String name);
+
+	/**
+	 * Validates the state of a {@code StringBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	CharSequenceValidator<StringBuffer> checkIf(StringBuffer value);
+
+	/**
+	 * Validates the state of a {@code CharBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	CharSequenceValidator<CharBuffer> checkIf(CharBuffer value, String name);
+
+	/**
+	 * Validates the state of a {@code CharBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	CharSequenceValidator<CharBuffer> checkIf(CharBuffer value);
+
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	ByteBufferValidator checkIf(ByteBuffer value, String name);
+
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	ByteBufferValidator checkIf(ByteBuffer value);
+
+	/**
+	 * Validates the state of a {@code MemorySegment}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	MemorySegmentValidator checkIf(MemorySegment value, String name);
+
+	/**
+	 * Validates the state of a {@code MemorySegment}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	MemorySegmentValidator checkIf(MemorySegment value);
+
 	/**
 	 * Validates the state of an {@code InetAddress}.
 	 * <p>
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java;
+
+import io.github.cowwoc.requirements13.java.internal.util.BloomFilter;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * An immutable set that is built once and then used to validate many values, such as an allow-list or
+ * deny-list of identifiers.
+ * <p>
+ * Validators that compare a value to a set look up the value's elements in the set instead of copying it, so
+ * each check costs one lookup per element of the value, regardless of the size of the set. A
+ * {@code ReferenceSet} may optionally be fronted by a Bloom filter, which rejects most elements that are
+ * absent without touching the (much larger) hash index. This speeds up checks such as
+ * {@code doesNotContainAny()}, where most lookups miss.
+ * <p>
+ * Instances are thread-safe and may be shared across validators.
+ * <p>
+ * Sample usage:
+ * {@snippet :
+ * ReferenceSet<String> denyList = ReferenceSet.withBloomFilter(loadDenyList(), 0.01);
+ * requireThat(incomingIds, "incomingIds").doesNotContainAny(denyList, "denyList");
+ *}
+ *
+ * @param <E> the type of elements in the set
+ */
+public final class ReferenceSet<E> extends AbstractSet<E>
+{
+	private final Set<E> elements;
+	/**
+	 * A filter that rejects most absent elements, or {@code null} if lookups go straight to
+	 * {@code elements}.
+	 */
+	private final BloomFilter filter;
+
+	/**
+	 * @param elements the elements of the set
+	 * @param filter   a filter that rejects most absent elements, or {@code null} to look up elements directly
+	 */
+	private ReferenceSet(Set<E> elements, BloomFilter filter)
+	{
+		this.elements = elements;
+		this.filter = filter;
+	}
+
+	/**
+	 * Creates a set that is backed by a hash index.
+	 *
+	 * @param <E>      the type of elements in the set
+	 * @param elements the elements of the set ({@code null} elements are allowed)
+	 * @return a set containing the distinct elements
+	 * @throws NullPointerException if {@code elements} is null
+	 */
+	public static <E> ReferenceSet<E> of(Collection<? extends E> elements)
+	{
+		if (elements == null)
+			throw new NullPointerException("elements may not be null");
+		return new ReferenceSet<>(new HashSet<>(elements), null);
+	}
+
+	/**
+	 * Creates a set that is backed by a hash index, fronted by a Bloom filter.
+	 * <p>
+	 * Use this method if the set is large, and most lookups are expected to miss. The filter never causes an
+	 * element to be reported as present when it is not; {@code falsePositiveProbability} only determines how
+	 * often an absent element goes on to be looked up in the hash index.
+	 *
+	 * @param <E>                      the type of elements in the set
+	 * @param elements                 the elements of the set ({@code null} elements are allowed)
+	 * @param falsePositiveProbability the probability that the filter fails to reject an absent element, such
+	 *                                 as {@code 0.01}. Lower values consume more memory.
+	 * @return a set containing the distinct elements
+	 * @throws NullPointerException     if {@code elements} is null
+	 * @throws IllegalArgumentException if {@code falsePositiveProbability} is not between 0 and 1 (exclusive)
+	 */
+	public static <E> ReferenceSet<E> withBloomFilter(Collection<? extends E> elements,
+		double falsePositiveProbability)
+	{
+		if (elements == null)
+			throw new NullPointerException("elements may not be null");
+		if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1))
+		{
+			throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1 (exclusive).\n" +
+				"actual: " + falsePositiveProbability);
+		}
+		Set<E> index = new HashSet<>(elements);
+		BloomFilter filter = BloomFilter.of(index.size(), falsePositiveProbability);
+		for (E element : index)
+			filter.add(element);
+		return new ReferenceSet<>(index, filter);
+	}
+
+	@Override
+	public boolean contains(Object o)
+	{
+		if (filter != null && !filter.mightContain(o))
+			return false;
+		return elements.contains(o);
+	}
+
+	@Override
+	public int size()
+	{
+		return elements.size();
+	}
+
+	@Override
+	public Iterator<E> iterator()
+	{
+		return Collections.unmodifiableSet(elements).iterator();
+	}
+}
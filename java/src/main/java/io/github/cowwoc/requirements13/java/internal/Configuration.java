@@ -24,6 +24,7 @@ public final class Configuration
 	private final boolean recordStacktrace;
 	private final boolean throwOnFailure;
 	private final Function<Throwable, ? extends Throwable> exceptionTransformer;
+	private final int parallelThreshold;
 
 	/**
 	 * Creates a new configuration that:
@@ -35,6 +36,7 @@ public final class Configuration
 	 * <li>Excludes this library from exception stack traces.</li>
 	 * <li>Record a stack trace when a failure occurs.</li>
 	 * <li>May include a diff that compares the actual and expected values.</li>
+	 * <li>Validates elements sequentially.</li>
 	 * </ul>
 	 */
 	public Configuration()
@@ -46,6 +48,7 @@ public final class Configuration
 		this.recordStacktrace = true;
 		this.exceptionTransformer = t -> t;
 		this.stringMappers = StringMappers.DEFAULT;
+		this.parallelThreshold = Integer.MAX_VALUE;
 	}
 
 	/**
@@ -66,10 +69,14 @@ public final class Configuration
 	 * @param throwOnFailure       {@code true} if an exception is thrown on validation failure
 	 * @param exceptionTransformer a function that transforms the validation exception before it is thrown or
 	 *                             returned
+	 * @param parallelThreshold    the minimum number of elements that a collection or array must contain
+	 *                             before its elements are validated in parallel
+	 * @throws NullPointerException     if any of the arguments are null
+	 * @throws IllegalArgumentException if {@code parallelThreshold} is negative
 	 */
 	public Configuration(boolean cleanStackTrace, boolean allowDiff, EqualityMethod equalityMethod,
 		StringMappers stringMappers, boolean recordStacktrace, boolean throwOnFailure,
-		Function<Throwable, ? extends Throwable> exceptionTransformer)
+		Function<Throwable, ? extends Throwable> exceptionTransformer, int parallelThreshold)
 	{
 		if (equalityMethod == null)
 			throw new NullPointerException("equityMethod may not be null");
@@ -77,6 +84,8 @@ public final class Configuration
 			throw new NullPointerException("stringMappers may not be null");
 		if (exceptionTransformer == null)
 			throw new NullPointerException("exceptionTransformer  may not be null");
+		if (parallelThreshold < 0)
+			throw new IllegalArgumentException("parallelThreshold may not be negative: " + parallelThreshold);
 		this.cleanStackTrace = cleanStackTrace;
 		this.allowDiff = allowDiff;
 		this.equalityMethod = equalityMethod;
@@ -84,6 +93,7 @@ public final class Configuration
 		this.recordStacktrace = recordStacktrace;
 		this.throwOnFailure = throwOnFailure;
 		this.exceptionTransformer = exceptionTransformer;
+		this.parallelThreshold = parallelThreshold;
 	}
 
 	/**
@@ -168,6 +178,18 @@ public final class Configuration
 		return exceptionTransformer;
 	}
 
+	/**
+	 * Returns the minimum number of elements that a collection or array must contain before its elements are
+	 * validated in parallel. Parallel validation only affects performance: validators fail under the same
+	 * conditions and report the same failure messages regardless of this setting.
+	 *
+	 * @return {@code Integer.MAX_VALUE} by default, which disables parallel validation
+	 */
+	public int parallelThreshold()
+	{
+		return parallelThreshold;
+	}
+
 	@Override
 	public int hashCode()
 	{
@@ -178,7 +200,8 @@ public final class Configuration
 		hash = 23 * hash + stringMappers.hashCode();
 		hash = 23 * hash + Boolean.hashCode(recordStacktrace);
 		hash = 23 * hash + Boolean.hashCode(throwOnFailure);
-		return 23 * hash + exceptionTransformer.hashCode();
+		hash = 23 * hash + exceptionTransformer.hashCode();
+		return 23 * hash + parallelThreshold;
 	}
 
 	@Override
@@ -191,7 +214,7 @@ public final class Configuration
 		return other.cleanStackTrace == cleanStackTrace && other.allowDiff == allowDiff &&
 			other.equalityMethod == equalityMethod && other.stringMappers.equals(stringMappers) &&
 			other.recordStacktrace == recordStacktrace() && other.throwOnFailure == throwOnFailure &&
-			other.exceptionTransformer == exceptionTransformer;
+			other.exceptionTransformer == exceptionTransformer && other.parallelThreshold == parallelThreshold;
 	}
 
 	@Override
@@ -200,6 +223,6 @@ public final class Configuration
 		return "cleanStackTrace: " + cleanStackTrace + ", allowDiff: " + allowDiff +
 			", equalityMethod: " + equalityMethod + ", stringMappers: " + stringMappers +
 			", recordStacktrace: " + recordStacktrace + ", throwOnFailure:" + throwOnFailure +
-			", exceptionTransformer: " + exceptionTransformer;
+			", exceptionTransformer: " + exceptionTransformer + ", parallelThreshold: " + parallelThreshold;
 	}
 }
\ No newline at end of file
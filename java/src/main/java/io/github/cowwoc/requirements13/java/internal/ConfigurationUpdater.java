@@ -122,6 +122,30 @@ public interface ConfigurationUpdater extends AutoCloseable
 	 */
 	ConfigurationUpdater exceptionTransformer(Function<Throwable, ? extends Throwable> transformer);
 
+	/**
+	 * Returns the minimum number of elements that a collection or array must contain before its elements are
+	 * validated in parallel. Parallel validation only affects performance: validators fail under the same
+	 * conditions and report the same failure messages regardless of this setting.
+	 *
+	 * @return {@code Integer.MAX_VALUE} by default, which disables parallel validation
+	 */
+	@CheckReturnValue
+	int parallelThreshold();
+
+	/**
+	 * Sets the minimum number of elements that a collection or array must contain before its elements are
+	 * validated in parallel. Parallel validation runs on {@code ForkJoinPool.commonPool()}, so any comparators,
+	 * {@code equals()} or {@code hashCode()} methods that it invokes must be thread-safe. Parallel validation
+	 * only affects performance: validators fail under the same conditions and report the same failure messages
+	 * regardless of this setting.
+	 *
+	 * @param parallelThreshold the minimum number of elements, or {@code Integer.MAX_VALUE} to disable
+	 *                          parallel validation
+	 * @return this
+	 * @throws IllegalArgumentException if {@code parallelThreshold} is negative
+	 */
+	ConfigurationUpdater parallelThreshold(int parallelThreshold);
+
 	/**
 	 * Applies the changes to the configuration.
 	 */
@@ -8,6 +8,7 @@ import io.github.cowwoc.requirements13.annotation.CheckReturnValue;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -16,16 +17,26 @@ import java.util.Optional;
 public final class MutableStringMappers
 {
 	private final Map<Optional<Class<?>>, StringMapper> typeToMapper;
+	private int maximumElements;
+	private int maximumStringLength;
+	private int maximumDepth;
 
 	/**
 	 * Creates a copy of an existing instance.
 	 *
-	 * @param typeToMapper a map from a type to a function that returns its String representation
+	 * @param typeToMapper        a map from a type to a function that returns its String representation
+	 * @param maximumElements     the maximum number of elements to render per array, collection or map
+	 * @param maximumStringLength the maximum number of characters to render per {@code String}
+	 * @param maximumDepth        the maximum number of arrays, collections or maps that may enclose each other
 	 * @throws NullPointerException if {@code typeToMapper} is null
 	 */
-	private MutableStringMappers(Map<Optional<Class<?>>, StringMapper> typeToMapper)
+	private MutableStringMappers(Map<Optional<Class<?>>, StringMapper> typeToMapper, int maximumElements,
+		int maximumStringLength, int maximumDepth)
 	{
 		this.typeToMapper = new HashMap<>(typeToMapper);
+		this.maximumElements = maximumElements;
+		this.maximumStringLength = maximumStringLength;
+		this.maximumDepth = maximumDepth;
 	}
 
 	/**
@@ -37,7 +48,8 @@ public final class MutableStringMappers
 	@CheckReturnValue
 	public static MutableStringMappers from(StringMappers mappers)
 	{
-		return new MutableStringMappers(mappers.typeToMapper);
+		return new MutableStringMappers(mappers.typeToMapper, mappers.maximumElements,
+			mappers.maximumStringLength, mappers.maximumDepth);
 	}
 
 	/**
@@ -48,7 +60,7 @@ public final class MutableStringMappers
 	@CheckReturnValue
 	public StringMappers toImmutable()
 	{
-		return new StringMappers(typeToMapper);
+		return new StringMappers(typeToMapper, maximumElements, maximumStringLength, maximumDepth);
 	}
 
 	/**
@@ -92,21 +104,111 @@ public final class MutableStringMappers
 		return this;
 	}
 
+	/**
+	 * Returns the maximum number of elements to render per array, collection or map. Any remaining elements
+	 * are summarized, e.g. {@code [1, 2, 3, ... 999,997 more]}. By default, all elements are rendered.
+	 *
+	 * @return the maximum number of elements
+	 */
+	public int maximumElements()
+	{
+		return maximumElements;
+	}
+
+	/**
+	 * Sets the maximum number of elements to render per array, collection or map. Any remaining elements are
+	 * summarized, e.g. {@code [1, 2, 3, ... 999,997 more]}.
+	 *
+	 * @param maximumElements the maximum number of elements, or {@link StringMappers#UNLIMITED} to render all
+	 *                        of them
+	 * @return this
+	 * @throws IllegalArgumentException if {@code maximumElements} is negative
+	 */
+	public MutableStringMappers maximumElements(int maximumElements)
+	{
+		if (maximumElements < 0)
+			throw new IllegalArgumentException("maximumElements may not be negative: " + maximumElements);
+		this.maximumElements = maximumElements;
+		return this;
+	}
+
+	/**
+	 * Returns the maximum number of characters to render per {@code String}. By default, all characters are
+	 * rendered.
+	 *
+	 * @return the maximum number of characters
+	 */
+	public int maximumStringLength()
+	{
+		return maximumStringLength;
+	}
+
+	/**
+	 * Sets the maximum number of characters to render per {@code String}. Any remaining characters are
+	 * summarized, e.g. {@code "abc"... 1,000 more characters}.
+	 *
+	 * @param maximumStringLength the maximum number of characters, or {@link StringMappers#UNLIMITED} to render
+	 *                            all of them
+	 * @return this
+	 * @throws IllegalArgumentException if {@code maximumStringLength} is negative
+	 */
+	public MutableStringMappers maximumStringLength(int maximumStringLength)
+	{
+		if (maximumStringLength < 0)
+		{
+			throw new IllegalArgumentException("maximumStringLength may not be negative: " +
+				maximumStringLength);
+		}
+		this.maximumStringLength = maximumStringLength;
+		return this;
+	}
+
+	/**
+	 * Returns the maximum number of arrays, collections or maps that may enclose each other. By default, the
+	 * depth is unlimited.
+	 *
+	 * @return the maximum depth
+	 */
+	public int maximumDepth()
+	{
+		return maximumDepth;
+	}
+
+	/**
+	 * Sets the maximum number of arrays, collections or maps that may enclose each other. Containers that are
+	 * nested any deeper are rendered as {@code [...]} or <code>{...}</code>.
+	 *
+	 * @param maximumDepth the maximum depth, or {@link StringMappers#UNLIMITED} to render containers at any
+	 *                     depth
+	 * @return this
+	 * @throws IllegalArgumentException if {@code maximumDepth} is negative
+	 */
+	public MutableStringMappers maximumDepth(int maximumDepth)
+	{
+		if (maximumDepth < 0)
+			throw new IllegalArgumentException("maximumDepth may not be negative: " + maximumDepth);
+		this.maximumDepth = maximumDepth;
+		return this;
+	}
+
 	@Override
 	public int hashCode()
 	{
-		return typeToMapper.hashCode();
+		return Objects.hash(typeToMapper, maximumElements, maximumStringLength, maximumDepth);
 	}
 
 	@Override
 	public boolean equals(Object o)
 	{
-		return o instanceof MutableStringMappers other && other.typeToMapper.equals(typeToMapper);
+		return o instanceof MutableStringMappers other && other.typeToMapper.equals(typeToMapper) &&
+			other.maximumElements == maximumElements && other.maximumStringLength == maximumStringLength &&
+			other.maximumDepth == maximumDepth;
 	}
 
 	@Override
 	public String toString()
 	{
-		return typeToMapper.toString();
+		return "typeToMapper: " + typeToMapper + ", maximumElements: " + maximumElements +
+			", maximumStringLength: " + maximumStringLength + ", maximumDepth: " + maximumDepth;
 	}
 }
\ No newline at end of file
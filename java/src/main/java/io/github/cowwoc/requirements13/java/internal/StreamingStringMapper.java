@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal;
+
+import java.util.Set;
+
+/**
+ * A {@code StringMapper} that appends the String representation of an object to a caller-supplied buffer.
+ */
+@FunctionalInterface
+public interface StreamingStringMapper extends StringMapper
+{
+	@Override
+	void appendTo(StringBuilder buffer, Object value, Set<Object> seen);
+
+	@Override
+	default String apply(Object value, Set<Object> seen)
+	{
+		StringBuilder buffer = new StringBuilder();
+		appendTo(buffer, value, seen);
+		return buffer.toString();
+	}
+}
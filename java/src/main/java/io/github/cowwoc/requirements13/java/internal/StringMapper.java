@@ -16,8 +16,24 @@ public interface StringMapper
 	 * Returns the String representation of a value.
 	 *
 	 * @param value a value
-	 * @param seen  the objects that we've seen before
+	 * @param seen  the containers that enclose the value, compared by identity
 	 * @return the String representation of the value
 	 */
 	String apply(Object value, Set<Object> seen);
-}
\ No newline at end of file
+
+	/**
+	 * Appends the String representation of a value to a buffer.
+	 * <p>
+	 * By default, this method appends the value returned by {@link #apply(Object, Set)}. Mappers that render
+	 * nested values should implement {@link StreamingStringMapper} instead, to avoid creating a temporary
+	 * {@code String} per value.
+	 *
+	 * @param buffer the buffer to append to
+	 * @param value  a value
+	 * @param seen   the containers that enclose the value, compared by identity
+	 */
+	default void appendTo(StringBuilder buffer, Object value, Set<Object> seen)
+	{
+		buffer.append(apply(value, seen));
+	}
+}
@@ -4,116 +4,327 @@
  */
 package io.github.cowwoc.requirements13.java.internal;
 
+import io.github.cowwoc.requirements13.java.internal.util.GroupingFormatter;
+
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
-import java.util.StringJoiner;
-import java.util.TreeMap;
 
 /**
  * Returns the string representation of an object, which can be used to reference it in exception messages.
+ * <p>
+ * The output may be bounded by limiting the number of elements rendered per array, collection or map, the
+ * number of characters rendered per {@code String} and the nesting depth of containers. Values that exceed
+ * a limit are summarized (e.g. {@code [1, 2, 3, ... 999,997 more]}) without visiting the omitted elements.
  */
+// RenderingContext implements Set so that it can be passed to StringMapper, but it is not a general-purpose
+// collection.
+@SuppressWarnings("PMD.LooseCoupling")
 public final class StringMappers
 {
+	/**
+	 * The value of a limit that does not restrict the output.
+	 */
+	public static final int UNLIMITED = Integer.MAX_VALUE;
+	/**
+	 * Sorts values by their natural order. Throws {@code ClassCastException} if the values are {@code null} or
+	 * are not comparable to each other.
+	 */
+	@SuppressWarnings("unchecked")
+	private static final Comparator<Object> NATURAL_ORDER = (first, second) ->
+	{
+		// null does not have a natural order
+		if (first == null || second == null)
+			throw new ClassCastException("null is not comparable");
+		return ((Comparable<Object>) first).compareTo(second);
+	};
+	/**
+	 * Sorts map entries by the natural order of their keys.
+	 */
+	private static final Comparator<Entry<?, ?>> KEY_ORDER = (first, second) ->
+		NATURAL_ORDER.compare(first.getKey(), second.getKey());
+	/**
+	 * The mapper used by arrays of primitive types.
+	 */
+	private static final StreamingStringMapper PRIMITIVE_ARRAY = StringMappers::appendPrimitiveArray;
 	/**
 	 * The default mapper configuration.
 	 */
 	public static final StringMappers DEFAULT = new StringMappers();
+	/**
+	 * The mapper used by types that do not have a mapping.
+	 */
+	private static final StringMapper STRING_VALUE_OF = (value, seen) -> String.valueOf(value);
 	final Map<Optional<Class<?>>, StringMapper> typeToMapper;
+	/**
+	 * The maximum number of elements to render per array, collection or map.
+	 */
+	final int maximumElements;
+	/**
+	 * The maximum number of characters to render per {@code String}.
+	 */
+	final int maximumStringLength;
+	/**
+	 * The maximum number of arrays, collections or maps that may enclose each other.
+	 */
+	final int maximumDepth;
+	/**
+	 * Caches the key of {@code typeToMapper} that each type resolves to, or {@code Optional.empty()} if the
+	 * type does not have a mapping.
+	 * <p>
+	 * Keys are cached instead of mappers because mappers may reference this object, and a {@code ClassValue}
+	 * whose values reference it cannot be garbage-collected.
+	 */
+	private final ClassValue<Optional<Class<?>>> typeToMappedType;
 
 	/**
 	 * Creates a new instance using the default mappings.
 	 */
 	StringMappers()
 	{
-		typeToMapper = HashMap.newHashMap(23);
+		typeToMapper = HashMap.newHashMap(24);
 		typeToMapper.put(Optional.of(boolean.class), (value, seen) -> String.format("%b", value));
-		typeToMapper.put(Optional.of(byte.class), (value, seen) -> String.format("%,d", (byte) value));
-		typeToMapper.put(Optional.of(short.class), (value, seen) -> String.format("%,d", (short) value));
-		typeToMapper.put(Optional.of(int.class), (value, seen) -> String.format("%,d", (int) value));
-		typeToMapper.put(Optional.of(long.class), (value, seen) -> String.format("%,d", (long) value));
-		typeToMapper.put(Optional.of(float.class), (value, seen) -> String.format("%,f", (float) value));
-		typeToMapper.put(Optional.of(double.class), (value, seen) -> String.format("%,f", (double) value));
-		typeToMapper.put(Optional.of(boolean[].class), (value, seen) -> Arrays.toString((boolean[]) value));
-		typeToMapper.put(Optional.of(byte[].class), (value, seen) -> Arrays.toString((byte[]) value));
-		typeToMapper.put(Optional.of(char[].class), (value, seen) -> Arrays.toString((char[]) value));
-		typeToMapper.put(Optional.of(short[].class), (value, seen) -> Arrays.toString((short[]) value));
-		typeToMapper.put(Optional.of(int[].class), (value, seen) -> Arrays.toString((int[]) value));
-		typeToMapper.put(Optional.of(long[].class), (value, seen) -> Arrays.toString((long[]) value));
-		typeToMapper.put(Optional.of(float[].class), (value, seen) -> Arrays.toString((float[]) value));
-		typeToMapper.put(Optional.of(double[].class), (value, seen) -> Arrays.toString((double[]) value));
-		typeToMapper.put(Optional.of(Object[].class), (value, seen) -> arrayToString((Object[]) value, seen));
+		typeToMapper.put(Optional.of(byte.class), (StreamingStringMapper) (buffer, value, seen) ->
+			GroupingFormatter.appendTo(buffer, (byte) value));
+		typeToMapper.put(Optional.of(short.class), (StreamingStringMapper) (buffer, value, seen) ->
+			GroupingFormatter.appendTo(buffer, (short) value));
+		typeToMapper.put(Optional.of(int.class), (StreamingStringMapper) (buffer, value, seen) ->
+			GroupingFormatter.appendTo(buffer, (int) value));
+		typeToMapper.put(Optional.of(long.class), (StreamingStringMapper) (buffer, value, seen) ->
+			GroupingFormatter.appendTo(buffer, (long) value));
+		typeToMapper.put(Optional.of(float.class), (StreamingStringMapper) (buffer, value, seen) ->
+			GroupingFormatter.appendTo(buffer, (float) value));
+		typeToMapper.put(Optional.of(double.class), (StreamingStringMapper) (buffer, value, seen) ->
+			GroupingFormatter.appendTo(buffer, (double) value));
+		typeToMapper.put(Optional.of(boolean[].class), new BoundMapper(PRIMITIVE_ARRAY, this));
+		typeToMapper.put(Optional.of(byte[].class), new BoundMapper(PRIMITIVE_ARRAY, this));
+		typeToMapper.put(Optional.of(char[].class), new BoundMapper(PRIMITIVE_ARRAY, this));
+		typeToMapper.put(Optional.of(short[].class), new BoundMapper(PRIMITIVE_ARRAY, this));
+		typeToMapper.put(Optional.of(int[].class), new BoundMapper(PRIMITIVE_ARRAY, this));
+		typeToMapper.put(Optional.of(long[].class), new BoundMapper(PRIMITIVE_ARRAY, this));
+		typeToMapper.put(Optional.of(float[].class), new BoundMapper(PRIMITIVE_ARRAY, this));
+		typeToMapper.put(Optional.of(double[].class), new BoundMapper(PRIMITIVE_ARRAY, this));
+		typeToMapper.put(Optional.of(ByteBuffer.class), new BoundMapper(StringMappers::appendByteBuffer, this));
+		typeToMapper.put(Optional.of(Object[].class), new BoundMapper((buffer, value, seen) ->
+			appendArray(buffer, (Object[]) value, seen), this));
 		typeToMapper.put(Optional.of(BigDecimal.class), (value, seen) -> ((BigDecimal) value).toPlainString());
 		typeToMapper.put(Optional.of(Path.class), (value, seen) -> ((Path) value).toAbsolutePath().toString());
-		typeToMapper.put(Optional.of(String.class), (value, seen) -> quoteString((String) value));
-		typeToMapper.put(Optional.of(List.class), this::listToString);
-		typeToMapper.put(Optional.of(Set.class), this::setToString);
-		typeToMapper.put(Optional.of(Map.class), this::mapToString);
+		typeToMapper.put(Optional.of(String.class), new BoundMapper(StringMappers::appendString, this));
+		typeToMapper.put(Optional.of(List.class), new BoundMapper(StringMappers::appendList, this));
+		typeToMapper.put(Optional.of(Set.class), new BoundMapper(StringMappers::appendSet, this));
+		typeToMapper.put(Optional.of(Map.class), new BoundMapper(StringMappers::appendMap, this));
 		typeToMapper.put(Optional.of(Throwable.class), (value, seen) -> throwableToString(value));
+		this.typeToMappedType = new MappedTypes(typeToMapper);
+		this.maximumElements = UNLIMITED;
+		this.maximumStringLength = UNLIMITED;
+		this.maximumDepth = UNLIMITED;
 	}
 
 	/**
 	 * Creates a new instance.
 	 *
+	 * @param typeToMapper        a mapping from each class to a function that the String representation of
+	 *                            its objects
+	 * @param maximumElements     the maximum number of elements to render per array, collection or map
+	 * @param maximumStringLength the maximum number of characters to render per {@code String}
+	 * @param maximumDepth        the maximum number of arrays, collections or maps that may enclose each other
+	 * @throws NullPointerException if {@code typeToMapper} is null
+	 * @throws AssertionError       if any of the limits are negative
+	 */
+	StringMappers(Map<Optional<Class<?>>, StringMapper> typeToMapper, int maximumElements,
+		int maximumStringLength, int maximumDepth)
+	{
+		assert maximumElements >= 0 : "maximumElements: " + maximumElements;
+		assert maximumStringLength >= 0 : "maximumStringLength: " + maximumStringLength;
+		assert maximumDepth >= 0 : "maximumDepth: " + maximumDepth;
+		this.typeToMapper = bindTo(typeToMapper, this);
+		this.typeToMappedType = new MappedTypes(this.typeToMapper);
+		this.maximumElements = maximumElements;
+		this.maximumStringLength = maximumStringLength;
+		this.maximumDepth = maximumDepth;
+	}
+
+	/**
+	 * Returns a copy of the mappers, with the built-in mappers bound to a new owner.
+	 *
 	 * @param typeToMapper a mapping from each class to a function that the String representation of its
 	 *                     objects
-	 * @throws NullPointerException if {@code typeToMapper} is null
+	 * @param owner        the instance that the mappers belong to
+	 * @return an immutable copy of the mappers
 	 */
-	StringMappers(Map<Optional<Class<?>>, StringMapper> typeToMapper)
+	private static Map<Optional<Class<?>>, StringMapper> bindTo(
+		Map<Optional<Class<?>>, StringMapper> typeToMapper, StringMappers owner)
 	{
-		this.typeToMapper = Map.copyOf(typeToMapper);
+		Map<Optional<Class<?>>, StringMapper> result = HashMap.newHashMap(typeToMapper.size());
+		for (Entry<Optional<Class<?>>, StringMapper> entry : typeToMapper.entrySet())
+		{
+			StringMapper mapper = entry.getValue();
+			if (mapper instanceof BoundMapper bound)
+				mapper = new BoundMapper(bound.mapper, owner);
+			result.put(entry.getKey(), mapper);
+		}
+		return Map.copyOf(result);
 	}
 
 	/**
-	 * @param array an array
-	 * @param seen  the objects that we've seen before
-	 * @return the "deep" String representation of the array
+	 * Returns the state of the current rendering operation.
+	 *
+	 * @param seen the containers that enclose the value being rendered
+	 * @return the state of the rendering operation
 	 */
-	private String arrayToString(Object[] array, Set<Object> seen)
+	private static RenderingContext getContext(Set<Object> seen)
 	{
-		// We cannot use Arrays.deepToString(array) because it does not delegate to StringMappers.toString()
-		StringJoiner joiner = new StringJoiner(", ", "[", "]");
-		for (Object element : array)
+		// BoundMapper passes a RenderingContext to the built-in mappers
+		return (RenderingContext) seen;
+	}
+
+	/**
+	 * Appends a summary of the elements that were omitted from a container.
+	 *
+	 * @param buffer    the buffer to append to
+	 * @param remaining the number of elements that were omitted
+	 * @param first     {@code true} if no elements were rendered
+	 */
+	private static void appendRemaining(StringBuilder buffer, int remaining, boolean first)
+	{
+		if (!first)
+			buffer.append(", ");
+		buffer.append("... ");
+		GroupingFormatter.appendTo(buffer, remaining);
+		buffer.append(" more");
+	}
+
+	/**
+	 * Appends the String representation of an array of primitive types.
+	 *
+	 * @param buffer the buffer to append to
+	 * @param array  an array of primitive types
+	 * @param seen   the containers that enclose the array
+	 */
+	private static void appendPrimitiveArray(StringBuilder buffer, Object array, Set<Object> seen)
+	{
+		RenderingContext context = getContext(seen);
+		if (context.depth >= context.mappers.maximumDepth)
 		{
-			if (element != null && element.getClass().isArray())
+			buffer.append("[...]");
+			return;
+		}
+		int length = Array.getLength(array);
+		int count = Math.min(length, context.mappers.maximumElements);
+		if (count == length)
+		{
+			buffer.append(switch (array)
 			{
-				if (seen.add(element))
-				{
-					switch (element)
-					{
-						case Object o when o.getClass() == byte[].class -> joiner.add(toString(element, seen));
-						case Object o when o.getClass() == short[].class -> joiner.add(toString(element, seen));
-						case Object o when o.getClass() == int[].class -> joiner.add(toString(element, seen));
-						case Object o when o.getClass() == long[].class -> joiner.add(toString(element, seen));
-						case Object o when o.getClass() == float[].class -> joiner.add(toString(element, seen));
-						case Object o when o.getClass() == double[].class -> joiner.add(toString(element, seen));
-						case Object o when o.getClass() == boolean[].class -> joiner.add(toString(element, seen));
-						case Object o when o.getClass() == char[].class -> joiner.add(toString(element, seen));
-						default -> joiner.add(arrayToString((Object[]) element, seen));
-					}
-				}
-				else
-					joiner.add("...");
-			}
-			else
-				joiner.add(toString(element, seen));
+				case boolean[] values -> Arrays.toString(values);
+				case byte[] values -> Arrays.toString(values);
+				case char[] values -> Arrays.toString(values);
+				case short[] values -> Arrays.toString(values);
+				case int[] values -> Arrays.toString(values);
+				case long[] values -> Arrays.toString(values);
+				case float[] values -> Arrays.toString(values);
+				case double[] values -> Arrays.toString(values);
+				default -> throw new AssertionError(array.getClass().getName());
+			});
+			return;
+		}
+		// Only copy the elements that will be rendered
+		String elements = switch (array)
+		{
+			case boolean[] values -> Arrays.toString(Arrays.copyOf(values, count));
+			case byte[] values -> Arrays.toString(Arrays.copyOf(values, count));
+			case char[] values -> Arrays.toString(Arrays.copyOf(values, count));
+			case short[] values -> Arrays.toString(Arrays.copyOf(values, count));
+			case int[] values -> Arrays.toString(Arrays.copyOf(values, count));
+			case long[] values -> Arrays.toString(Arrays.copyOf(values, count));
+			case float[] values -> Arrays.toString(Arrays.copyOf(values, count));
+			case double[] values -> Arrays.toString(Arrays.copyOf(values, count));
+			default -> throw new AssertionError(array.getClass().getName());
+		};
+		// Omit the closing bracket
+		buffer.append(elements, 0, elements.length() - 1);
+		appendRemaining(buffer, length - count, count == 0);
+		buffer.append(']');
+	}
+
+	/**
+	 * Appends the bytes between a buffer's position and limit, as if they were a {@code byte[]}.
+	 *
+	 * @param buffer the buffer to append to
+	 * @param object a {@code ByteBuffer}
+	 * @param seen   the containers that enclose the buffer
+	 */
+	private static void appendByteBuffer(StringBuilder buffer, Object object, Set<Object> seen)
+	{
+		RenderingContext context = getContext(seen);
+		if (context.depth >= context.mappers.maximumDepth)
+		{
+			buffer.append("[...]");
+			return;
 		}
-		return joiner.toString();
+		ByteBuffer value = (ByteBuffer) object;
+		int length = value.remaining();
+		int count = Math.min(length, context.mappers.maximumElements);
+		// Only copy the bytes that will be rendered, without modifying the buffer's position
+		byte[] bytes = new byte[count];
+		value.get(value.position(), bytes);
+		String elements = Arrays.toString(bytes);
+		if (count == length)
+		{
+			buffer.append(elements);
+			return;
+		}
+		// Omit the closing bracket
+		buffer.append(elements, 0, elements.length() - 1);
+		appendRemaining(buffer, length - count, count == 0);
+		buffer.append(']');
+	}
+
+	/**
+	 * Appends the "deep" String representation of an array.
+	 *
+	 * @param buffer the buffer to append to
+	 * @param array  an array
+	 * @param seen   the containers that enclose the array
+	 */
+	private static void appendArray(StringBuilder buffer, Object[] array, Set<Object> seen)
+	{
+		RenderingContext context = getContext(seen);
+		if (!context.enter(buffer, array, "[...]"))
+			return;
+		// We cannot use Arrays.deepToString(array) because it does not delegate to StringMappers.toString()
+		buffer.append('[');
+		int count = Math.min(array.length, context.mappers.maximumElements);
+		for (int i = 0; i < count; ++i)
+		{
+			if (i > 0)
+				buffer.append(", ");
+			context.appendTo(buffer, array[i]);
+		}
+		if (count < array.length)
+			appendRemaining(buffer, array.length - count, count == 0);
+		buffer.append(']');
+		context.exit(array);
 	}
 
 	/**
@@ -124,31 +335,75 @@ public final class StringMappers
 	 */
 	public static String quoteString(String value)
 	{
-		StringBuilder result = new StringBuilder(value.length() + 16);
+		// Reserve room for the surrounding quotes and a few escaped quotes
+		StringBuilder result = new StringBuilder(value.length() + 8);
+		appendQuoted(result, value, value.length());
+		return result.toString();
+	}
 
-		for (int codepoint : (Iterable<Integer>) value.codePoints()::iterator)
+	/**
+	 * Appends the quoted representation of a String's prefix, escaping any nested quotes.
+	 * <p>
+	 * A quote never occurs within a surrogate pair, so runs of characters between quotes are copied as-is.
+	 *
+	 * @param buffer the buffer to append to
+	 * @param value  a {@code String}
+	 * @param end    the index after the last character to append
+	 */
+	private static void appendQuoted(StringBuilder buffer, String value, int end)
+	{
+		buffer.append('"');
+		int start = 0;
+		while (true)
 		{
-			if (codepoint == '\"')
-				result.append("\\\"");
-			else
-				result.appendCodePoint(codepoint);
+			int quote = value.indexOf('"', start, end);
+			if (quote == -1)
+				break;
+			buffer.append(value, start, quote).append("\\\"");
+			start = quote + 1;
 		}
-		result.insert(0, '"');
-		result.append('"');
-		return result.toString();
+		buffer.append(value, start, end).append('"');
 	}
 
 	/**
-	 * Returns the String representation of an object using the mappers.
+	 * Appends the quoted representation of a {@code String}, truncating it if it is too long.
 	 *
+	 * @param buffer the buffer to append to
+	 * @param object a {@code String}
+	 * @param seen   the containers that enclose the string
+	 */
+	private static void appendString(StringBuilder buffer, Object object, Set<Object> seen)
+	{
+		String value = (String) object;
+		int maximumStringLength = getContext(seen).mappers.maximumStringLength;
+		if (value.length() <= maximumStringLength)
+		{
+			appendQuoted(buffer, value, value.length());
+			return;
+		}
+		int end = maximumStringLength;
+		if (end > 0 && Character.isHighSurrogate(value.charAt(end - 1)))
+		{
+			// Avoid splitting a surrogate pair
+			--end;
+		}
+		appendQuoted(buffer, value, end);
+		buffer.append("... ");
+		GroupingFormatter.appendTo(buffer, value.length() - end);
+		buffer.append(" more characters");
+	}
+
+	/**
+	 * Appends the String representation of an object using the mappers.
+	 *
+	 * @param buffer the buffer to append to
 	 * @param object an object
-	 * @param seen   the objects that we've seen before
-	 * @return the String representation of the object
+	 * @param seen   the containers that enclose the object
 	 */
-	private String toString(Object object, Set<Object> seen)
+	private void appendTo(StringBuilder buffer, Object object, Set<Object> seen)
 	{
 		StringMapper mapper = getMapper(object);
-		return mapper.apply(object, seen);
+		mapper.appendTo(buffer, object, seen);
 	}
 
 	/**
@@ -160,25 +415,11 @@ public final class StringMappers
 	private StringMapper getMapper(Object object)
 	{
 		if (object == null)
-		{
-			StringMapper mapper = typeToMapper.get(Optional.<Class<?>>empty());
-			if (mapper != null)
-				return mapper;
-			return (value, seen) -> String.valueOf(value);
-		}
-		Class<?> type = object.getClass();
-		StringMapper mapper = typeToMapper.get(Optional.<Class<?>>of(type));
-		if (mapper != null)
-			return mapper;
-		if (type.isArray() && Object.class.isAssignableFrom(type.componentType()))
-		{
-			// Treat arrays of different object types as Object[]
-			type = Object[].class;
-		}
-		MatchingMapper match = getTypesThatMatch(type, 0, typeToMapper);
-		if (match == null)
-			return (value, seen) -> String.valueOf(value);
-		return match.mapper();
+			return typeToMapper.getOrDefault(Optional.<Class<?>>empty(), STRING_VALUE_OF);
+		Optional<Class<?>> mappedType = typeToMappedType.get(object.getClass());
+		if (mappedType.isEmpty())
+			return STRING_VALUE_OF;
+		return typeToMapper.get(mappedType);
 	}
 
 	/**
@@ -189,19 +430,7 @@ public final class StringMappers
 	 */
 	public boolean containsMapping(Object object)
 	{
-		if (object == null)
-			return true;
-		Class<?> type = object.getClass();
-		StringMapper mapper = typeToMapper.get(Optional.<Class<?>>of(type));
-		if (mapper != null)
-			return true;
-		if (type.isArray() && Object.class.isAssignableFrom(type.componentType()))
-		{
-			// Treat arrays of different object types as Object[]
-			type = Object[].class;
-		}
-		MatchingMapper match = getTypesThatMatch(type, 0, typeToMapper);
-		return match != null;
+		return object == null || typeToMappedType.get(object.getClass()).isPresent();
 	}
 
 	/**
@@ -211,39 +440,39 @@ public final class StringMappers
 	 * @param depth        the recursion depth
 	 * @param typeToMapper a mapping from each class to a function that the String representation of its
 	 *                     objects
-	 * @return a mapping between a mapped type and the recursion depth it was found at
+	 * @return the mapped type and the recursion depth it was found at, or {@code null} if there is no match
 	 */
-	private static MatchingMapper getTypesThatMatch(Class<?> type, int depth,
+	private static MatchingType getTypesThatMatch(Class<?> type, int depth,
 		Map<Optional<Class<?>>, StringMapper> typeToMapper)
 	{
-		StringMapper mapper = typeToMapper.get(Optional.<Class<?>>of(type));
-		if (mapper != null)
-			return new MatchingMapper(mapper, depth);
+		Optional<Class<?>> key = Optional.of(type);
+		if (typeToMapper.containsKey(key))
+			return new MatchingType(key, depth);
 
 		Class<?> superclass = type.getSuperclass();
 		if (superclass != null)
 		{
-			mapper = typeToMapper.get(Optional.<Class<?>>of(superclass));
-			if (mapper != null)
-				return new MatchingMapper(mapper, depth);
+			key = Optional.of(superclass);
+			if (typeToMapper.containsKey(key))
+				return new MatchingType(key, depth);
 		}
 
 		Class<?>[] interfaces = type.getInterfaces();
 		for (Class<?> i : interfaces)
 		{
-			mapper = typeToMapper.get(Optional.<Class<?>>of(i));
-			if (mapper != null)
-				return new MatchingMapper(mapper, depth);
+			key = Optional.of(i);
+			if (typeToMapper.containsKey(key))
+				return new MatchingType(key, depth);
 		}
 
-		MatchingMapper bestMatch;
+		MatchingType bestMatch;
 		if (superclass == null)
 			bestMatch = null;
 		else
 			bestMatch = getTypesThatMatch(superclass, depth + 1, typeToMapper);
 		for (Class<?> i : interfaces)
 		{
-			MatchingMapper subMatch = getTypesThatMatch(i, depth + 1, typeToMapper);
+			MatchingType subMatch = getTypesThatMatch(i, depth + 1, typeToMapper);
 			if (subMatch != null && (bestMatch == null || subMatch.depth < bestMatch.depth))
 				bestMatch = subMatch;
 		}
@@ -251,118 +480,212 @@ public final class StringMappers
 	}
 
 	/**
+	 * @param buffer the buffer to append to
 	 * @param object a {@code List}
-	 * @param seen   the objects that we've seen before
-	 * @return the String representation of an {@code Object}
+	 * @param seen   the containers that enclose the list
 	 */
-	private String listToString(Object object, Set<Object> seen)
+	private static void appendList(StringBuilder buffer, Object object, Set<Object> seen)
 	{
-		return orderedToString((List<?>) object, seen);
+		RenderingContext context = getContext(seen);
+		if (!context.enter(buffer, object, "[...]"))
+			return;
+		List<?> list = (List<?>) object;
+		appendOrdered(buffer, list, list, context);
+		context.exit(object);
 	}
 
 	/**
+	 * Appends the String representation of a {@code Collection}.
+	 *
+	 * @param buffer     the buffer to append to
 	 * @param collection a {@code Collection}
-	 * @param seen       the objects that we've seen before
-	 * @return the String representation of a {@code Collection}
+	 * @param elements   the elements to render, in order. Must contain all the elements of
+	 *                   {@code collection}, or at least as many as the maximum number of elements.
+	 * @param context    the state of the rendering operation
 	 */
-	private String orderedToString(Collection<?> collection, Set<Object> seen)
+	private static void appendOrdered(StringBuilder buffer, Collection<?> collection, Iterable<?> elements,
+		RenderingContext context)
 	{
 		// We cannot use Object.toString() because Arrays.asList(array) only converts the outermost array into a
 		// List. List.toString() does not invoke Arrays.deepToString(array) so any nested arrays do not display
 		// correctly.
-		Iterator<?> iterator = collection.iterator();
-		StringJoiner joiner = new StringJoiner(", ", "[", "]");
-		seen.add(collection);
-
-		while (iterator.hasNext())
+		Iterator<?> iterator = elements.iterator();
+		buffer.append('[');
+		int maximumElements = context.mappers.maximumElements;
+		int count = 0;
+		while (true)
 		{
-			Object element = iterator.next();
-			if (seen.add(element))
+			if (count == maximumElements)
 			{
-				StringMapper elementToString = getMapper(element);
-				joiner.add(elementToString.apply(element, seen));
+				// Stop iterating once the limit is reached
+				int remaining = collection.size() - count;
+				if (remaining > 0)
+					appendRemaining(buffer, remaining, count == 0);
+				break;
 			}
-			else
-				joiner.add("...");
+			if (!iterator.hasNext())
+				break;
+			Object element = iterator.next();
+			if (count > 0)
+				buffer.append(", ");
+			++count;
+			context.appendTo(buffer, element);
 		}
-		return joiner.toString();
+		buffer.append(']');
 	}
 
 	/**
+	 * @param buffer the buffer to append to
 	 * @param object a {@code Set}
-	 * @return the String representation of the set
+	 * @param seen   the containers that enclose the set
 	 */
-	private String setToString(Object object, Set<Object> seen)
+	private static void appendSet(StringBuilder buffer, Object object, Set<Object> seen)
 	{
+		RenderingContext context = getContext(seen);
+		if (!context.enter(buffer, object, "[...]"))
+			return;
 		Set<?> set = (Set<?>) object;
-		if (set instanceof SortedSet<?> sorted)
-			return orderedToString(sorted, seen);
-		try
+		Collection<?> elements;
+		if (set instanceof SortedSet<?>)
+			elements = set;
+		else
 		{
-			@SuppressWarnings("unchecked")
-			List<Comparable<Object>> list = new ArrayList<>((Collection<? extends Comparable<Object>>) set);
-			list.sort(Comparator.naturalOrder());
-			return orderedToString(list, seen);
+			try
+			{
+				elements = getSmallest(set, context.mappers.maximumElements, NATURAL_ORDER);
+			}
+			catch (ClassCastException expected)
+			{
+				// Elements are null or are not comparable to each other
+				elements = set;
+			}
+		}
+		appendOrdered(buffer, set, elements, context);
+		context.exit(object);
+	}
+
+	/**
+	 * Returns the smallest elements of a collection, in ascending order.
+	 * <p>
+	 * If only some of the elements are needed, they are selected using a bounded heap in
+	 * {@code O(n log count)} time instead of sorting the entire collection.
+	 *
+	 * @param <E>        the type of elements in the collection
+	 * @param collection a collection
+	 * @param count      the maximum number of elements to return
+	 * @param comparator the order of the elements
+	 * @return the smallest {@code count} elements, or all the elements if {@code count} is greater than the
+	 * 	size of the collection
+	 * @throws ClassCastException if {@code comparator} cannot compare the elements to each other, or if they
+	 *                            contain {@code null}
+	 */
+	private static <E> List<E> getSmallest(Collection<E> collection, int count,
+		Comparator<? super E> comparator)
+	{
+		if (count == 0)
+			return List.of();
+		int size = collection.size();
+		if (count >= size)
+		{
+			List<E> sorted = new ArrayList<>(collection);
+			sorted.sort(comparator);
+			return sorted;
 		}
-		catch (ClassCastException expected)
+		// A max-heap of the smallest elements encountered so far
+		PriorityQueue<E> heap = new PriorityQueue<>(count, comparator.reversed());
+		for (E element : collection)
 		{
-			// Elements are not comparable to each other
+			if (heap.size() < count)
+				heap.add(element);
+			else if (comparator.compare(element, heap.peek()) < 0)
+			{
+				heap.poll();
+				heap.add(element);
+			}
 		}
-		return orderedToString(new ArrayList<>(set), seen);
+		List<E> sorted = new ArrayList<>(heap);
+		sorted.sort(comparator);
+		return sorted;
 	}
 
 	/**
+	 * @param buffer the buffer to append to
 	 * @param object a {@code Map}
-	 * @param seen   the objects that we've seen before
-	 * @return the String representation of the map
+	 * @param seen   the containers that enclose the map
 	 */
-	private String mapToString(Object object, Set<Object> seen)
+	private static void appendMap(StringBuilder buffer, Object object, Set<Object> seen)
 	{
-		if (object instanceof SortedMap<?, ?> sorted)
-			return mapEntriesToString(sorted.entrySet(), seen);
+		RenderingContext context = getContext(seen);
+		if (!context.enter(buffer, object, "{...}"))
+			return;
 		Map<?, ?> map = (Map<?, ?>) object;
-		for (Entry<?, ?> entry : map.entrySet())
+		Collection<? extends Entry<?, ?>> entries;
+		if (map instanceof SortedMap<?, ?>)
+			entries = map.entrySet();
+		else
 		{
-			if (!(entry.getKey() instanceof Comparable<?>))
-				return mapEntriesToString(map.entrySet(), seen);
+			try
+			{
+				entries = getSmallest(map.entrySet(), context.mappers.maximumElements, KEY_ORDER);
+			}
+			catch (ClassCastException expected)
+			{
+				// Keys are null or are not comparable to each other
+				entries = map.entrySet();
+			}
 		}
-		return mapEntriesToString(new TreeMap<>(map).entrySet(), seen);
+		appendMapEntries(buffer, map, entries, context);
+		context.exit(object);
 	}
 
 	/**
-	 * @param entries map entries
-	 * @param seen    the objects that we've seen before
-	 * @return the String representation of the map entries
+	 * Appends the String representation of map entries.
+	 *
+	 * @param buffer  the buffer to append to
+	 * @param map     the map
+	 * @param entries the entries to render, in order. Must contain all the entries of {@code map}, or at least
+	 *                as many as the maximum number of elements.
+	 * @param context the state of the rendering operation
 	 */
-	private String mapEntriesToString(Set<? extends Entry<?, ?>> entries, Set<Object> seen)
+	private static void appendMapEntries(StringBuilder buffer, Map<?, ?> map,
+		Collection<? extends Entry<?, ?>> entries, RenderingContext context)
 	{
 		// We cannot use Object.toString() because Arrays.asList(array) only converts the outermost array into a
 		// List. List.toString() does not invoke Arrays.deepToString(array) so any nested arrays do not display
 		// correctly.
-		StringJoiner joiner = new StringJoiner(", ", "{", "}");
-		for (Entry<?, ?> entry : entries)
+		Iterator<? extends Entry<?, ?>> iterator = entries.iterator();
+		buffer.append('{');
+		int maximumElements = context.mappers.maximumElements;
+		int count = 0;
+		while (true)
 		{
-			Object key = entry.getKey();
-			Object value = entry.getValue();
-			Object keyAsString;
-			if (key == entries)
-				keyAsString = "(this Map)";
-			else
+			if (count == maximumElements)
 			{
-				StringMapper keyToString = getMapper(key);
-				keyAsString = keyToString.apply(key, seen);
+				// Stop iterating once the limit is reached
+				int remaining = map.size() - count;
+				if (remaining > 0)
+					appendRemaining(buffer, remaining, count == 0);
+				break;
 			}
-			Object valueAsString;
-			if (value == entries)
-				valueAsString = "(this Map)";
+			if (!iterator.hasNext())
+				break;
+			Entry<?, ?> entry = iterator.next();
+			if (count > 0)
+				buffer.append(", ");
+			++count;
+			Object key = entry.getKey();
+			if (key == map)
+				buffer.append("(this Map)");
 			else
-			{
-				StringMapper valueToString = getMapper(value);
-				valueAsString = valueToString.apply(value, seen);
-			}
-			joiner.add(keyAsString + "=" + valueAsString);
+				context.appendTo(buffer, key);
+			buffer.append('=');
+			Object value = entry.getValue();
+			if (value == map)
+				buffer.append("(this Map)");
+			else
+				context.appendTo(buffer, value);
 		}
-		return joiner.toString();
+		buffer.append('}');
 	}
 
 	/**
@@ -386,29 +709,258 @@ public final class StringMappers
 	 */
 	public String toString(Object object)
 	{
-		StringMapper mapper = getMapper(object);
-		return mapper.apply(object, new HashSet<>());
+		StringBuilder buffer = new StringBuilder();
+		appendTo(buffer, object);
+		return buffer.toString();
+	}
+
+	/**
+	 * Appends the String representation of an object using the mappers.
+	 *
+	 * @param buffer the buffer to append to
+	 * @param object an object
+	 */
+	public void appendTo(StringBuilder buffer, Object object)
+	{
+		RenderingContext context = new RenderingContext(this, Collections.newSetFromMap(new IdentityHashMap<>()));
+		context.appendTo(buffer, object);
 	}
 
 	@Override
 	public int hashCode()
 	{
-		return typeToMapper.hashCode();
+		return Objects.hash(typeToMapper, maximumElements, maximumStringLength, maximumDepth);
 	}
 
 	@Override
 	public boolean equals(Object o)
 	{
-		return o instanceof StringMappers other && other.typeToMapper.equals(typeToMapper);
+		return o instanceof StringMappers other && other.typeToMapper.equals(typeToMapper) &&
+			other.maximumElements == maximumElements && other.maximumStringLength == maximumStringLength &&
+			other.maximumDepth == maximumDepth;
 	}
 
 	@Override
 	public String toString()
 	{
-		return typeToMapper.toString();
+		return "typeToMapper: " + typeToMapper + ", maximumElements: " + maximumElements +
+			", maximumStringLength: " + maximumStringLength + ", maximumDepth: " + maximumDepth;
+	}
+
+	/**
+	 * @param type  a key of {@code typeToMapper}
+	 * @param depth the recursion depth that the type was found at
+	 */
+	record MatchingType(Optional<Class<?>> type, int depth)
+	{
+	}
+
+	/**
+	 * Resolves the key of {@code typeToMapper} that each type maps to.
+	 */
+	private static final class MappedTypes extends ClassValue<Optional<Class<?>>>
+	{
+		private final Map<Optional<Class<?>>, StringMapper> typeToMapper;
+
+		/**
+		 * @param typeToMapper a mapping from each class to a function that the String representation of its
+		 *                     objects
+		 * @throws AssertionError if {@code typeToMapper} is null
+		 */
+		MappedTypes(Map<Optional<Class<?>>, StringMapper> typeToMapper)
+		{
+			assert typeToMapper != null;
+			this.typeToMapper = typeToMapper;
+		}
+
+		@Override
+		protected Optional<Class<?>> computeValue(Class<?> type)
+		{
+			Optional<Class<?>> key = Optional.of(type);
+			if (typeToMapper.containsKey(key))
+				return key;
+			if (type.isArray() && Object.class.isAssignableFrom(type.componentType()))
+			{
+				// Treat arrays of different object types as Object[]
+				type = Object[].class;
+			}
+			MatchingType match = getTypesThatMatch(type, 0, typeToMapper);
+			if (match == null)
+				return Optional.empty();
+			return match.type();
+		}
 	}
 
-	record MatchingMapper(StringMapper mapper, int depth)
+	/**
+	 * A built-in mapper that renders nested values using the limits and mappers of the instance that it
+	 * belongs to, even if it is invoked directly instead of through {@link StringMappers#appendTo}.
+	 * <p>
+	 * {@link MutableStringMappers} shares mappers between instances, so each instance rebinds the built-in
+	 * mappers to itself. Mappers are compared regardless of their owner.
+	 */
+	private static final class BoundMapper implements StreamingStringMapper
 	{
+		/**
+		 * The mapper that renders the value.
+		 */
+		private final StreamingStringMapper mapper;
+		/**
+		 * The instance that the mapper belongs to.
+		 */
+		private final StringMappers owner;
+
+		/**
+		 * @param mapper the mapper that renders the value
+		 * @param owner  the instance that the mapper belongs to
+		 * @throws AssertionError if any of the arguments are null
+		 */
+		BoundMapper(StreamingStringMapper mapper, StringMappers owner)
+		{
+			assert mapper != null;
+			assert owner != null;
+			this.mapper = mapper;
+			this.owner = owner;
+		}
+
+		@Override
+		public void appendTo(StringBuilder buffer, Object value, Set<Object> seen)
+		{
+			if (seen instanceof RenderingContext)
+				mapper.appendTo(buffer, value, seen);
+			else
+			{
+				// The mapper was invoked directly instead of through StringMappers.appendTo()
+				mapper.appendTo(buffer, value, new RenderingContext(owner, seen));
+			}
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return mapper.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o)
+		{
+			return o instanceof BoundMapper other && other.mapper.equals(mapper);
+		}
+	}
+
+	/**
+	 * The state of a single rendering operation.
+	 * <p>
+	 * Mappers receive it as the set of containers that enclose the current value, so that nested values are
+	 * rendered using the same mappers and limits as the outermost value, without changing the
+	 * {@link StringMapper} API.
+	 * <p>
+	 * Containers are compared by identity, and are removed from the set once they have been rendered. As a
+	 * result, cycle detection does not invoke {@code hashCode()} or {@code equals()} on the values being
+	 * rendered, and values that are equal to, or even the same as, a sibling are rendered in full.
+	 */
+	private static final class RenderingContext extends AbstractSet<Object>
+	{
+		/**
+		 * The mappers that render the value.
+		 */
+		final StringMappers mappers;
+		/**
+		 * The containers that enclose the value being rendered.
+		 */
+		private final Set<Object> path;
+		/**
+		 * The number of arrays, collections or maps that enclose the value being rendered.
+		 */
+		int depth;
+
+		/**
+		 * @param mappers the mappers that render the value
+		 * @param path    the containers that enclose the value being rendered
+		 * @throws AssertionError if any of the arguments are null
+		 */
+		RenderingContext(StringMappers mappers, Set<Object> path)
+		{
+			assert mappers != null;
+			assert path != null;
+			this.mappers = mappers;
+			this.path = path;
+		}
+
+		/**
+		 * Starts rendering a container. If the container encloses itself, or is nested too deeply, a placeholder
+		 * is appended instead.
+		 *
+		 * @param buffer      the buffer to append to
+		 * @param container   an array, collection or map
+		 * @param placeholder the String to append if the container is nested too deeply
+		 * @return {@code false} if the container's elements should not be rendered
+		 */
+		public boolean enter(StringBuilder buffer, Object container, String placeholder)
+		{
+			if (depth >= mappers.maximumDepth)
+			{
+				buffer.append(placeholder);
+				return false;
+			}
+			if (!path.add(container))
+			{
+				buffer.append("...");
+				return false;
+			}
+			++depth;
+			return true;
+		}
+
+		/**
+		 * Finishes rendering a container.
+		 *
+		 * @param container the container that was passed to {@link #enter(StringBuilder, Object, String)}
+		 */
+		public void exit(Object container)
+		{
+			--depth;
+			path.remove(container);
+		}
+
+		/**
+		 * Appends the String representation of an object.
+		 *
+		 * @param buffer the buffer to append to
+		 * @param object an object
+		 */
+		public void appendTo(StringBuilder buffer, Object object)
+		{
+			mappers.appendTo(buffer, object, this);
+		}
+
+		@Override
+		public boolean add(Object o)
+		{
+			return path.add(o);
+		}
+
+		@Override
+		public boolean remove(Object o)
+		{
+			return path.remove(o);
+		}
+
+		@Override
+		public boolean contains(Object o)
+		{
+			return path.contains(o);
+		}
+
+		@Override
+		public Iterator<Object> iterator()
+		{
+			return path.iterator();
+		}
+
+		@Override
+		public int size()
+		{
+			return path.size();
+		}
 	}
-}
\ No newline at end of file
+}
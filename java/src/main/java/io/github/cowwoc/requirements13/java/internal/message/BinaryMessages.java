@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.message;
+
+import io.github.cowwoc.requirements13.java.internal.StringMappers;
+import io.github.cowwoc.requirements13.java.internal.message.section.MessageBuilder;
+import io.github.cowwoc.requirements13.java.internal.validator.AbstractValidator;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Generates failure messages for binary data, such as {@code MemorySegment} or {@code ByteBuffer}.
+ */
+public final class BinaryMessages
+{
+	private static final MessageTemplate STARTS_WITH_FAILED = MessageTemplate.of(
+		"{name} must start with {prefix}.");
+	private static final MessageTemplate CONTAINS_FAILED = MessageTemplate.of(
+		"{name} must contain {expected}.");
+	private static final MessageTemplate IS_ALIGNED_TO_FAILED = MessageTemplate.of(
+		"{name} must be aligned to {alignment} bytes.");
+	private static final MessageTemplate ALL_BETWEEN_FAILED = MessageTemplate.of(
+		"{name} contains a value that is out of bounds.");
+
+	private BinaryMessages()
+	{
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param prefix    the bytes that the data must start with
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder startsWithFailed(AbstractValidator<?, ?> validator, byte[] prefix)
+	{
+		// "actual" must start with [1, 2, 3].
+		String name = validator.getName();
+		StringMappers stringMappers = validator.configuration().stringMappers();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			STARTS_WITH_FAILED.format(name, stringMappers.toString(prefix)));
+		Object value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value, name);
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param expected  the bytes that the data must contain
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder containsFailed(AbstractValidator<?, ?> validator, byte[] expected)
+	{
+		// "actual" must contain [1, 2, 3].
+		String name = validator.getName();
+		StringMappers stringMappers = validator.configuration().stringMappers();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			CONTAINS_FAILED.format(name, stringMappers.toString(expected)));
+		Object value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value, name);
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param segment   the data ({@code null} if undefined)
+	 * @param alignment the alignment in bytes
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder isAlignedToFailed(AbstractValidator<?, ?> validator, MemorySegment segment,
+		long alignment)
+	{
+		// "actual" must be aligned to 8 bytes.
+		// actual.maxByteAlignment(): 4
+		// actual.address()         : 0x7f0000000004
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			IS_ALIGNED_TO_FAILED.format(name, String.valueOf(alignment)));
+		if (segment != null)
+		{
+			messageBuilder.withContext(segment.maxByteAlignment(), name + ".maxByteAlignment()");
+			// The address of a heap segment is an offset into its array
+			if (segment.isNative())
+			{
+				messageBuilder.withContext(new UnquotedStringValue("0x" + Long.toHexString(segment.address())),
+					name + ".address()");
+			}
+		}
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator        the validator
+	 * @param index            the index of the first value that is out of bounds ({@code -1} if undefined)
+	 * @param element          the value that is out of bounds
+	 * @param minimumInclusive the lower bound of the range
+	 * @param maximumExclusive the upper bound of the range
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder allBetweenFailed(AbstractValidator<?, ?> validator, long index,
+		Object element, Object minimumInclusive, Object maximumExclusive)
+	{
+		// "actual" contains a value that is out of bounds.
+		// actual[3]: 512
+		// bounds   : [0, 100)
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator, ALL_BETWEEN_FAILED.format(name));
+		if (index != -1)
+			messageBuilder.withContext(element, name + "[" + index + "]");
+		UnquotedStringValue bounds = ComparableMessages.getBounds(minimumInclusive, true, maximumExclusive,
+			false, validator.configuration().stringMappers());
+		messageBuilder.withContext(bounds, "bounds");
+		return messageBuilder;
+	}
+}
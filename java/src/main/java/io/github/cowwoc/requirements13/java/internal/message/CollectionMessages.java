@@ -6,11 +6,14 @@
 package io.github.cowwoc.requirements13.java.internal.message;
 
 import io.github.cowwoc.requirements13.java.internal.message.section.MessageBuilder;
+import io.github.cowwoc.requirements13.java.internal.util.Arrays;
 import io.github.cowwoc.requirements13.java.internal.util.Difference;
 import io.github.cowwoc.requirements13.java.internal.util.Pluralizer;
 import io.github.cowwoc.requirements13.java.internal.validator.AbstractObjectValidator;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 
@@ -21,6 +24,29 @@ import static io.github.cowwoc.requirements13.java.internal.message.section.Mess
  */
 public final class CollectionMessages
 {
+	private static final MessageTemplate CONTAINS_SIZE_FAILED = MessageTemplate.of(
+		"{name} {relationship} {expectedSize} {elements}.");
+	private static final MessageTemplate CONTAINS_FAILED = MessageTemplate.of("{name} {relationship} {other}.");
+	private static final MessageTemplate CONTAINS_ANY_FAILED = MessageTemplate.of(
+		"{name} must contain any of the {elements} present in {expected}.");
+	private static final MessageTemplate DOES_NOT_CONTAIN_ANY_FAILED = MessageTemplate.of(
+		"{name} may not contain any of the {elements} present in {unwanted}.");
+	private static final MessageTemplate CONTAINS_ALL_FAILED = MessageTemplate.of(
+		"{name} must contain all the {elements} present in {expected}.");
+	private static final MessageTemplate DOES_NOT_CONTAIN_ALL_FAILED = MessageTemplate.of(
+		"{name} may contain some, but not all, the {elements} present in {unwanted}.");
+	private static final MessageTemplate DOES_NOT_CONTAIN_DUPLICATES_FAILED = MessageTemplate.of(
+		"{name} may not contain any duplicate {elements}.");
+	/**
+	 * The size of the largest list whose sorted copy is displayed when it is not sorted.
+	 */
+	private static final int MAXIMUM_SORTED_COPY = 1000;
+	/**
+	 * The number of elements displayed on each side of the first unsorted element of a large list.
+	 */
+	private static final int UNSORTED_WINDOW_RADIUS = 5;
+	private static final MessageTemplate IS_SORTED_FAILED = MessageTemplate.of("{name} must be sorted.");
+
 	private CollectionMessages()
 	{
 	}
@@ -48,8 +74,8 @@ public final class CollectionMessages
 		String expectedNameOrSize = validator.getNameOrValue("", expectedSizeName, "", expectedSize);
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
-			quoteName(name) + " " + relationship + " " + expectedNameOrSize + " " +
-				pluralizer.nameOf(expectedSize, expectedSizeName) + ".");
+			CONTAINS_SIZE_FAILED.format(name, relationship, expectedNameOrSize,
+				pluralizer.nameOf(expectedSize, expectedSizeName)));
 
 		validator.value.nullToInvalid().ifValid(v ->
 			messageBuilder.withContext(v, name));
@@ -173,7 +199,7 @@ public final class CollectionMessages
 		String name = validator.getName();
 		String otherNameOrValue = validator.getNameOrValue("the same value as ", otherName, "", other);
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
-			quoteName(name) + " " + relationship + " " + otherNameOrValue + ".");
+			CONTAINS_FAILED.format(name, relationship, otherNameOrValue));
 
 		validator.value.nullToInvalid().ifValid(v -> messageBuilder.withContext(v, name));
 		if (otherName != null)
@@ -215,8 +241,7 @@ public final class CollectionMessages
 
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
-			quoteName(name) + " must contain any of the " + pluralizer.nameOf(2, null) +
-				" present in " + expectedNameOrValue + ".");
+			CONTAINS_ANY_FAILED.format(name, pluralizer.nameOf(2, null), expectedNameOrValue));
 
 		validator.value.nullToInvalid().ifValid(v -> messageBuilder.withContext(v, name));
 		if (expectedName != null)
@@ -225,17 +250,18 @@ public final class CollectionMessages
 	}
 
 	/**
-	 * @param <C>          the type of the unwanted value's collection
-	 * @param <E>          the type of elements in the value
-	 * @param validator    the validator
-	 * @param difference   the difference between the actual and unwanted values ({@code null} if undefined)
-	 * @param unwantedName the name of the unwanted collection ({@code null} if undefined)
-	 * @param unwanted     the collection of unwanted elements
-	 * @param pluralizer   the type of items in the collections
+	 * @param <C>              the type of the unwanted value's collection
+	 * @param <E>              the type of elements in the value
+	 * @param validator        the validator
+	 * @param elementsToRemove the elements that are present in both the actual and unwanted values
+	 *                         ({@code null} if undefined)
+	 * @param unwantedName     the name of the unwanted collection ({@code null} if undefined)
+	 * @param unwanted         the collection of unwanted elements
+	 * @param pluralizer       the type of items in the collections
 	 * @return a message for the validation failure
 	 */
 	public static <C extends Collection<E>, E> MessageBuilder doesNotContainAnyFailed(
-		AbstractObjectValidator<?, ?> validator, Difference<E> difference, String unwantedName, C unwanted,
+		AbstractObjectValidator<?, ?> validator, Set<E> elementsToRemove, String unwantedName, C unwanted,
 		Pluralizer pluralizer)
 	{
 		// "actual" may not contain any of the elements present in "unwanted".
@@ -246,14 +272,13 @@ public final class CollectionMessages
 
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
-			quoteName(name) + " may not contain any of the " + pluralizer.nameOf(2, null) +
-				" present in " + unwantedNameOrValue + ".");
+			DOES_NOT_CONTAIN_ANY_FAILED.format(name, pluralizer.nameOf(2, null), unwantedNameOrValue));
 
 		validator.value.nullToInvalid().ifValid(v -> messageBuilder.withContext(v, name));
 		if (unwantedName != null)
 			messageBuilder.withContext(unwanted, unwantedName);
-		if (difference != null)
-			messageBuilder.withContext(difference.common(), "elementsToRemove");
+		if (elementsToRemove != null)
+			messageBuilder.withContext(elementsToRemove, "elementsToRemove");
 		return messageBuilder;
 	}
 
@@ -334,14 +359,14 @@ public final class CollectionMessages
 	 * @param <C>          the type of the expected value's collection
 	 * @param <E>          the type of elements in the value
 	 * @param validator    the validator
-	 * @param difference   the difference between the actual and expected values ({@code null} if undefined)
+	 * @param missing      the expected values that the value does not contain ({@code null} if undefined)
 	 * @param expectedName the name of the expected collection ({@code null} if undefined)
 	 * @param expected     the collection of expected values
 	 * @param pluralizer   the type of items in the value
 	 * @return a message for the validation failure
 	 */
 	public static <C extends Collection<E>, E> MessageBuilder containsAllFailed(
-		AbstractObjectValidator<?, ?> validator, Difference<E> difference, String expectedName, C expected,
+		AbstractObjectValidator<?, ?> validator, Set<E> missing, String expectedName, C expected,
 		Pluralizer pluralizer)
 	{
 		// "actual" must contain all the elements present in "expected".
@@ -352,14 +377,13 @@ public final class CollectionMessages
 
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
-			quoteName(name) + " must contain all the " + pluralizer.nameOf(2, null) + " present in " +
-				expectedNameOrValue + ".");
+			CONTAINS_ALL_FAILED.format(name, pluralizer.nameOf(2, null), expectedNameOrValue));
 
 		validator.value.nullToInvalid().ifValid(v -> messageBuilder.withContext(v, name));
 		if (expectedName != null)
 			messageBuilder.withContext(expected, expectedName);
-		if (difference != null)
-			messageBuilder.withContext(difference.onlyInOther(), "missing");
+		if (missing != null)
+			messageBuilder.withContext(missing, "missing");
 		return messageBuilder;
 	}
 
@@ -381,8 +405,7 @@ public final class CollectionMessages
 		String unwantedNameOrValue = validator.getNameOrValue("", unwantedName, "the set ", unwanted);
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
-			quoteName(name) + " may contain some, but not all, the " + pluralizer.nameOf(2, null) +
-				" present in " + unwantedNameOrValue + ".");
+			DOES_NOT_CONTAIN_ALL_FAILED.format(name, pluralizer.nameOf(2, null), unwantedNameOrValue));
 
 		validator.value.nullToInvalid().ifValid(v -> messageBuilder.withContext(v, name));
 		if (unwantedName != null)
@@ -402,13 +425,48 @@ public final class CollectionMessages
 	{
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
-			quoteName(name) + " may not contain any duplicate " + pluralizer.nameOf(2, null) + ".");
+			DOES_NOT_CONTAIN_DUPLICATES_FAILED.format(name, pluralizer.nameOf(2, null)));
 		if (duplicates != null)
 			messageBuilder.withContext(duplicates, "duplicates");
 		validator.value.nullToInvalid().ifValid(v -> messageBuilder.withContext(v, name));
 		return messageBuilder;
 	}
 
+	/**
+	 * @param <E>        the type of elements in the list
+	 * @param validator  the validator
+	 * @param value      the list being validated ({@code null} if undefined)
+	 * @param comparator a comparator that indicates the expected order
+	 * @return a message for the validation failure
+	 */
+	public static <E> MessageBuilder isSortedFailed(AbstractObjectValidator<?, ?> validator, List<E> value,
+		Comparator<E> comparator)
+	{
+		if (value == null)
+			return isSortedFailed(validator, null);
+		if (value.size() <= MAXIMUM_SORTED_COPY)
+		{
+			List<E> sorted = new ArrayList<>(value);
+			sorted.sort(comparator);
+			return isSortedFailed(validator, sorted);
+		}
+		// Sorting a large list is expensive, and a diff of the entire list would be unreadable. Display the
+		// elements around the first one that is out of order instead.
+		//
+		// "actual" must be sorted.
+		// actual                    : [0, 1, 2, ...]
+		// unsortedIndex             : 5000
+		// actual.subList(4995, 5005): [4995, 4996, 4997, 4998, 4999, 0, 5001, 5002, 5003, 5004]
+		int unsortedIndex = Arrays.indexOfUnsorted(value, comparator);
+		assert unsortedIndex != -1 : value;
+		int fromIndex = Math.max(0, unsortedIndex - UNSORTED_WINDOW_RADIUS);
+		int toIndex = Math.min(value.size(), unsortedIndex + UNSORTED_WINDOW_RADIUS);
+		return isSortedFailed(validator, null).
+			withContext(unsortedIndex, "unsortedIndex").
+			withContext(value.subList(fromIndex, toIndex),
+				validator.getName() + ".subList(" + fromIndex + ", " + toIndex + ")");
+	}
+
 	/**
 	 * @param validator the validator
 	 * @param sorted    the sorted representation of the value being validated ({@code null} if undefined)
@@ -418,10 +476,50 @@ public final class CollectionMessages
 		List<?> sorted)
 	{
 		String name = validator.getName();
-		MessageBuilder messageBuilder = new MessageBuilder(validator, quoteName(name) + " must be sorted.");
+		MessageBuilder messageBuilder = new MessageBuilder(validator, IS_SORTED_FAILED.format(name));
 		validator.value.nullToInvalid().ifValid(v -> messageBuilder.withContext(v, name));
 		if (sorted != null)
 			messageBuilder.withContext(sorted, "expected");
 		return messageBuilder;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * @param validator the validator
+	 * @param previous  the element before {@code element}
+	 * @param element   the first element that is less than the element before it
+	 * @param index     the index of {@code element}
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder isSortedFailed(AbstractObjectValidator<?, ?> validator, Object previous,
+		Object element, long index)
+	{
+		// "actual" must be sorted.
+		// actual[4]: 7
+		// actual[5]: 3
+		String name = validator.getName();
+		return new MessageBuilder(validator, IS_SORTED_FAILED.format(name)).
+			withContext(previous, name + "[" + (index - 1) + "]").
+			withContext(element, name + "[" + index + "]");
+	}
+
+	/**
+	 * @param validator  the validator
+	 * @param element    the duplicate element
+	 * @param firstIndex the index of the first occurrence of {@code element}
+	 * @param index      the index of the duplicate
+	 * @param pluralizer the type of items in the value
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder doesNotContainDuplicatesFailed(AbstractObjectValidator<?, ?> validator,
+		Object element, long firstIndex, long index, Pluralizer pluralizer)
+	{
+		// "actual" may not contain any duplicate elements.
+		// actual[2]: 5
+		// actual[7]: 5
+		String name = validator.getName();
+		return new MessageBuilder(validator,
+			DOES_NOT_CONTAIN_DUPLICATES_FAILED.format(name, pluralizer.nameOf(2, null))).
+			withContext(element, name + "[" + firstIndex + "]").
+			withContext(element, name + "[" + index + "]");
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.message;
+
+import io.github.cowwoc.requirements13.java.internal.message.section.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The shape of a failure message, parsed once and rendered many times.
+ * <p>
+ * A pattern consists of literal text and placeholders enclosed in braces, such as
+ * {@code "{name} must contain all the {elements} present in {expected}."}. Placeholders whose label is
+ * {@code name} or ends with {@code Name} are replaced by a name, quoted as per
+ * {@link MessageBuilder#quoteName(String)}. All other placeholders are replaced by their argument verbatim.
+ * <p>
+ * The pattern uniquely identifies the shape of the message, regardless of its arguments.
+ */
+public final class MessageTemplate
+{
+	private final String pattern;
+	/**
+	 * The text between placeholders. There is always one more literal than placeholders.
+	 */
+	private final String[] literals;
+	/**
+	 * Indicates if each placeholder must be quoted.
+	 */
+	private final boolean[] quoted;
+	/**
+	 * The total length of the literals.
+	 */
+	private final int literalLength;
+
+	/**
+	 * @param pattern  the message pattern
+	 * @param literals the text between placeholders
+	 * @param quoted   indicates if each placeholder must be quoted
+	 */
+	private MessageTemplate(String pattern, String[] literals, boolean[] quoted)
+	{
+		this.pattern = pattern;
+		this.literals = literals;
+		this.quoted = quoted;
+		int length = 0;
+		for (String literal : literals)
+			length += literal.length();
+		this.literalLength = length;
+	}
+
+	/**
+	 * Parses a message pattern.
+	 *
+	 * @param pattern the message pattern
+	 * @return the template
+	 * @throws AssertionError if {@code pattern} is null or contains an unterminated placeholder
+	 */
+	public static MessageTemplate of(String pattern)
+	{
+		assert pattern != null;
+		List<String> literals = new ArrayList<>();
+		List<Boolean> quoted = new ArrayList<>();
+		int start = 0;
+		while (true)
+		{
+			int open = pattern.indexOf('{', start);
+			if (open == -1)
+				break;
+			int close = pattern.indexOf('}', open);
+			assert close != -1 : "Unterminated placeholder in: " + pattern;
+			literals.add(pattern.substring(start, open));
+			String label = pattern.substring(open + 1, close);
+			quoted.add(label.equals("name") || label.endsWith("Name"));
+			start = close + 1;
+		}
+		literals.add(pattern.substring(start));
+
+		boolean[] quotedAsArray = new boolean[quoted.size()];
+		for (int i = 0; i < quotedAsArray.length; ++i)
+			quotedAsArray[i] = quoted.get(i);
+		return new MessageTemplate(pattern, literals.toArray(String[]::new), quotedAsArray);
+	}
+
+	/**
+	 * Returns the pattern of the message, which identifies its shape.
+	 *
+	 * @return the pattern of the message
+	 */
+	public String pattern()
+	{
+		return pattern;
+	}
+
+	/**
+	 * Renders the message.
+	 *
+	 * @param arguments the value of each placeholder, in the order that they appear in the pattern
+	 * @return the message
+	 * @throws AssertionError if the number of arguments does not match the number of placeholders
+	 */
+	public String format(String... arguments)
+	{
+		assert arguments.length == quoted.length : "Expected " + quoted.length + " arguments but got " +
+			arguments.length + ".\n" +
+			"pattern: " + pattern;
+		// Reserve room for the quotes surrounding names
+		int length = literalLength + 2 * arguments.length;
+		for (String argument : arguments)
+			length += argument.length();
+		StringBuilder message = new StringBuilder(length);
+		for (int i = 0; i < arguments.length; ++i)
+		{
+			message.append(literals[i]);
+			String argument = arguments[i];
+			if (quoted[i] && MessageBuilder.isQuoted(argument))
+				message.append('"').append(argument).append('"');
+			else
+				message.append(argument);
+		}
+		return message.append(literals[arguments.length]).toString();
+	}
+
+	@Override
+	public String toString()
+	{
+		return pattern;
+	}
+}
@@ -8,13 +8,22 @@ import io.github.cowwoc.requirements13.java.GenericType;
 import io.github.cowwoc.requirements13.java.internal.message.section.MessageBuilder;
 import io.github.cowwoc.requirements13.java.internal.validator.AbstractObjectValidator;
 
-import static io.github.cowwoc.requirements13.java.internal.message.section.MessageBuilder.quoteName;
-
 /**
  * Generates failure messages for objects.
  */
 public final class ObjectMessages
 {
+	private static final MessageTemplate IS_REFERENCE_NOT_EQUAL_TO_FAILED = MessageTemplate.of(
+		"{name} may not point to the same object as {unwantedName}");
+	private static final MessageTemplate IS_INSTANCE_OF_FAILED = MessageTemplate.of(
+		"{name} must be an instance of {expected}.");
+	private static final MessageTemplate IS_NOT_INSTANCE_OF_FAILED = MessageTemplate.of(
+		"{name} may not be an instance of {unwanted}.");
+	private static final MessageTemplate IS_NULL_FAILED = MessageTemplate.of("{name} must be null.");
+	private static final MessageTemplate IS_NOT_NULL_FAILED = MessageTemplate.of("{name} may not be null.");
+	private static final MessageTemplate IS_EMPTY_FAILED = MessageTemplate.of("{name} must be empty.");
+	private static final MessageTemplate IS_NOT_EMPTY_FAILED = MessageTemplate.of("{name} may not be empty.");
+
 	private ObjectMessages()
 	{
 	}
@@ -41,7 +50,7 @@ public final class ObjectMessages
 		String unwantedName)
 	{
 		return new MessageBuilder(validator,
-			quoteName(validator.getName()) + " may not point to the same object as " + quoteName(unwantedName));
+			IS_REFERENCE_NOT_EQUAL_TO_FAILED.format(validator.getName(), unwantedName));
 	}
 
 	/**
@@ -54,7 +63,7 @@ public final class ObjectMessages
 	{
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
-			quoteName(name) + " must be an instance of " + expected.getName() + ".");
+			IS_INSTANCE_OF_FAILED.format(name, expected.getName()));
 		Object value = validator.getValueOrDefault(null);
 		if (value != null || validator.value.isValid())
 		{
@@ -75,7 +84,7 @@ public final class ObjectMessages
 	{
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
-			quoteName(name) + " may not be an instance of " + unwanted.getName() + ".");
+			IS_NOT_INSTANCE_OF_FAILED.format(name, unwanted.getName()));
 		Object value = validator.getValueOrDefault(null);
 		if (value != null || validator.value.isValid())
 		{
@@ -92,8 +101,7 @@ public final class ObjectMessages
 	public static MessageBuilder isNullFailed(AbstractObjectValidator<?, ?> validator)
 	{
 		String name = validator.getName();
-		MessageBuilder messageBuilder = new MessageBuilder(validator,
-			quoteName(name) + " must be null.");
+		MessageBuilder messageBuilder = new MessageBuilder(validator, IS_NULL_FAILED.format(name));
 		Object value = validator.getValueOrDefault(null);
 		if (value != null)
 			messageBuilder.withContext(value, name);
@@ -107,7 +115,7 @@ public final class ObjectMessages
 	public static MessageBuilder isNotNullFailed(AbstractObjectValidator<?, ?> validator)
 	{
 		String name = validator.getName();
-		return new MessageBuilder(validator, quoteName(name) + " may not be null.");
+		return new MessageBuilder(validator, IS_NOT_NULL_FAILED.format(name));
 	}
 
 	/**
@@ -117,9 +125,11 @@ public final class ObjectMessages
 	public static MessageBuilder isEmptyFailed(AbstractObjectValidator<?, ?> validator)
 	{
 		String name = validator.getName();
-		MessageBuilder messageBuilder = new MessageBuilder(validator,
-			quoteName(name) + " must be empty.");
+		MessageBuilder messageBuilder = new MessageBuilder(validator, IS_EMPTY_FAILED.format(name));
 		Object value = validator.getValueOrDefault(null);
+		// Display a CharSequence, such as a StringBuilder, the same way as a String
+		if (value instanceof CharSequence sequence)
+			value = sequence.toString();
 		if (value != null)
 			messageBuilder.withContext(value, name);
 		return messageBuilder;
@@ -132,6 +142,6 @@ public final class ObjectMessages
 	public static MessageBuilder isNotEmptyFailed(AbstractObjectValidator<?, ?> validator)
 	{
 		String name = validator.getName();
-		return new MessageBuilder(validator, quoteName(name) + " may not be empty.");
+		return new MessageBuilder(validator, IS_NOT_EMPTY_FAILED.format(name));
 	}
 }
\ No newline at end of file
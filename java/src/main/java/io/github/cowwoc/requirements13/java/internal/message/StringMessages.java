@@ -13,7 +13,9 @@ import java.util.regex.Pattern;
 import static io.github.cowwoc.requirements13.java.internal.message.section.MessageBuilder.quoteName;
 
 /**
- * Generates failure messages for strings.
+ * Generates failure messages for a {@code CharSequence}, such as a {@code String} or {@code StringBuilder}.
+ * <p>
+ * Values are only converted to a {@code String} when a message is generated.
  */
 public final class StringMessages
 {
@@ -25,14 +27,14 @@ public final class StringMessages
 	 * @param validator the validator
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder isBlank(AbstractValidator<?, String> validator)
+	public static MessageBuilder isBlank(AbstractValidator<?, ? extends CharSequence> validator)
 	{
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " must be empty or contain only whitespace codepoints.");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -40,14 +42,14 @@ public final class StringMessages
 	 * @param validator the validator
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder isNotBlank(AbstractValidator<?, String> validator)
+	public static MessageBuilder isNotBlank(AbstractValidator<?, ? extends CharSequence> validator)
 	{
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " may not be empty or contain only whitespace codepoints.");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -55,14 +57,14 @@ public final class StringMessages
 	 * @param validator the validator
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder isTrimmed(AbstractValidator<?, String> validator)
+	public static MessageBuilder isTrimmed(AbstractValidator<?, ? extends CharSequence> validator)
 	{
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " may not contain leading or trailing whitespace.");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -70,14 +72,14 @@ public final class StringMessages
 	 * @param validator the validator
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder isStripped(AbstractValidator<?, String> validator)
+	public static MessageBuilder isStripped(AbstractValidator<?, ? extends CharSequence> validator)
 	{
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " may not contain leading or trailing whitespace codepoints.");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -86,16 +88,16 @@ public final class StringMessages
 	 * @param prefix    the value that the string must start with
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder startsWith(AbstractValidator<?, String> validator,
+	public static MessageBuilder startsWith(AbstractValidator<?, ? extends CharSequence> validator,
 		String prefix)
 	{
 		String name = validator.getName();
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " must start with " + stringMappers.toString(prefix) + ".");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -104,15 +106,16 @@ public final class StringMessages
 	 * @param prefix    the value that the string must start with
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder doesNotStartWith(AbstractValidator<?, String> validator, String prefix)
+	public static MessageBuilder doesNotStartWith(AbstractValidator<?, ? extends CharSequence> validator,
+		String prefix)
 	{
 		String name = validator.getName();
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " may not start with " + stringMappers.toString(prefix) + ".");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -121,15 +124,16 @@ public final class StringMessages
 	 * @param suffix    the value that the string must end with
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder endsWith(AbstractValidator<?, String> validator, String suffix)
+	public static MessageBuilder endsWith(AbstractValidator<?, ? extends CharSequence> validator,
+		String suffix)
 	{
 		String name = validator.getName();
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " must end with " + stringMappers.toString(suffix) + ".");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -138,15 +142,16 @@ public final class StringMessages
 	 * @param suffix    the value that the string must end with
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder doesNotEndWith(AbstractValidator<?, String> validator, String suffix)
+	public static MessageBuilder doesNotEndWith(AbstractValidator<?, ? extends CharSequence> validator,
+		String suffix)
 	{
 		String name = validator.getName();
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " may not end with " + stringMappers.toString(suffix) + ".");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -155,15 +160,16 @@ public final class StringMessages
 	 * @param expected  the expected value
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder contains(AbstractValidator<?, String> validator, String expected)
+	public static MessageBuilder contains(AbstractValidator<?, ? extends CharSequence> validator,
+		String expected)
 	{
 		String name = validator.getName();
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " must contain " + stringMappers.toString(expected) + ".");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -172,15 +178,16 @@ public final class StringMessages
 	 * @param unwanted  the unwanted value
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder doesNotContain(AbstractValidator<?, String> validator, String unwanted)
+	public static MessageBuilder doesNotContain(AbstractValidator<?, ? extends CharSequence> validator,
+		String unwanted)
 	{
 		String name = validator.getName();
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " may not contain " + stringMappers.toString(unwanted) + ".");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -188,14 +195,15 @@ public final class StringMessages
 	 * @param validator the validator
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder doesNotContainWhitespace(AbstractValidator<?, String> validator)
+	public static MessageBuilder doesNotContainWhitespace(
+		AbstractValidator<?, ? extends CharSequence> validator)
 	{
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " may not contain whitespace characters.");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -204,16 +212,17 @@ public final class StringMessages
 	 * @param regex     the regular expression
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder matches(AbstractValidator<?, String> validator, Pattern regex)
+	public static MessageBuilder matches(AbstractValidator<?, ? extends CharSequence> validator,
+		Pattern regex)
 	{
 		String name = validator.getName();
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " must match the regular expression " +
 				stringMappers.toString(regex) + ".");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 }
\ No newline at end of file
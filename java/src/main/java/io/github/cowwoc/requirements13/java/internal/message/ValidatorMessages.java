@@ -8,10 +8,9 @@ import io.github.cowwoc.requirements13.java.internal.StringMappers;
 import io.github.cowwoc.requirements13.java.internal.message.section.MessageBuilder;
 import io.github.cowwoc.requirements13.java.internal.validator.AbstractValidator;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
-import static io.github.cowwoc.requirements13.java.internal.message.section.MessageBuilder.quoteName;
-
 /**
  * Generates failure messages for validators.
  */
@@ -21,6 +20,13 @@ public final class ValidatorMessages
 	 * The minimum length of a value that triggers a diff.
 	 */
 	public static final int MINIMUM_LENGTH_FOR_DIFF = 10;
+	private static final MessageTemplate CONSTRAINT_FAILED = MessageTemplate.of("{name} {constraint}.");
+	private static final MessageTemplate IS_EQUAL_TO_FAILED = MessageTemplate.of(
+		"{name} must be equal to {expected}.");
+	private static final MessageTemplate UNEXPECTED_VALUE = MessageTemplate.of(
+		"{name} had an unexpected value.");
+	private static final MessageTemplate IS_NOT_EQUAL_TO_FAILED = MessageTemplate.of(
+		"{name} may not be equal to {unwanted}.");
 
 	private ValidatorMessages()
 	{
@@ -37,8 +43,8 @@ public final class ValidatorMessages
 		// "actual" must be negative.
 		// actual: 5
 		String name = validator.getName();
-		MessageBuilder messageBuilder = new MessageBuilder(validator,
-			quoteName(name) + " " + constraint + ".");
+		MessageBuilder messageBuilder = new MessageBuilder(validator, CONSTRAINT_FAILED.format(name,
+			constraint));
 		T value = validator.getValueOrDefault(null);
 		if (value != null)
 			messageBuilder.withContext(value, name);
@@ -67,7 +73,7 @@ public final class ValidatorMessages
 			//     expected: 456
 			String expectedNameOrValue = validator.getNameOrValue("", expectedName, "", expected);
 			MessageBuilder messageBuilder = new MessageBuilder(validator,
-				quoteName(name) + " must be equal to " + expectedNameOrValue + ".");
+				IS_EQUAL_TO_FAILED.format(name, expectedNameOrValue));
 
 			validator.value.ifValid(v -> messageBuilder.withContext(v, name));
 			if (expectedName != null)
@@ -83,7 +89,7 @@ public final class ValidatorMessages
 		//    diff    : ---+++
 		//    expected:    123
 		String resolvedExpectedName = Objects.requireNonNullElse(expectedName, "expected");
-		return new MessageBuilder(validator, quoteName(name) + " had an unexpected value.").
+		return new MessageBuilder(validator, UNEXPECTED_VALUE.format(name)).
 			addDiff(name, value, resolvedExpectedName, expected);
 	}
 
@@ -94,6 +100,11 @@ public final class ValidatorMessages
 	 */
 	private static boolean diffIsUnnecessary(Object value, StringMappers stringMappers)
 	{
+		// Avoid converting large binary values to a String. Each byte takes up at least 3 characters.
+		if (value instanceof byte[] array && array.length >= MINIMUM_LENGTH_FOR_DIFF)
+			return false;
+		if (value instanceof ByteBuffer buffer && buffer.remaining() >= MINIMUM_LENGTH_FOR_DIFF)
+			return false;
 		String valueForDiff = stringMappers.toString(value);
 		return valueForDiff.length() < MINIMUM_LENGTH_FOR_DIFF &&
 			!valueForDiff.contains("\n");
@@ -114,7 +125,7 @@ public final class ValidatorMessages
 		String unwantedNameOrValue = validator.getNameOrValue("", unwantedName, "", unwanted);
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
-			quoteName(name) + " may not be equal to " + unwantedNameOrValue + ".");
+			IS_NOT_EQUAL_TO_FAILED.format(name, unwantedNameOrValue));
 		validator.value.ifValid(v -> messageBuilder.withContext(v, name));
 		if (unwantedName != null)
 			messageBuilder.withContext(unwanted, unwantedName);
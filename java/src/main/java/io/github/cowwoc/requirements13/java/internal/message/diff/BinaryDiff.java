@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.message.diff;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Locates the differences between two binary values, and renders them as a hex dump.
+ * <p>
+ * The values are compared using {@link ByteBuffer#mismatch(ByteBuffer)}, so the cost is linear in the
+ * number of bytes. The number of windows, and the number of rows in each window, is bounded so that the
+ * size of the output does not depend on the size of the values.
+ */
+final class BinaryDiff
+{
+	/**
+	 * The number of bytes in each row of the hex dump.
+	 */
+	public static final int BYTES_PER_ROW = 16;
+	/**
+	 * The maximum number of windows to return.
+	 */
+	private static final int MAXIMUM_WINDOWS = 4;
+	/**
+	 * The maximum number of rows in each window.
+	 */
+	private static final int MAXIMUM_ROWS_PER_WINDOW = 8;
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	/**
+	 * Prevent construction.
+	 */
+	private BinaryDiff()
+	{
+	}
+
+	/**
+	 * @param value a value
+	 * @return {@code true} if the value is a {@code byte[]} or a {@code ByteBuffer}
+	 */
+	public static boolean isBinary(Object value)
+	{
+		return value instanceof byte[] || value instanceof ByteBuffer;
+	}
+
+	/**
+	 * @param value a {@code byte[]} or a {@code ByteBuffer}
+	 * @return a buffer whose position is zero and whose limit is the number of bytes in the value
+	 * @throws ClassCastException if {@code value} is not a {@code byte[]} or a {@code ByteBuffer}
+	 */
+	public static ByteBuffer toByteBuffer(Object value)
+	{
+		if (value instanceof byte[] array)
+			return ByteBuffer.wrap(array);
+		return ((ByteBuffer) value).slice();
+	}
+
+	/**
+	 * Returns the windows that should be displayed to the user.
+	 *
+	 * @param actual   the actual value
+	 * @param expected the expected value
+	 * @return the windows, in order
+	 * @throws AssertionError if any of the arguments are null
+	 */
+	public static List<Window> getWindows(ByteBuffer actual, ByteBuffer expected)
+	{
+		assert actual != null : "actual may not be null";
+		assert expected != null : "expected may not be null";
+		int commonLength = Math.min(actual.limit(), expected.limit());
+		int maximumLength = Math.max(actual.limit(), expected.limit());
+
+		List<Window> windows = new ArrayList<>();
+		int offset = 0;
+		// The end of the previous window
+		int endOfPrevious = 0;
+		while (true)
+		{
+			int start = mismatch(actual, expected, offset, commonLength);
+			if (start == -1)
+			{
+				if (commonLength == maximumLength || offset >= maximumLength)
+					break;
+				// The longer value contains additional bytes
+				start = Math.max(commonLength, offset);
+			}
+			if (windows.size() == MAXIMUM_WINDOWS)
+			{
+				windows.set(windows.size() - 1, windows.getLast().withMoreDifferences());
+				break;
+			}
+			int end = getEndOfDifference(actual, expected, start, commonLength);
+			if (end == commonLength)
+				end = maximumLength;
+
+			// Include one row of context before and after the difference
+			int firstRow = Math.max(endOfPrevious, roundDown(start) - BYTES_PER_ROW);
+			int endOfRows = Math.min(roundUp(maximumLength), roundUp(end) + BYTES_PER_ROW);
+			boolean truncated = endOfRows - firstRow > MAXIMUM_ROWS_PER_WINDOW * BYTES_PER_ROW;
+			if (truncated)
+				endOfRows = firstRow + MAXIMUM_ROWS_PER_WINDOW * BYTES_PER_ROW;
+			windows.add(new Window(firstRow, endOfRows, truncated, false));
+			endOfPrevious = endOfRows;
+			offset = Math.max(end, endOfRows);
+		}
+		return windows;
+	}
+
+	/**
+	 * @param actual       the actual value
+	 * @param expected     the expected value
+	 * @param offset       the index to start searching from
+	 * @param commonLength the number of bytes in the shorter value
+	 * @return the index of the first byte that differs at or after {@code offset}, or {@code -1} if the values
+	 * 	are equal up to {@code commonLength}
+	 */
+	private static int mismatch(ByteBuffer actual, ByteBuffer expected, int offset, int commonLength)
+	{
+		if (offset >= commonLength)
+			return -1;
+		int length = commonLength - offset;
+		int result = actual.slice(offset, length).mismatch(expected.slice(offset, length));
+		if (result == -1)
+			return -1;
+		return offset + result;
+	}
+
+	/**
+	 * Returns the end of a range of differing bytes. The range ends once a full row of bytes is equal.
+	 *
+	 * @param actual       the actual value
+	 * @param expected     the expected value
+	 * @param start        the index of the first byte that differs
+	 * @param commonLength the number of bytes in the shorter value
+	 * @return the index after the last byte that differs, or {@code commonLength} if the range reaches the end
+	 * 	of the shorter value
+	 */
+	private static int getEndOfDifference(ByteBuffer actual, ByteBuffer expected, int start, int commonLength)
+	{
+		int end = start + 1;
+		int equalBytes = 0;
+		for (int i = end; i < commonLength && equalBytes < BYTES_PER_ROW; ++i)
+		{
+			if (actual.get(i) == expected.get(i))
+				++equalBytes;
+			else
+			{
+				equalBytes = 0;
+				end = i + 1;
+			}
+		}
+		if (equalBytes < BYTES_PER_ROW)
+			return commonLength;
+		return end;
+	}
+
+	/**
+	 * @param offset an offset
+	 * @return the offset of the row that contains {@code offset}
+	 */
+	private static int roundDown(int offset)
+	{
+		return offset - offset % BYTES_PER_ROW;
+	}
+
+	/**
+	 * @param offset an offset
+	 * @return the offset of the first row that starts at or after {@code offset}
+	 */
+	private static int roundUp(int offset)
+	{
+		return roundDown(offset + BYTES_PER_ROW - 1);
+	}
+
+	/**
+	 * Returns a row of the hex dump.
+	 * <p>
+	 * For example: {@code 48 65 6c 6c 6f 00 ... |Hello. ... |}. Bytes that are beyond the end of the value are
+	 * rendered as spaces.
+	 *
+	 * @param value  a value
+	 * @param offset the offset of the row
+	 * @return the row, or an empty string if the value does not contain the row
+	 */
+	public static String toRow(ByteBuffer value, int offset)
+	{
+		int end = Math.min(value.limit(), offset + BYTES_PER_ROW);
+		if (offset >= end)
+			return "";
+		StringBuilder hex = new StringBuilder(BYTES_PER_ROW * 4 + 3);
+		StringBuilder ascii = new StringBuilder(BYTES_PER_ROW + 2);
+		ascii.append('|');
+		for (int i = offset; i < offset + BYTES_PER_ROW; ++i)
+		{
+			if (i < end)
+			{
+				int b = value.get(i) & 0xFF;
+				hex.append(HEX_DIGITS[b >>> 4]).append(HEX_DIGITS[b & 0x0F]).append(' ');
+				if (b >= 0x20 && b < 0x7F)
+					ascii.append((char) b);
+				else
+					ascii.append('.');
+			}
+			else
+			{
+				hex.append("   ");
+				ascii.append(' ');
+			}
+		}
+		ascii.append('|');
+		return hex.append(' ').append(ascii).toString();
+	}
+
+	/**
+	 * A range of rows that should be displayed to the user.
+	 *
+	 * @param firstRow        the offset of the first row
+	 * @param endOfRows       the offset after the last row
+	 * @param truncated       {@code true} if the difference continues beyond the last row
+	 * @param moreDifferences {@code true} if additional differences exist beyond this window
+	 */
+	record Window(int firstRow, int endOfRows, boolean truncated, boolean moreDifferences)
+	{
+		/**
+		 * @return a copy of this window that indicates that additional differences exist after it
+		 */
+		public Window withMoreDifferences()
+		{
+			return new Window(firstRow, endOfRows, truncated, true);
+		}
+	}
+}
@@ -4,8 +4,16 @@
  */
 package io.github.cowwoc.requirements13.java.internal.message.diff;
 
+import com.github.difflib.DiffUtils;
+import com.github.difflib.algorithm.myers.MyersDiffWithLinearSpace;
+import com.github.difflib.patch.AbstractDelta;
+import com.github.difflib.patch.ChangeDelta;
+import com.github.difflib.patch.Chunk;
+import com.github.difflib.patch.DeltaType;
+import io.github.cowwoc.requirements13.java.GlobalConfiguration;
 import io.github.cowwoc.requirements13.java.internal.Configuration;
 import io.github.cowwoc.requirements13.java.internal.StringMappers;
+import io.github.cowwoc.requirements13.java.internal.message.diff.BinaryDiff.Window;
 import io.github.cowwoc.requirements13.java.internal.message.section.ContextSection;
 import io.github.cowwoc.requirements13.java.internal.message.section.MessageBuilder;
 import io.github.cowwoc.requirements13.java.internal.message.section.MessageSection;
@@ -13,11 +21,23 @@ import io.github.cowwoc.requirements13.java.internal.message.section.StringSecti
 import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
 import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.SequencedMap;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.function.Function;
 
 import static io.github.cowwoc.requirements13.java.internal.util.ValidationTarget.invalid;
 import static io.github.cowwoc.requirements13.java.internal.util.ValidationTarget.valid;
@@ -87,7 +107,29 @@ public final class ContextGenerator
 
 		this.scope = scope;
 		this.configuration = configuration;
-		this.diffGenerator = new DiffGenerator(scope.getGlobalConfiguration().terminalEncoding());
+		GlobalConfiguration globalConfiguration = scope.getGlobalConfiguration();
+		this.diffGenerator = new DiffGenerator(globalConfiguration.terminalEncoding(),
+			globalConfiguration.diffParallelism());
+		this.allowDiff = configuration.allowDiff();
+		this.actualName = actualName;
+		this.expectedName = expectedName;
+	}
+
+	/**
+	 * Creates a ContextGenerator that reuses an existing diff generator.
+	 *
+	 * @param scope         the application configuration
+	 * @param configuration the validator configuration
+	 * @param diffGenerator the diff generator
+	 * @param actualName    the name of the actual value
+	 * @param expectedName  the name of the expected value
+	 */
+	private ContextGenerator(ApplicationScope scope, Configuration configuration, DiffGenerator diffGenerator,
+		String actualName, String expectedName)
+	{
+		this.scope = scope;
+		this.configuration = configuration;
+		this.diffGenerator = diffGenerator;
 		this.allowDiff = configuration.allowDiff();
 		this.actualName = actualName;
 		this.expectedName = expectedName;
@@ -155,6 +197,27 @@ public final class ContextGenerator
 		{
 			return getContextOfList();
 		}
+		if (actualValue.map(BinaryDiff::isBinary).or(false) &&
+			expectedValue.map(BinaryDiff::isBinary).or(false))
+		{
+			List<MessageSection> context = getContextOfBytes();
+			if (!context.isEmpty())
+				return context;
+		}
+		else if (actualValue.map(v -> v instanceof Map).or(false) &&
+			expectedValue.map(v -> v instanceof Map).or(false))
+		{
+			List<MessageSection> context = getContextOfMap();
+			if (!context.isEmpty())
+				return context;
+		}
+		else if (actualValue.map(v -> v instanceof Set).or(false) &&
+			expectedValue.map(v -> v instanceof Set).or(false))
+		{
+			List<MessageSection> context = getContextOfSet();
+			if (!context.isEmpty())
+				return context;
+		}
 		return getContextOfObjects();
 	}
 
@@ -191,90 +254,441 @@ public final class ContextGenerator
 
 	/**
 	 * Generates a List-specific exception context from the actual and expected values.
+	 * <p>
+	 * Elements are aligned using a longest common subsequence before they are compared, so inserting or
+	 * removing an element does not cause all subsequent elements to be reported as different. Only elements
+	 * that were modified, inserted or removed get diffed.
 	 *
 	 * @return the difference between the expected and actual values
 	 * @throws AssertionError if the actual or expected values do not exist
 	 */
 	public List<MessageSection> getContextOfList()
 	{
-		List<?> actualAsList = valueToList(actualValue.or(null));
-		List<?> expectedAsList = valueToList(expectedValue.or(null));
-		int actualSize = actualAsList.size();
-		int expectedSize = expectedAsList.size();
-		int maxSize = Math.max(actualSize, expectedSize);
+		List<?> actualAsList = toRandomAccess(valueToList(actualValue.or(null)));
+		List<?> expectedAsList = toRandomAccess(valueToList(expectedValue.or(null)));
+		List<AbstractDelta<Integer>> deltas = alignElements(actualAsList, expectedAsList);
+
+		int numberOfRows = 0;
+		for (AbstractDelta<Integer> delta : deltas)
+			numberOfRows += Math.max(delta.getSource().size(), delta.getTarget().size());
 
 		List<MessageSection> components = new ArrayList<>();
-		// Indicates if the previous index was equal
+		// Indicates if the previous row was equal
 		boolean skippedEqualElements = false;
-		int actualIndex = 0;
-		int expectedIndex = 0;
-		for (int i = 0; i < maxSize; ++i)
+		int row = 0;
+		for (AbstractDelta<Integer> delta : deltas)
 		{
-			boolean elementsAreEqual = true;
-			boolean actualLineExists = i < actualSize;
-
-			String actualNameLine;
-			ValidationTarget<Object> actualValueLine;
-			if (actualLineExists)
+			Chunk<Integer> actualChunk = delta.getSource();
+			Chunk<Integer> expectedChunk = delta.getTarget();
+			int rowsInDelta = Math.max(actualChunk.size(), expectedChunk.size());
+			boolean elementsAreEqual = delta.getType() == DeltaType.EQUAL;
+			for (int i = 0; i < rowsInDelta; ++i, ++row)
 			{
-				actualNameLine = actualName + "[" + actualIndex + "]";
-				actualValueLine = valid(actualAsList.get(i));
-				++actualIndex;
-			}
-			else
-			{
-				actualNameLine = actualName;
-				actualValueLine = invalid();
-				elementsAreEqual = false;
+				if (elementsAreEqual && row != 0 && row != numberOfRows - 1)
+				{
+					// Skip identical elements, unless they are the first or last element.
+					skippedEqualElements = true;
+					continue;
+				}
+
+				String actualNameLine;
+				boolean actualLineExists = i < actualChunk.size();
+				int actualIndex = actualChunk.getPosition() + i;
+				if (actualLineExists)
+					actualNameLine = actualName + "[" + actualIndex + "]";
+				else
+					actualNameLine = actualName;
+
+				String expectedNameLine;
+				boolean expectedLineExists = i < expectedChunk.size();
+				int expectedIndex = expectedChunk.getPosition() + i;
+				if (expectedLineExists)
+					expectedNameLine = expectedName + "[" + expectedIndex + "]";
+				else
+					expectedNameLine = expectedName;
+
+				ContextGenerator elementGenerator = newChild(actualNameLine, expectedNameLine).
+					allowLegend(false);
+				if (actualLineExists)
+					elementGenerator.actualValue(actualAsList.get(actualIndex));
+				if (expectedLineExists)
+					elementGenerator.expectedValue(expectedAsList.get(expectedIndex));
+
+				if (skippedEqualElements)
+				{
+					skippedEqualElements = false;
+					components.add(skipEqualLines());
+				}
+				if (!components.isEmpty())
+				{
+					// Insert an empty line between each diff section
+					components.add(new StringSection(""));
+				}
+				components.addAll(elementGenerator.build());
 			}
+		}
+		return components;
+	}
 
-			boolean expectedLineExists = i < expectedSize;
-			String expectedNameLine;
-			ValidationTarget<Object> expectedValueLine;
-			if (expectedLineExists)
+	/**
+	 * Aligns the elements of two lists.
+	 * <p>
+	 * Each element is mapped to an integer that uniquely identifies its equivalence class, so that the diff
+	 * algorithm compares integers instead of invoking {@code equals()} on the elements repeatedly.
+	 *
+	 * @param actual   the actual list
+	 * @param expected the expected list
+	 * @return deltas that transform {@code actual} into {@code expected}, including {@code EQUAL} deltas
+	 */
+	private static List<AbstractDelta<Integer>> alignElements(List<?> actual, List<?> expected)
+	{
+		Map<Object, Integer> elementToId = HashMap.newHashMap(actual.size() + expected.size());
+		List<Integer> actualIds = toIds(actual, elementToId);
+		List<Integer> expectedIds = toIds(expected, elementToId);
+		List<AbstractDelta<Integer>> deltas = DiffUtils.diff(actualIds, expectedIds,
+			new MyersDiffWithLinearSpace<>(), null, true).getDeltas();
+		return mergeAdjacentChanges(deltas);
+	}
+
+	/**
+	 * Merges consecutive deletions and insertions into a single change, so that a modified element is
+	 * compared against its replacement instead of being reported as removed and then re-added.
+	 *
+	 * @param deltas the deltas returned by the diff algorithm
+	 * @return the merged deltas
+	 */
+	private static List<AbstractDelta<Integer>> mergeAdjacentChanges(List<AbstractDelta<Integer>> deltas)
+	{
+		List<AbstractDelta<Integer>> result = new ArrayList<>(deltas.size());
+		int i = 0;
+		while (i < deltas.size())
+		{
+			AbstractDelta<Integer> delta = deltas.get(i);
+			++i;
+			if (delta.getType() == DeltaType.EQUAL)
 			{
-				expectedNameLine = expectedName + "[" + expectedIndex + "]";
-				expectedValueLine = valid(expectedAsList.get(i));
-				++expectedIndex;
+				result.add(delta);
+				continue;
 			}
-			else
+			List<Integer> source = new ArrayList<>(delta.getSource().getLines());
+			List<Integer> target = new ArrayList<>(delta.getTarget().getLines());
+			while (i < deltas.size() && deltas.get(i).getType() != DeltaType.EQUAL)
 			{
-				expectedNameLine = expectedName;
-				expectedValueLine = invalid();
-				elementsAreEqual = false;
+				AbstractDelta<Integer> next = deltas.get(i);
+				source.addAll(next.getSource().getLines());
+				target.addAll(next.getTarget().getLines());
+				++i;
 			}
-			ContextGenerator elementGenerator = new ContextGenerator(scope, configuration, actualNameLine,
-				expectedNameLine).
-				allowLegend(false);
-			actualValueLine.ifValid(elementGenerator::actualValue);
-			expectedValueLine.ifValid(elementGenerator::expectedValue);
-
-			elementsAreEqual = elementsAreEqual && actualValueLine.equals(expectedValueLine);
-			if (i != 0 && i != maxSize - 1 && elementsAreEqual)
+			result.add(new ChangeDelta<>(new Chunk<>(delta.getSource().getPosition(), source),
+				new Chunk<>(delta.getTarget().getPosition(), target)));
+		}
+		return result;
+	}
+
+	/**
+	 * @param elements    a list of elements
+	 * @param elementToId a mapping from each element to its identifier, updated by this method
+	 * @return the identifiers of the elements
+	 */
+	private static List<Integer> toIds(List<?> elements, Map<Object, Integer> elementToId)
+	{
+		List<Integer> ids = new ArrayList<>(elements.size());
+		for (Object element : elements)
+		{
+			Integer id = elementToId.get(element);
+			if (id == null)
 			{
-				// Skip identical elements, unless they are the first or last element.
-				skippedEqualElements = true;
-				continue;
+				id = elementToId.size();
+				elementToId.put(element, id);
 			}
-			if (skippedEqualElements)
+			ids.add(id);
+		}
+		return ids;
+	}
+
+	/**
+	 * @param list a list
+	 * @return a list that supports fast random access
+	 */
+	private static List<?> toRandomAccess(List<?> list)
+	{
+		if (list instanceof RandomAccess)
+			return list;
+		return new ArrayList<>(list);
+	}
+
+	/**
+	 * Returns a generator that shares this generator's configuration and diff generator.
+	 *
+	 * @param actualName   the name of the actual value
+	 * @param expectedName the name of the expected value
+	 * @return a new generator
+	 */
+	private ContextGenerator newChild(String actualName, String expectedName)
+	{
+		return new ContextGenerator(scope, configuration, diffGenerator, actualName, expectedName);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<?> valueToList(Object value)
+	{
+		return (List<Object>) value;
+	}
+
+	/**
+	 * Generates a Map-specific exception context from the actual and expected values.
+	 * <p>
+	 * Entries are matched by key. Only entries that were added, removed or whose value changed are returned,
+	 * and only the values of changed entries get diffed. Entries are listed in the order of their keys (see
+	 * {@link #inStableOrder(Object, Collection, Function)}).
+	 *
+	 * @return the difference between the expected and actual values, or an empty list if the maps contain the
+	 * 	same entries
+	 * @throws AssertionError if the actual or expected values do not exist
+	 */
+	private List<MessageSection> getContextOfMap()
+	{
+		Map<?, ?> actualAsMap = (Map<?, ?>) actualValue.or(null);
+		Map<?, ?> expectedAsMap = (Map<?, ?>) expectedValue.or(null);
+		StringMappers stringMappers = configuration.stringMappers();
+
+		// Match the entries before sorting them, so that only the entries that are reported get sorted
+		List<Entry<?, ?>> changedOrAdded = new ArrayList<>();
+		boolean skippedEqualEntries = false;
+		for (Entry<?, ?> actualEntry : actualAsMap.entrySet())
+		{
+			Object key = actualEntry.getKey();
+			if (expectedAsMap.containsKey(key) && Objects.equals(actualEntry.getValue(), expectedAsMap.get(key)))
+				skippedEqualEntries = true;
+			else
+				changedOrAdded.add(actualEntry);
+		}
+		List<Entry<?, ?>> removed = new ArrayList<>();
+		for (Entry<?, ?> expectedEntry : expectedAsMap.entrySet())
+		{
+			if (!actualAsMap.containsKey(expectedEntry.getKey()))
+				removed.add(expectedEntry);
+		}
+
+		List<MessageSection> components = new ArrayList<>();
+		for (Entry<?, ?> actualEntry : inStableOrder(actualAsMap, changedOrAdded, Entry::getKey))
+		{
+			Object key = actualEntry.getKey();
+			Object actualElement = actualEntry.getValue();
+			String keyAsString = stringMappers.toString(key);
+			ContextGenerator entryGenerator;
+			if (expectedAsMap.containsKey(key))
 			{
-				skippedEqualElements = false;
-				components.add(skipEqualLines());
+				Object expectedElement = expectedAsMap.get(key);
+				entryGenerator = newChild(actualName + "[" + keyAsString + "]",
+					expectedName + "[" + keyAsString + "]").
+					actualValue(actualElement).
+					expectedValue(expectedElement);
 			}
-			if (!components.isEmpty())
+			else
 			{
-				// Insert an empty line between each diff section
-				components.add(new StringSection(""));
+				entryGenerator = newChild(actualName + "[" + keyAsString + "]", expectedName).
+					actualValue(actualElement);
 			}
-			components.addAll(elementGenerator.build());
+			addElement(components, entryGenerator);
+		}
+		for (Entry<?, ?> expectedEntry : inStableOrder(expectedAsMap, removed, Entry::getKey))
+		{
+			Object key = expectedEntry.getKey();
+			ContextGenerator entryGenerator = newChild(actualName,
+				expectedName + "[" + stringMappers.toString(key) + "]").
+				expectedValue(expectedEntry.getValue());
+			addElement(components, entryGenerator);
+		}
+		// Equal entries have no position relative to the other entries, so they are summarized at the end
+		if (skippedEqualEntries && !components.isEmpty())
+			components.add(skipEqualLines());
+		return components;
+	}
+
+	/**
+	 * Generates a Set-specific exception context from the actual and expected values.
+	 * <p>
+	 * Only elements that are missing from one of the sets are returned, in the order returned by
+	 * {@link #inStableOrder(Object, Collection, Function)}.
+	 *
+	 * @return the difference between the expected and actual values, or an empty list if the sets contain the
+	 * 	same elements
+	 * @throws AssertionError if the actual or expected values do not exist
+	 */
+	private List<MessageSection> getContextOfSet()
+	{
+		Set<?> actualAsSet = (Set<?>) actualValue.or(null);
+		Set<?> expectedAsSet = (Set<?>) expectedValue.or(null);
+
+		// Match the elements before sorting them, so that only the elements that are reported get sorted
+		List<Object> added = new ArrayList<>();
+		boolean skippedEqualElements = false;
+		for (Object element : actualAsSet)
+		{
+			if (expectedAsSet.contains(element))
+				skippedEqualElements = true;
+			else
+				added.add(element);
+		}
+		List<Object> removed = new ArrayList<>();
+		for (Object element : expectedAsSet)
+		{
+			if (!actualAsSet.contains(element))
+				removed.add(element);
+		}
+
+		List<MessageSection> components = new ArrayList<>();
+		for (Object element : inStableOrder(actualAsSet, added, Function.identity()))
+		{
+			ContextGenerator elementGenerator = newChild(actualName, expectedName).
+				actualValue(element);
+			addElement(components, elementGenerator);
 		}
+		for (Object element : inStableOrder(expectedAsSet, removed, Function.identity()))
+		{
+			ContextGenerator elementGenerator = newChild(actualName, expectedName).
+				expectedValue(element);
+			addElement(components, elementGenerator);
+		}
+		// Equal elements have no position relative to the other elements, so they are summarized at the end
+		if (skippedEqualElements && !components.isEmpty())
+			components.add(skipEqualLines());
 		return components;
 	}
 
+	/**
+	 * Returns a subset of the elements of a {@code Set} or the entries of a {@code Map} in an order that does
+	 * not depend on their hash codes.
+	 * <p>
+	 * The elements of a {@code SortedSet} or {@code SortedMap} retain their order, so they must be listed in
+	 * the container's iteration order. Other elements are sorted by
+	 * the natural order of their keys or, if the keys are {@code null} or are not comparable to each other, by
+	 * the String representation of their keys.
+	 *
+	 * @param <E>        the type of elements
+	 * @param container  the {@code Set} or {@code Map}
+	 * @param elements   some elements of the container
+	 * @param elementKey returns the key of an element
+	 * @return the elements in a stable order
+	 */
+	private <E> Collection<E> inStableOrder(Object container, Collection<E> elements,
+		Function<? super E, ?> elementKey)
+	{
+		if (container instanceof SortedSet<?> || container instanceof SortedMap<?, ?>)
+			return elements;
+		List<E> sorted = new ArrayList<>(elements);
+		try
+		{
+			sorted.sort((first, second) -> compareNaturally(elementKey.apply(first), elementKey.apply(second)));
+		}
+		catch (ClassCastException expected)
+		{
+			// Keys are null or are not comparable to each other
+			StringMappers stringMappers = configuration.stringMappers();
+			Map<E, String> elementToString = new IdentityHashMap<>(sorted.size());
+			for (E element : sorted)
+				elementToString.put(element, stringMappers.toString(elementKey.apply(element)));
+			sorted.sort(Comparator.comparing(elementToString::get));
+		}
+		return sorted;
+	}
+
+	/**
+	 * Compares two values by their natural order.
+	 *
+	 * @param first  the first value
+	 * @param second the second value
+	 * @return a negative integer, zero, or a positive integer if {@code first} is less than, equal to, or
+	 * 	greater than {@code second}
+	 * @throws ClassCastException if the values are {@code null} or are not comparable to each other
+	 */
 	@SuppressWarnings("unchecked")
-	private static List<?> valueToList(Object value)
+	private static int compareNaturally(Object first, Object second)
 	{
-		return (List<Object>) value;
+		// null does not have a natural order
+		if (first == null || second == null)
+			throw new ClassCastException("null is not comparable");
+		return ((Comparable<Object>) first).compareTo(second);
+	}
+
+	/**
+	 * Appends the context of a single element.
+	 *
+	 * @param components the context to append to
+	 * @param generator  the generator of the element's context
+	 */
+	private static void addElement(List<MessageSection> components, ContextGenerator generator)
+	{
+		if (!components.isEmpty())
+		{
+			// Insert an empty line between each diff section
+			components.add(new StringSection(""));
+		}
+		components.addAll(generator.allowLegend(false).build());
+	}
+
+	/**
+	 * Generates a hex dump of the bytes that differ between the actual and expected values.
+	 * <p>
+	 * Each row is named after the offset of its first byte. Rows that are beyond the end of a value are
+	 * displayed as empty.
+	 *
+	 * @return the difference between the expected and actual values, or an empty list if the values contain
+	 * 	the same bytes
+	 * @throws AssertionError if the actual or expected values do not exist
+	 */
+	private List<MessageSection> getContextOfBytes()
+	{
+		ByteBuffer actualBytes = BinaryDiff.toByteBuffer(actualValue.or(null));
+		ByteBuffer expectedBytes = BinaryDiff.toByteBuffer(expectedValue.or(null));
+
+		List<MessageSection> components = new ArrayList<>();
+		int endOfPrevious = 0;
+		for (Window window : BinaryDiff.getWindows(actualBytes, expectedBytes))
+		{
+			if (window.firstRow() > endOfPrevious)
+			{
+				if (components.isEmpty())
+					components.add(new StringSection("[...]"));
+				else
+					components.add(skipEqualLines());
+			}
+			for (int row = window.firstRow(); row < window.endOfRows(); row += BinaryDiff.BYTES_PER_ROW)
+			{
+				String actualRow = BinaryDiff.toRow(actualBytes, row);
+				String actualNameLine;
+				if (actualRow.isEmpty())
+					actualNameLine = actualName;
+				else
+					actualNameLine = actualName + "[" + row + "]";
+
+				String expectedRow = BinaryDiff.toRow(expectedBytes, row);
+				String expectedNameLine;
+				if (expectedRow.isEmpty())
+					expectedNameLine = expectedName;
+				else
+					expectedNameLine = expectedName + "[" + row + "]";
+
+				if (!components.isEmpty())
+				{
+					// Insert an empty line between each diff section
+					components.add(new StringSection(""));
+				}
+				DiffResult lines = diffGenerator.diff(actualRow, expectedRow);
+				String diffLine;
+				if (lines.getEqualLines().getFirst() || lines.getDiffLines().isEmpty())
+					diffLine = "";
+				else
+					diffLine = lines.getDiffLines().getFirst();
+				components.add(getDiffSection(actualNameLine, lines.getActualLines().getFirst(), diffLine,
+					expectedNameLine, lines.getExpectedLines().getFirst()));
+			}
+			endOfPrevious = window.endOfRows();
+			if (window.truncated() || window.moreDifferences())
+				components.add(skipEqualLines());
+		}
+		return components;
 	}
 
 	/**
@@ -388,8 +802,7 @@ public final class ContextGenerator
 
 			if (!context.isEmpty())
 				context.add(new StringSection(""));
-			ContextGenerator elementGenerator = new ContextGenerator(scope, configuration, actualNameLine,
-				expectedNameLine).
+			ContextGenerator elementGenerator = newChild(actualNameLine, expectedNameLine).
 				actualValue(actualValueLine).
 				expectedValue(expectedValueLine);
 			context.add(elementGenerator.getDiffSection(actualNameLine, actualValueLine, diffLine, expectedNameLine,
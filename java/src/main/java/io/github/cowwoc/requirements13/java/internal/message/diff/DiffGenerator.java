@@ -16,44 +16,46 @@ import io.github.cowwoc.requirements13.java.TerminalEncoding;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.regex.MatchResult;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Generates a diff of two Strings.
  */
 public final class DiffGenerator
 {
-	// A "word" is defined as one or more characters that are surrounded by word delimiters.
-	//
-	// \p{Zs} matches any Unicode whitespace: https://www.regular-expressions.info/unicode.html
-	private static final Pattern WORD_DELIMITER = getWordDelimiter();
-
-	private static Pattern getWordDelimiter()
-	{
-		String whitespace = "\\p{Zs}+";
-		String newline = "\r\n|[\r\n]";
-		String specialCharacters = "[\\[\\](){}/\\\\*+\\-#:;.]";
-		return Pattern.compile(whitespace + "|" +
-			newline + "|" +
-			specialCharacters);
-	}
-
+	/**
+	 * If the generator runs on multiple threads, values whose combined length is greater than or equal to
+	 * this value are diffed in parallel.
+	 */
+	private static final int MINIMUM_LENGTH_FOR_PARALLEL_DIFF = 65_536;
 	private final TerminalEncoding encoding;
+	private final int parallelism;
 	private final String paddingMarker;
 	private final SimplifyDeltas simplifyDeltas = new SimplifyDeltas();
 
 	/**
+	 * Creates a generator that runs on the current thread.
+	 *
 	 * @param encoding the terminal encoding
 	 * @throws AssertionError if {@code encoding} is null
 	 */
 	public DiffGenerator(TerminalEncoding encoding)
+	{
+		this(encoding, 1);
+	}
+
+	/**
+	 * @param encoding    the terminal encoding
+	 * @param parallelism the maximum number of threads to diff very large values with ({@code 1} to use the
+	 *                    current thread)
+	 * @throws AssertionError if {@code encoding} is null or {@code parallelism} is less than 1
+	 */
+	public DiffGenerator(TerminalEncoding encoding, int parallelism)
 	{
 		assert encoding != null : "encoding may not be null";
+		assert parallelism >= 1 : "parallelism must be positive: " + parallelism;
 		this.encoding = encoding;
+		this.parallelism = parallelism;
 		this.paddingMarker = getPaddingMarker();
 	}
 
@@ -78,6 +80,10 @@ public final class DiffGenerator
 	 * <b>NOTE</b>: Colors may be disabled when stdin or stdout are redirected. To override this
 	 * behavior, use {@link GlobalConfiguration#terminalEncoding(TerminalEncoding)}.
 	 *
+	 * <p>
+	 * If the generator was created with a {@code parallelism} greater than 1, very large values are diffed
+	 * in parallel. Either way, the result is the same.
+	 *
 	 * @param actual   the actual value
 	 * @param expected the expected value
 	 * @return the calculated diff
@@ -85,13 +91,23 @@ public final class DiffGenerator
 	public DiffResult diff(String actual, String expected)
 	{
 		// Mark the end of the string to guard against cases that end with whitespace
-		List<Integer> actualWithEos = toCodepoints(actual + DiffConstants.EOS_MARKER);
-		List<Integer> expectedWithEos = toCodepoints(expected + DiffConstants.EOS_MARKER);
+		String actualWithEos = actual + DiffConstants.EOS_MARKER;
+		String expectedWithEos = expected + DiffConstants.EOS_MARKER;
 
 		DiffWriter writer = createDiffWriter();
 		// DiffUtils.diff() returns a list of deltas, where each delta is associated with a list of characters.
-		List<AbstractDelta<Integer>> deltas = DiffUtils.diff(actualWithEos, expectedWithEos, true).
-			getDeltas();
+		List<AbstractDelta<Integer>> deltas;
+		if (parallelism == 1 ||
+			actualWithEos.length() + expectedWithEos.length() < MINIMUM_LENGTH_FOR_PARALLEL_DIFF)
+		{
+			deltas = DiffUtils.diff(toCodepoints(actualWithEos), toCodepoints(expectedWithEos), true).
+				getDeltas();
+		}
+		else
+		{
+			deltas = DiffUtils.diff(toCodepoints(actualWithEos), toCodepoints(expectedWithEos),
+				new ParallelMyersDiff<>(parallelism), null, true).getDeltas();
+		}
 		simplifyDeltas.accept(deltas);
 		for (AbstractDelta<Integer> delta : deltas)
 			writeDelta(delta, writer);
@@ -104,7 +120,7 @@ public final class DiffGenerator
 	 * @param source a string
 	 * @return a view of the string as a list of codepoints
 	 */
-	private static List<Integer> toCodepoints(String source)
+	static List<Integer> toCodepoints(String source)
 	{
 		return new AbstractList<>()
 		{
@@ -196,14 +212,77 @@ public final class DiffGenerator
 			case XTERM_256_COLORS:
 			case RGB_888_COLORS:
 			{
-				line = line.replaceAll(Pattern.quote(DiffConstants.PREFIX) + ".+?" + Pattern.quote(
-					DiffConstants.POSTFIX), "");
+				line = removeDecorations(line);
 				break;
 			}
 		}
 		return containsOnly(line, paddingMarker);
 	}
 
+	/**
+	 * Removes ANSI color sequences from a line. Equivalent to
+	 * {@code line.replaceAll(Pattern.quote(PREFIX) + ".+?" + Pattern.quote(POSTFIX), "")} in a single pass.
+	 *
+	 * @param line a line
+	 * @return the line without any color sequences
+	 */
+	private static String removeDecorations(String line)
+	{
+		String prefix = DiffConstants.PREFIX;
+		int start = line.indexOf(prefix);
+		if (start == -1)
+			return line;
+		StringBuilder result = new StringBuilder(line.length());
+		int copyFrom = 0;
+		while (start != -1)
+		{
+			int end = endOfDecoration(line, start + prefix.length(), DiffConstants.POSTFIX);
+			if (end == -1)
+			{
+				// Not a color sequence. Resume the search at the next character.
+				start = line.indexOf(prefix, start + 1);
+				continue;
+			}
+			result.append(line, copyFrom, start);
+			copyFrom = end;
+			start = line.indexOf(prefix, end);
+		}
+		result.append(line, copyFrom, line.length());
+		return result.toString();
+	}
+
+	/**
+	 * Looks for the end of a color sequence, requiring at least one character in between the prefix and
+	 * postfix. Similar to the regex {@code .}, the sequence may not span line terminators.
+	 *
+	 * @param line    a line
+	 * @param from    the index right after the prefix of the color sequence
+	 * @param postfix the postfix of the color sequence
+	 * @return the index right after the postfix, or {@code -1} if the sequence is not terminated
+	 */
+	private static int endOfDecoration(String line, int from, String postfix)
+	{
+		int length = line.length();
+		for (int i = from; i < length; ++i)
+		{
+			if (i > from && line.startsWith(postfix, i))
+				return i + postfix.length();
+			if (isLineTerminator(line.charAt(i)))
+				return -1;
+		}
+		return -1;
+	}
+
+	/**
+	 * @param character a character
+	 * @return {@code true} if the regex {@code .} does not match the character
+	 */
+	private static boolean isLineTerminator(char character)
+	{
+		return character == '\n' || character == '\r' || character == '\u0085' || character == '\u2028' ||
+			character == '\u2029';
+	}
+
 	/**
 	 * @param source the string to search within
 	 * @param target the string to search for
@@ -336,29 +415,7 @@ public final class DiffGenerator
 			AbstractDelta<Integer> delta = deltas.getFirst();
 			indexOfStartDelta = 0;
 			String actual = fromCodepoints(delta.getSource().getLines());
-			MatchResult match = lastIndexOf(actual, WORD_DELIMITER).orElse(null);
-			if (match == null)
-				startOfWord = 0;
-			else
-				startOfWord = match.end();
-		}
-
-		/**
-		 * Returns the last match returned by a regular expression.
-		 *
-		 * @param source the string to search within
-		 * @param target the regular expression to search for
-		 * @return the match result associated with the last occurrence of {@code target} in {@code source}
-		 */
-		public static Optional<MatchResult> lastIndexOf(String source, Pattern target)
-		{
-			assert source != null : "source may not be null";
-			assert target != null : "target may not be null";
-			Matcher matcher = target.matcher(source);
-			Optional<MatchResult> matchResult = Optional.empty();
-			while (matcher.find())
-				matchResult = Optional.of(matcher.toMatchResult());
-			return matchResult;
+			startOfWord = Math.max(0, WordDelimiters.endOfLast(actual));
 		}
 
 		/**
@@ -374,11 +431,11 @@ public final class DiffGenerator
 				if (delta.getType() == DeltaType.EQUAL)
 				{
 					String actual = fromCodepoints(delta.getSource().getLines());
-					Matcher matcher = WORD_DELIMITER.matcher(actual);
-					if (matcher.find())
+					WordDelimiters.Match delimiter = WordDelimiters.first(actual);
+					if (delimiter != null)
 					{
-						endOfWord = matcher.start();
-						startOfNextWord = matcher.end();
+						endOfWord = delimiter.start();
+						startOfNextWord = delimiter.end();
 						indexOfEndDelta = i;
 						return;
 					}
@@ -581,11 +638,14 @@ public final class DiffGenerator
 			if (delta.getType() == DeltaType.EQUAL)
 			{
 				String actual = fromCodepoints(delta.getSource().getLines());
-				MatchResult result = lastIndexOf(actual, WORD_DELIMITER).orElseThrow(() ->
-					new AssertionError("Expecting result to be equal to " +
+				int endOfDelimiter = WordDelimiters.endOfLast(actual);
+				if (endOfDelimiter == -1)
+				{
+					throw new AssertionError("Expecting result to be equal to " +
 						"indexOfNextWordInEndDelta (" + startOfNextWord + ") or later.\n" +
-						"actual: '" + actual + "'"));
-				startOfWord = result.end();
+						"actual: '" + actual + "'");
+				}
+				startOfWord = endOfDelimiter;
 			}
 			return true;
 		}
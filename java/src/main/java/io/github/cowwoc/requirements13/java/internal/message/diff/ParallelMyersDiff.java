@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.message.diff;
+
+import com.github.difflib.algorithm.Change;
+import com.github.difflib.algorithm.DiffAlgorithmI;
+import com.github.difflib.algorithm.DiffAlgorithmListener;
+import com.github.difflib.algorithm.myers.MyersDiff;
+import com.github.difflib.algorithm.myers.PathNode;
+import com.github.difflib.patch.DeltaType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Myers' diff algorithm, with the diagonals of each round explored in parallel.
+ * <p>
+ * Round {@code d} extends every diagonal by one edit, and each diagonal only depends on its neighbors from
+ * round {@code d - 1}. The diagonals of a round are therefore extended independently of each other, while
+ * the rounds themselves run in order. This yields the same path, and the same changes, as {@link MyersDiff}.
+ *
+ * @param <T> the type of elements being compared
+ */
+final class ParallelMyersDiff<T> implements DiffAlgorithmI<T>
+{
+	/**
+	 * Rounds are only split into tasks that extend at least this many diagonals.
+	 */
+	private static final int MINIMUM_DIAGONALS_PER_TASK = 4;
+	/**
+	 * The pools that the algorithm runs on, indexed by their parallelism. The pools are shared by all
+	 * instances. Their threads are daemons that exit after being idle for a while.
+	 */
+	private static final ConcurrentMap<Integer, ForkJoinPool> PARALLELISM_TO_POOL = new ConcurrentHashMap<>();
+	private final ForkJoinPool pool;
+	private final int parallelism;
+
+	/**
+	 * @param parallelism the maximum number of threads to run on
+	 * @throws AssertionError if {@code parallelism} is less than 1
+	 */
+	ParallelMyersDiff(int parallelism)
+	{
+		assert parallelism >= 1 : "parallelism must be positive: " + parallelism;
+		this.pool = PARALLELISM_TO_POOL.computeIfAbsent(parallelism, ForkJoinPool::new);
+		this.parallelism = parallelism;
+	}
+
+	@Override
+	public List<Change> computeDiff(List<T> source, List<T> target, DiffAlgorithmListener progress)
+	{
+		if (progress != null)
+			progress.diffStart();
+		PathNode path = pool.invoke(ForkJoinTask.adapt(() -> buildPath(source, target, progress)));
+		List<Change> changes = buildRevision(path);
+		if (progress != null)
+			progress.diffEnd();
+		return changes;
+	}
+
+	/**
+	 * Finds the shortest path from the start of both lists to their end.
+	 *
+	 * @param source   the original list
+	 * @param target   the revised list
+	 * @param progress (optional) the listener to notify of the algorithm's progress
+	 * @return the last node of the path
+	 * @throws IllegalStateException if no path was found
+	 */
+	private PathNode buildPath(List<T> source, List<T> target, DiffAlgorithmListener progress)
+	{
+		int sourceSize = source.size();
+		int targetSize = target.size();
+		int maxRounds = sourceSize + targetSize + 1;
+		int middle = maxRounds;
+		// The furthest-reaching node of each diagonal, indexed by "middle + diagonal"
+		PathNode[] diagonals = new PathNode[1 + 2 * maxRounds];
+		diagonals[middle + 1] = new PathNode(0, -1, true, true, null);
+		// The path ends on this diagonal
+		int lastDiagonal = sourceSize - targetSize;
+		for (int d = 0; d < maxRounds; ++d)
+		{
+			if (progress != null)
+				progress.diffStep(d, maxRounds);
+			int numberOfDiagonals = d + 1;
+			int numberOfTasks = Math.min(parallelism, numberOfDiagonals / MINIMUM_DIAGONALS_PER_TASK);
+			if (numberOfTasks <= 1)
+				extendDiagonals(source, target, diagonals, middle, d, 0, numberOfDiagonals);
+			else
+			{
+				List<ForkJoinTask<?>> tasks = new ArrayList<>(numberOfTasks);
+				for (int task = 0; task < numberOfTasks; ++task)
+				{
+					int first = numberOfDiagonals * task / numberOfTasks;
+					int end = numberOfDiagonals * (task + 1) / numberOfTasks;
+					int round = d;
+					tasks.add(ForkJoinTask.adapt(() ->
+						extendDiagonals(source, target, diagonals, middle, round, first, end)));
+				}
+				ForkJoinTask.invokeAll(tasks);
+			}
+			if (Math.abs(lastDiagonal) <= d && (lastDiagonal + d) % 2 == 0)
+			{
+				PathNode node = diagonals[middle + lastDiagonal];
+				if (node.i >= sourceSize && node.j >= targetSize)
+					return node;
+			}
+			// Release the nodes of the previous round that no longer lead anywhere
+			for (int k = -d; k <= d; k += 2)
+				diagonals[middle + k - 1] = null;
+		}
+		throw new IllegalStateException("Could not find a diff path");
+	}
+
+	/**
+	 * Extends a range of diagonals by one edit, followed by as many matching elements as possible.
+	 * <p>
+	 * The diagonals of round {@code d} are {@code -d, -d + 2, ..., d}. Each diagonal only reads the nodes of
+	 * its neighbors, which belong to the previous round, and only writes its own node.
+	 *
+	 * @param source    the original list
+	 * @param target    the revised list
+	 * @param diagonals the furthest-reaching node of each diagonal
+	 * @param middle    the index of diagonal 0 in {@code diagonals}
+	 * @param d         the number of edits in the round
+	 * @param first     the index of the first diagonal to extend, counting from {@code -d}
+	 * @param end       the index after the last diagonal to extend, counting from {@code -d}
+	 */
+	private void extendDiagonals(List<T> source, List<T> target, PathNode[] diagonals, int middle, int d,
+		int first, int end)
+	{
+		int sourceSize = source.size();
+		int targetSize = target.size();
+		for (int index = first; index < end; ++index)
+		{
+			int k = -d + 2 * index;
+			int kMiddle = middle + k;
+			PathNode previous;
+			int i;
+			if (k == -d || (k != d && diagonals[kMiddle - 1].i < diagonals[kMiddle + 1].i))
+			{
+				// Insertion: move down from the diagonal above
+				previous = diagonals[kMiddle + 1];
+				i = previous.i;
+			}
+			else
+			{
+				// Deletion: move right from the diagonal below
+				previous = diagonals[kMiddle - 1];
+				i = previous.i + 1;
+			}
+			int j = i - k;
+			PathNode node = new PathNode(i, j, false, false, previous);
+			while (i < sourceSize && j < targetSize && Objects.equals(source.get(i), target.get(j)))
+			{
+				++i;
+				++j;
+			}
+			if (i != node.i)
+				node = new PathNode(i, j, true, false, node);
+			diagonals[kMiddle] = node;
+		}
+	}
+
+	/**
+	 * Converts a path to a list of changes.
+	 *
+	 * @param path the last node of the path
+	 * @return the changes, from the end of the lists to their start
+	 * @throws IllegalStateException if the path contains consecutive snakes
+	 */
+	private static List<Change> buildRevision(PathNode path)
+	{
+		List<Change> changes = new ArrayList<>();
+		PathNode node = path;
+		if (node.isSnake())
+			node = node.prev;
+		while (node != null && node.prev != null && node.prev.j >= 0)
+		{
+			if (node.isSnake())
+				throw new IllegalStateException("Found snake when looking for diff");
+			int i = node.i;
+			int j = node.j;
+			node = node.prev;
+			int previousI = node.i;
+			int previousJ = node.j;
+			DeltaType type;
+			if (previousI == i && previousJ != j)
+				type = DeltaType.INSERT;
+			else if (previousI != i && previousJ == j)
+				type = DeltaType.DELETE;
+			else
+				type = DeltaType.CHANGE;
+			changes.add(new Change(type, previousI, i, previousJ, j));
+			if (node.isSnake())
+				node = node.prev;
+		}
+		return changes;
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.message.diff;
+
+/**
+ * Locates word delimiters using a lookup table instead of a regular expression.
+ * <p>
+ * A "word" is defined as one or more characters that are surrounded by word delimiters. A delimiter is one
+ * of:
+ * <ul>
+ *   <li>One or more Unicode space separators ({@code \p{Zs}+}).</li>
+ *   <li>A newline ({@code \r\n}, {@code \r} or {@code \n}).</li>
+ *   <li>One of the special characters {@code [](){}/\*+-#:;.}</li>
+ * </ul>
+ */
+final class WordDelimiters
+{
+	private static final byte NOT_A_DELIMITER = 0;
+	private static final byte WHITESPACE = 1;
+	private static final byte CARRIAGE_RETURN = 2;
+	private static final byte LINE_FEED = 3;
+	private static final byte SPECIAL_CHARACTER = 4;
+	/**
+	 * The delimiter type of each Latin-1 character.
+	 */
+	private static final byte[] LATIN1_TYPES = getLatin1Types();
+
+	/**
+	 * @return the delimiter type of each Latin-1 character
+	 */
+	private static byte[] getLatin1Types()
+	{
+		byte[] types = new byte[256];
+		for (int i = 0; i < types.length; ++i)
+		{
+			if (Character.getType(i) == Character.SPACE_SEPARATOR)
+				types[i] = WHITESPACE;
+		}
+		types['\r'] = CARRIAGE_RETURN;
+		types['\n'] = LINE_FEED;
+		for (char specialCharacter : "[](){}/\\*+-#:;.".toCharArray())
+			types[specialCharacter] = SPECIAL_CHARACTER;
+		return types;
+	}
+
+	/**
+	 * Prevent construction.
+	 */
+	private WordDelimiters()
+	{
+	}
+
+	/**
+	 * @param character a character
+	 * @return the delimiter type of the character
+	 */
+	private static byte getType(char character)
+	{
+		if (character < LATIN1_TYPES.length)
+			return LATIN1_TYPES[character];
+		// All space separators reside in the Basic Multilingual Plane so there is no need to look up surrogate
+		// pairs.
+		if (Character.getType(character) == Character.SPACE_SEPARATOR)
+			return WHITESPACE;
+		return NOT_A_DELIMITER;
+	}
+
+	/**
+	 * Returns the first delimiter in a string.
+	 *
+	 * @param text the string to search within
+	 * @return the bounds of the first delimiter, or {@code null} if no delimiter was found
+	 * @throws AssertionError if {@code text} is null
+	 */
+	public static Match first(CharSequence text)
+	{
+		assert text != null : "text may not be null";
+		int length = text.length();
+		for (int i = 0; i < length; ++i)
+		{
+			switch (getType(text.charAt(i)))
+			{
+				case NOT_A_DELIMITER:
+					break;
+				case WHITESPACE:
+				{
+					int end = i + 1;
+					while (end < length && getType(text.charAt(end)) == WHITESPACE)
+						++end;
+					return new Match(i, end);
+				}
+				case CARRIAGE_RETURN:
+				{
+					if (i + 1 < length && text.charAt(i + 1) == '\n')
+						return new Match(i, i + 2);
+					return new Match(i, i + 1);
+				}
+				default:
+					return new Match(i, i + 1);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the index right after the last delimiter in a string.
+	 * <p>
+	 * Every delimiter character belongs to a delimiter, and no delimiter extends past its last character, so
+	 * there is no need to scan the string from the beginning.
+	 *
+	 * @param text the string to search within
+	 * @return the end of the last delimiter, or {@code -1} if no delimiter was found
+	 * @throws AssertionError if {@code text} is null
+	 */
+	public static int endOfLast(CharSequence text)
+	{
+		assert text != null : "text may not be null";
+		for (int i = text.length() - 1; i >= 0; --i)
+		{
+			if (getType(text.charAt(i)) != NOT_A_DELIMITER)
+				return i + 1;
+		}
+		return -1;
+	}
+
+	/**
+	 * The bounds of a delimiter.
+	 *
+	 * @param start the index of the first character of the delimiter
+	 * @param end   the index right after the last character of the delimiter
+	 */
+	public record Match(int start, int end)
+	{
+	}
+}
@@ -5,8 +5,6 @@
 
 package io.github.cowwoc.requirements13.java.internal.message.section;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map.Entry;
 import java.util.SequencedMap;
 
@@ -31,26 +29,28 @@ public record ContextSection(SequencedMap<String, String> value) implements Mess
 	}
 
 	@Override
-	public List<String> getLinesWithPaddedKeys(int maxKeyLength)
+	public void appendTo(StringBuilder buffer, int maxKeyLength)
 	{
-		// Align the colons vertically
-		List<String> lines = new ArrayList<>();
 		for (Entry<String, String> entry : value.entrySet())
-			lines.add(alignLeft(entry.getKey(), maxKeyLength) + ": " + entry.getValue());
-		return lines;
+		{
+			appendKey(buffer, entry.getKey(), maxKeyLength);
+			buffer.append(entry.getValue()).append('\n');
+		}
 	}
 
 	/**
-	 * @param text      the {@code String} to align
-	 * @param minLength the minimum length of {@code text}
-	 * @return {@code text} padded on the right with spaces until its length is greater than or equal to
-	 * {@code minLength}
+	 * Appends a key and the separator that follows it, aligning the separators of all keys vertically.
+	 *
+	 * @param buffer       the buffer to append to
+	 * @param key          the key
+	 * @param maxKeyLength the maximum key length across all sections
+	 * @throws AssertionError if {@code key} is longer than {@code maxKeyLength}
 	 */
-	private static String alignLeft(String text, int minLength)
+	static void appendKey(StringBuilder buffer, String key, int maxKeyLength)
 	{
-		int actualLength = text.length();
-		if (actualLength > minLength)
-			return text;
-		return text + " ".repeat(minLength - actualLength);
+		assert key.length() <= maxKeyLength : "key: " + key + ", maxKeyLength: " + maxKeyLength;
+		buffer.append(key);
+		buffer.repeat(' ', maxKeyLength - key.length());
+		buffer.append(": ");
 	}
-}
\ No newline at end of file
+}
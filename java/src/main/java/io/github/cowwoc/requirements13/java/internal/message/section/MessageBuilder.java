@@ -5,7 +5,6 @@
 
 package io.github.cowwoc.requirements13.java.internal.message.section;
 
-import io.github.cowwoc.requirements13.java.internal.StringMappers;
 import io.github.cowwoc.requirements13.java.internal.message.diff.ContextGenerator;
 import io.github.cowwoc.requirements13.java.internal.validator.AbstractValidator;
 
@@ -13,10 +12,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.SequencedMap;
-import java.util.StringJoiner;
 
 /**
  * Builds an exception message.
@@ -129,17 +125,10 @@ public final class MessageBuilder
 	/**
 	 * @return the contextual information associated with a validation failure
 	 */
-	private ContextSection getValidatorContext()
+	private ValidatorContextSection getValidatorContext()
 	{
-		Map<String, Optional<Object>> mergedContext = new LinkedHashMap<>(failureContext);
-		for (Entry<String, Optional<Object>> entry : validator.getContext().entrySet())
-			mergedContext.putIfAbsent(entry.getKey(), entry.getValue());
-
-		StringMappers stringMappers = validator.configuration().stringMappers();
-		SequencedMap<String, String> contextAsString = new LinkedHashMap<>();
-		for (Entry<String, Optional<Object>> entry : mergedContext.entrySet())
-			contextAsString.put(entry.getKey(), stringMappers.toString(entry.getValue().orElse(null)));
-		return new ContextSection(contextAsString);
+		return new ValidatorContextSection(failureContext, validator.getContextValues(),
+			validator.configuration().stringMappers());
 	}
 
 	/**
@@ -150,9 +139,20 @@ public final class MessageBuilder
 	 */
 	public static String quoteName(String name)
 	{
-		if (name.contains("."))
-			return name;
-		return "\"" + name + "\"";
+		if (isQuoted(name))
+			return "\"" + name + "\"";
+		return name;
+	}
+
+	/**
+	 * Indicates if {@link #quoteName(String)} quotes a name.
+	 *
+	 * @param name the name of a parameter
+	 * @return {@code false} if the name references a method call
+	 */
+	public static boolean isQuoted(String name)
+	{
+		return name.indexOf('.') == -1;
 	}
 
 	@Override
@@ -179,8 +179,8 @@ public final class MessageBuilder
 
 	private void addValidatorContextToContext(List<MessageSection> context)
 	{
-		ContextSection validatorContext = getValidatorContext();
-		if (!validatorContext.value().isEmpty())
+		ValidatorContextSection validatorContext = getValidatorContext();
+		if (!validatorContext.isEmpty())
 			context.add(validatorContext);
 	}
 
@@ -190,12 +190,12 @@ public final class MessageBuilder
 		for (MessageSection section : context)
 			maxKeyLength = Math.max(maxKeyLength, section.getMaxKeyLength());
 
-		StringJoiner lines = new StringJoiner("\n");
+		StringBuilder lines = new StringBuilder();
 		for (MessageSection section : context)
-		{
-			for (String line : section.getLinesWithPaddedKeys(maxKeyLength))
-				lines.add(line);
-		}
+			section.appendTo(lines, maxKeyLength);
+		// Remove the trailing newline
+		if (!lines.isEmpty())
+			lines.setLength(lines.length() - 1);
 		return lines.toString();
 	}
 
@@ -4,12 +4,10 @@
  */
 package io.github.cowwoc.requirements13.java.internal.message.section;
 
-import java.util.List;
-
 /**
  * A section of text that contains contextual information related to a validation failure.
  */
-public sealed interface MessageSection permits ContextSection, StringSection
+public sealed interface MessageSection permits ContextSection, StringSection, ValidatorContextSection
 {
 	/**
 	 * @return if the section contains key-value pairs, returns the maximum length of all keys; otherwise
@@ -18,8 +16,10 @@ public sealed interface MessageSection permits ContextSection, StringSection
 	int getMaxKeyLength();
 
 	/**
+	 * Appends this section's lines to a buffer, terminating each line with a newline.
+	 *
+	 * @param buffer       the buffer to append to
 	 * @param maxKeyLength the maximum key length across all sections
-	 * @return this section's lines, with the keys padded to fill {@code maxKeyLength} characters
 	 */
-	List<String> getLinesWithPaddedKeys(int maxKeyLength);
+	void appendTo(StringBuilder buffer, int maxKeyLength);
 }
\ No newline at end of file
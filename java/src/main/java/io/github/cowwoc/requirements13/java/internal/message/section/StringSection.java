@@ -5,8 +5,6 @@
 
 package io.github.cowwoc.requirements13.java.internal.message.section;
 
-import java.util.List;
-
 /**
  * A string that is added to the exception context.
  */
@@ -25,8 +23,8 @@ public record StringSection(String value) implements MessageSection
 	}
 
 	@Override
-	public List<String> getLinesWithPaddedKeys(int maxKeyLength)
+	public void appendTo(StringBuilder buffer, int maxKeyLength)
 	{
-		return List.of(value);
+		buffer.append(value).append('\n');
 	}
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.message.section;
+
+import io.github.cowwoc.requirements13.java.internal.StringMappers;
+import io.github.cowwoc.requirements13.java.internal.validator.ContextValue;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * The contextual information of a validator and of one of its failures.
+ * <p>
+ * Unlike {@link ContextSection}, the values are rendered directly into the exception message.
+ *
+ * @param failureContext   the contextual information of the failure
+ * @param validatorContext the contextual information of the validator. Entries whose name is also present
+ *                         in {@code failureContext} are omitted.
+ * @param stringMappers    the configuration used to map contextual values to a String
+ */
+record ValidatorContextSection(Map<String, Optional<Object>> failureContext,
+                               Map<String, ContextValue> validatorContext, StringMappers stringMappers)
+	implements MessageSection
+{
+	/**
+	 * @param failureContext   the contextual information of the failure
+	 * @param validatorContext the contextual information of the validator. Entries whose name is also
+	 *                         present in {@code failureContext} are omitted.
+	 * @param stringMappers    the configuration used to map contextual values to a String
+	 * @throws AssertionError if any of the arguments are null
+	 */
+	ValidatorContextSection
+	{
+		assert failureContext != null : "failureContext may not be null";
+		assert validatorContext != null : "validatorContext may not be null";
+		assert stringMappers != null : "stringMappers may not be null";
+	}
+
+	/**
+	 * @return {@code true} if the section does not contain any entries
+	 */
+	public boolean isEmpty()
+	{
+		return failureContext.isEmpty() && validatorContext.isEmpty();
+	}
+
+	@Override
+	public int getMaxKeyLength()
+	{
+		int maxKeyLength = 0;
+		for (String key : failureContext.keySet())
+			maxKeyLength = Math.max(maxKeyLength, key.length());
+		for (String key : validatorContext.keySet())
+			maxKeyLength = Math.max(maxKeyLength, key.length());
+		return maxKeyLength;
+	}
+
+	@Override
+	public void appendTo(StringBuilder buffer, int maxKeyLength)
+	{
+		for (Entry<String, Optional<Object>> entry : failureContext.entrySet())
+		{
+			ContextSection.appendKey(buffer, entry.getKey(), maxKeyLength);
+			stringMappers.appendTo(buffer, entry.getValue().orElse(null));
+			buffer.append('\n');
+		}
+		// The failure context takes precedence over the validator context. Validator context values are
+		// rendered once and reused by subsequent failures.
+		for (Entry<String, ContextValue> entry : validatorContext.entrySet())
+		{
+			if (failureContext.containsKey(entry.getKey()))
+				continue;
+			ContextSection.appendKey(buffer, entry.getKey(), maxKeyLength);
+			buffer.append(entry.getValue().toString(stringMappers)).append('\n');
+		}
+	}
+}
@@ -9,6 +9,7 @@ import io.github.cowwoc.requirements13.java.TerminalEncoding;
 import io.github.cowwoc.requirements13.java.internal.terminal.Terminal;
 
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Default global configuration.
@@ -16,6 +17,7 @@ import java.util.Set;
 public final class MainGlobalConfiguration implements GlobalConfiguration
 {
 	private final Terminal terminal;
+	private final AtomicInteger diffParallelism = new AtomicInteger(1);
 
 	/**
 	 * @param terminal the system configuration
@@ -48,10 +50,25 @@ public final class MainGlobalConfiguration implements GlobalConfiguration
 		return this;
 	}
 
+	@Override
+	public int diffParallelism()
+	{
+		return diffParallelism.get();
+	}
+
+	@Override
+	public GlobalConfiguration diffParallelism(int parallelism)
+	{
+		if (parallelism < 1)
+			throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+		diffParallelism.set(parallelism);
+		return this;
+	}
+
 	@Override
 	public String toString()
 	{
 		return "MainGlobalConfiguration[supportedTerminalEncodings=" + supportedTerminalEncodings() +
-			", terminalEncoding=" + terminalEncoding() + "]";
+			", terminalEncoding=" + terminalEncoding() + ", diffParallelism=" + diffParallelism() + "]";
 	}
 }
\ No newline at end of file
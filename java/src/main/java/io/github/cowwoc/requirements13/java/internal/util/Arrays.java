@@ -9,6 +9,8 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
 
 /**
  * Array helper functions.
@@ -118,6 +120,128 @@ public final class Arrays
 		return result;
 	}
 
+	/**
+	 * Converts the elements of an array to {@code long} values that are equal if and only if the elements
+	 * are equal.
+	 *
+	 * @param array an array
+	 * @return a new array containing the converted elements
+	 */
+	public static long[] toLongs(byte[] array)
+	{
+		long[] result = new long[array.length];
+		for (int i = 0; i < array.length; ++i)
+			result[i] = array[i];
+		return result;
+	}
+
+	/**
+	 * Converts the elements of an array to {@code long} values that are equal if and only if the elements
+	 * are equal.
+	 *
+	 * @param array an array
+	 * @return a new array containing the converted elements
+	 */
+	public static long[] toLongs(short[] array)
+	{
+		long[] result = new long[array.length];
+		for (int i = 0; i < array.length; ++i)
+			result[i] = array[i];
+		return result;
+	}
+
+	/**
+	 * Converts the elements of an array to {@code long} values that are equal if and only if the elements
+	 * are equal.
+	 *
+	 * @param array an array
+	 * @return a new array containing the converted elements
+	 */
+	public static long[] toLongs(int[] array)
+	{
+		long[] result = new long[array.length];
+		for (int i = 0; i < array.length; ++i)
+			result[i] = array[i];
+		return result;
+	}
+
+	/**
+	 * Converts the elements of an array to {@code long} values that are equal if and only if the elements
+	 * are equal.
+	 *
+	 * @param array an array
+	 * @return a new array containing the converted elements
+	 */
+	public static long[] toLongs(long[] array)
+	{
+		long[] result = new long[array.length];
+		for (int i = 0; i < array.length; ++i)
+			result[i] = array[i];
+		return result;
+	}
+
+	/**
+	 * Converts the elements of an array to {@code long} values that are equal if and only if the elements
+	 * are equal.
+	 *
+	 * @param array an array
+	 * @return a new array containing the converted elements
+	 */
+	public static long[] toLongs(boolean[] array)
+	{
+		long[] result = new long[array.length];
+		for (int i = 0; i < array.length; ++i)
+			result[i] = array[i] ? 1 : 0;
+		return result;
+	}
+
+	/**
+	 * Converts the elements of an array to {@code long} values that are equal if and only if the elements
+	 * are equal.
+	 *
+	 * @param array an array
+	 * @return a new array containing the converted elements
+	 */
+	public static long[] toLongs(char[] array)
+	{
+		long[] result = new long[array.length];
+		for (int i = 0; i < array.length; ++i)
+			result[i] = array[i];
+		return result;
+	}
+
+	/**
+	 * Converts the elements of an array to {@code long} values that are equal if and only if the elements
+	 * are equal. Elements are mapped the same way as
+	 * {@link Float#equals(Object)}.
+	 *
+	 * @param array an array
+	 * @return a new array containing the converted elements
+	 */
+	public static long[] toLongs(float[] array)
+	{
+		long[] result = new long[array.length];
+		for (int i = 0; i < array.length; ++i)
+			result[i] = Float.floatToIntBits(array[i]);
+		return result;
+	}
+
+	/**
+	 * Converts the elements of an array to {@code long} values that are equal if and only if the elements
+	 * are equal. Elements are mapped the same way as
+	 * {@link Double#equals(Object)}.
+	 *
+	 * @param array an array
+	 * @return a new array containing the converted elements
+	 */
+	public static long[] toLongs(double[] array)
+	{
+		long[] result = new long[array.length];
+		for (int i = 0; i < array.length; ++i)
+			result[i] = Double.doubleToLongBits(array[i]);
+		return result;
+	}
+
 	/**
 	 * @param array an array
 	 * @param o     an object to compare to
@@ -353,6 +477,27 @@ public final class Arrays
 	 */
 	public static <E> boolean isSorted(Collection<E> collection, Comparator<E> comparator)
 	{
+		return isSorted(collection, comparator, false);
+	}
+
+	/**
+	 * @param collection a collection
+	 * @param <E>        the type of elements in the collection
+	 * @param comparator a thread-safe comparator that indicates the expected order
+	 * @param parallel   {@code true} if elements may be compared in parallel
+	 * @return true if the collection is in order
+	 */
+	public static <E> boolean isSorted(Collection<E> collection, Comparator<E> comparator, boolean parallel)
+	{
+		if (collection instanceof List<E> list && list instanceof RandomAccess)
+		{
+			if (parallel)
+			{
+				return IntStream.range(1, list.size()).parallel().
+					allMatch(i -> comparator.compare(list.get(i - 1), list.get(i)) <= 0);
+			}
+			return indexOfUnsorted(list, comparator) == -1;
+		}
 		Iterator<E> i = collection.iterator();
 		if (!i.hasNext())
 			return true;
@@ -367,6 +512,46 @@ public final class Arrays
 		return true;
 	}
 
+	/**
+	 * @param list       a list
+	 * @param <E>        the type of elements in the list
+	 * @param comparator a comparator that indicates the expected order
+	 * @return the index of the first element that is less than the element before it, or {@code -1} if the
+	 * list is in order
+	 */
+	public static <E> int indexOfUnsorted(List<E> list, Comparator<E> comparator)
+	{
+		if (list instanceof RandomAccess)
+		{
+			int size = list.size();
+			if (size == 0)
+				return -1;
+			E left = list.getFirst();
+			for (int i = 1; i < size; ++i)
+			{
+				E right = list.get(i);
+				if (comparator.compare(left, right) > 0)
+					return i;
+				left = right;
+			}
+			return -1;
+		}
+		Iterator<E> i = list.iterator();
+		if (!i.hasNext())
+			return -1;
+		E left = i.next();
+		int index = 1;
+		while (i.hasNext())
+		{
+			E right = i.next();
+			if (comparator.compare(left, right) > 0)
+				return index;
+			left = right;
+			++index;
+		}
+		return -1;
+	}
+
 	/**
 	 * @param array      an array
 	 * @param <E>        the type of elements in the array
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.util;
+
+/**
+ * A probabilistic set that indicates whether an element might have been added to it.
+ * <p>
+ * {@link #mightContain(Object)} never returns {@code false} for an element that was added, but may return
+ * {@code true} for an element that was not. The filter is not thread-safe while elements are being added,
+ * but may be read concurrently once it is safely published.
+ */
+public final class BloomFilter
+{
+	private final long[] bits;
+	/**
+	 * The number of bits in the filter.
+	 */
+	private final int bitCount;
+	/**
+	 * The number of bits that are set for each element.
+	 */
+	private final int hashFunctions;
+
+	/**
+	 * @param bitCount      the number of bits in the filter
+	 * @param hashFunctions the number of bits that are set for each element
+	 */
+	private BloomFilter(int bitCount, int hashFunctions)
+	{
+		this.bits = new long[(bitCount + 63) / 64];
+		this.bitCount = bitCount;
+		this.hashFunctions = hashFunctions;
+	}
+
+	/**
+	 * Creates an empty filter.
+	 *
+	 * @param expectedElements         the number of elements that will be added
+	 * @param falsePositiveProbability the desired probability that {@link #mightContain(Object)} returns
+	 *                                 {@code true} for an element that was not added
+	 * @return an empty filter
+	 * @throws AssertionError if {@code expectedElements} is negative, or if {@code falsePositiveProbability}
+	 *                        is not between 0 and 1 (exclusive)
+	 */
+	public static BloomFilter of(int expectedElements, double falsePositiveProbability)
+	{
+		assert expectedElements >= 0 : expectedElements;
+		assert falsePositiveProbability > 0 && falsePositiveProbability < 1 : falsePositiveProbability;
+		int elements = Math.max(1, expectedElements);
+		double ln2 = Math.log(2);
+		double optimalBits = -elements * Math.log(falsePositiveProbability) / (ln2 * ln2);
+		int bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, Math.ceil(optimalBits)));
+		// Derive the number of hash functions from the probability rather than the number of bits. Otherwise,
+		// small sets would probe up to 44 bits each because the filter is padded to 64 bits.
+		int hashFunctions = (int) Math.max(1, Math.round(-Math.log(falsePositiveProbability) / ln2));
+		return new BloomFilter(bitCount, hashFunctions);
+	}
+
+	/**
+	 * Adds an element to the filter.
+	 *
+	 * @param element an element ({@code null} is allowed)
+	 */
+	public void add(Object element)
+	{
+		long hash = hash(element);
+		int first = (int) hash;
+		int second = (int) (hash >>> 32);
+		for (int i = 0; i < hashFunctions; ++i)
+		{
+			int index = indexOf(first + i * second);
+			bits[index >>> 6] |= 1L << index;
+		}
+	}
+
+	/**
+	 * Indicates if an element might have been added to the filter.
+	 *
+	 * @param element an element ({@code null} is allowed)
+	 * @return {@code false} if the element was definitely not added
+	 */
+	public boolean mightContain(Object element)
+	{
+		long hash = hash(element);
+		int first = (int) hash;
+		int second = (int) (hash >>> 32);
+		for (int i = 0; i < hashFunctions; ++i)
+		{
+			int index = indexOf(first + i * second);
+			if ((bits[index >>> 6] & (1L << index)) == 0)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @param combinedHash a hash code
+	 * @return the index of the bit that corresponds to the hash code
+	 */
+	private int indexOf(int combinedHash)
+	{
+		return (combinedHash & Integer.MAX_VALUE) % bitCount;
+	}
+
+	/**
+	 * Spreads the bits of an element's hash code across a {@code long}, using the finalization step of
+	 * MurmurHash3. The upper and lower halves of the result are used as two independent hash functions.
+	 *
+	 * @param element an element
+	 * @return the hash of the element
+	 */
+	private static long hash(Object element)
+	{
+		long hash = element == null ? 0 : element.hashCode();
+		hash ^= hash >>> 33;
+		hash *= 0xff51_afd7_ed55_8ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ce_b9fe_1a85_ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.util;
+
+import java.nio.CharBuffer;
+
+/**
+ * {@code CharSequence} helper functions. Sequences are read in place, without converting them to a
+ * {@code String}.
+ * <p>
+ * {@code CharBuffer}s that are backed by an array are read directly from the array, instead of going through
+ * {@link CharBuffer#charAt(int)}.
+ */
+public final class CharSequences
+{
+	private CharSequences()
+	{
+	}
+
+	/**
+	 * Indicates if a sequence starts with a prefix.
+	 *
+	 * @param value  a sequence
+	 * @param prefix the value that the sequence must start with
+	 * @return {@code true} if {@code value} starts with {@code prefix}
+	 * @throws AssertionError if any of the arguments are null
+	 */
+	public static boolean startsWith(CharSequence value, String prefix)
+	{
+		assert value != null : "value may not be null";
+		assert prefix != null : "prefix may not be null";
+		return regionMatches(value, 0, prefix);
+	}
+
+	/**
+	 * Indicates if a sequence ends with a suffix.
+	 *
+	 * @param value  a sequence
+	 * @param suffix the value that the sequence must end with
+	 * @return {@code true} if {@code value} ends with {@code suffix}
+	 * @throws AssertionError if any of the arguments are null
+	 */
+	public static boolean endsWith(CharSequence value, String suffix)
+	{
+		assert value != null : "value may not be null";
+		assert suffix != null : "suffix may not be null";
+		return regionMatches(value, value.length() - suffix.length(), suffix);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of a substring in a sequence.
+	 *
+	 * @param value  a sequence
+	 * @param target the substring to look for
+	 * @return the index of the first occurrence of {@code target}, or {@code -1} if {@code value} does not
+	 * contain it
+	 * @throws AssertionError if any of the arguments are null
+	 */
+	public static int indexOf(CharSequence value, String target)
+	{
+		assert value != null : "value may not be null";
+		assert target != null : "target may not be null";
+		if (value instanceof String string)
+			return string.indexOf(target);
+		int length = target.length();
+		if (length == 0)
+			return 0;
+		char first = target.charAt(0);
+		int lastIndex = value.length() - length;
+		if (value instanceof CharBuffer buffer && buffer.hasArray())
+		{
+			char[] array = buffer.array();
+			int offset = buffer.arrayOffset() + buffer.position();
+			for (int i = 0; i <= lastIndex; ++i)
+			{
+				// Only compare the rest of the substring if the first character matches
+				if (array[offset + i] == first && regionMatches(array, offset + i, target))
+					return i;
+			}
+			return -1;
+		}
+		for (int i = 0; i <= lastIndex; ++i)
+		{
+			if (value.charAt(i) == first && regionMatches(value, i, target))
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Indicates if a sequence is empty or only contains {@link Character#isWhitespace(int) whitespace}
+	 * codepoints.
+	 *
+	 * @param value a sequence
+	 * @return {@code true} if {@code value} is blank
+	 * @throws AssertionError if {@code value} is null
+	 */
+	public static boolean isBlank(CharSequence value)
+	{
+		return indexOfWhitespace(value, false) == -1;
+	}
+
+	/**
+	 * Indicates if a sequence contains {@link Character#isWhitespace(int) whitespace} codepoints.
+	 *
+	 * @param value a sequence
+	 * @return {@code true} if {@code value} contains whitespace
+	 * @throws AssertionError if {@code value} is null
+	 */
+	public static boolean containsWhitespace(CharSequence value)
+	{
+		return indexOfWhitespace(value, true) != -1;
+	}
+
+	/**
+	 * Indicates if a sequence does not contain leading or trailing whitespace, where whitespace is defined by
+	 * {@link String#trim()}.
+	 *
+	 * @param value a sequence
+	 * @return {@code true} if {@code value} is trimmed
+	 * @throws AssertionError if {@code value} is null
+	 */
+	public static boolean isTrimmed(CharSequence value)
+	{
+		assert value != null : "value may not be null";
+		int length = value.length();
+		return length == 0 || (value.charAt(0) > ' ' && value.charAt(length - 1) > ' ');
+	}
+
+	/**
+	 * Indicates if a sequence does not contain leading or trailing whitespace, where whitespace is defined by
+	 * {@link String#strip()}.
+	 *
+	 * @param value a sequence
+	 * @return {@code true} if {@code value} is stripped
+	 * @throws AssertionError if {@code value} is null
+	 */
+	public static boolean isStripped(CharSequence value)
+	{
+		assert value != null : "value may not be null";
+		int length = value.length();
+		// Surrogates are never whitespace, so there is no need to decode supplementary codepoints
+		return length == 0 || (!Character.isWhitespace(value.charAt(0)) &&
+			!Character.isWhitespace(value.charAt(length - 1)));
+	}
+
+	/**
+	 * Returns the index of the first character that is, or is not, whitespace.
+	 *
+	 * @param value      a sequence
+	 * @param whitespace {@code true} to look for whitespace, {@code false} to look for non-whitespace
+	 * @return the index of the first matching character, or {@code -1} if there is no match
+	 * @throws AssertionError if {@code value} is null
+	 */
+	private static int indexOfWhitespace(CharSequence value, boolean whitespace)
+	{
+		assert value != null : "value may not be null";
+		// Surrogates are never whitespace, so there is no need to decode supplementary codepoints
+		int length = value.length();
+		if (value instanceof CharBuffer buffer && buffer.hasArray())
+		{
+			char[] array = buffer.array();
+			int offset = buffer.arrayOffset() + buffer.position();
+			for (int i = 0; i < length; ++i)
+			{
+				if (Character.isWhitespace(array[offset + i]) == whitespace)
+					return i;
+			}
+			return -1;
+		}
+		for (int i = 0; i < length; ++i)
+		{
+			if (Character.isWhitespace(value.charAt(i)) == whitespace)
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Indicates if a region of a sequence is equal to a {@code String}.
+	 *
+	 * @param value  a sequence
+	 * @param offset the index of the region in {@code value}
+	 * @param other  the value to compare to
+	 * @return {@code true} if the region is equal to {@code other}, or {@code false} if it is not equal or
+	 * lies outside {@code value}
+	 */
+	private static boolean regionMatches(CharSequence value, int offset, String other)
+	{
+		if (offset < 0 || offset > value.length() - other.length())
+			return false;
+		if (value instanceof String string)
+			return string.startsWith(other, offset);
+		if (value instanceof CharBuffer buffer && buffer.hasArray())
+			return regionMatches(buffer.array(), buffer.arrayOffset() + buffer.position() + offset, other);
+		for (int i = 0; i < other.length(); ++i)
+		{
+			if (value.charAt(offset + i) != other.charAt(i))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Indicates if a region of an array is equal to a {@code String}.
+	 *
+	 * @param array  an array
+	 * @param offset the index of the region in {@code array}
+	 * @param other  the value to compare to
+	 * @return {@code true} if the region is equal to {@code other}
+	 */
+	private static boolean regionMatches(char[] array, int offset, String other)
+	{
+		for (int i = 0; i < other.length(); ++i)
+		{
+			if (array[offset + i] != other.charAt(i))
+				return false;
+		}
+		return true;
+	}
+}
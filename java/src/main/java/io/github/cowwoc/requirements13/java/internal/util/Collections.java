@@ -8,12 +8,19 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 /**
  * Set helper functions.
  */
 public final class Collections
 {
+	/**
+	 * Stands in for {@code null} elements in sets that do not support them.
+	 */
+	private static final Object NULL = new Object();
+
 	/**
 	 * Prevent construction.
 	 */
@@ -68,25 +75,197 @@ public final class Collections
 	{
 		assert first != null : "first may not be null";
 		assert second != null : "second may not be null";
-		// Iterate on the smaller of the two sets
-		Set<E> small;
-		Set<E> big;
-		if (first.size() < second.size())
+		// Look up the elements of the first set instead of copying the second, which may be much larger
+		Set<E> result = new LinkedHashSet<>();
+		for (E element : first)
+			if (second.contains(element))
+				result.add(element);
+		return result;
+	}
+
+	/**
+	 * Indicates if two collections contain the same elements, irrespective of ordering and duplicates. This
+	 * is equivalent to {@code Difference.actualVsOther(first, second).areTheSame()} but creates at most one
+	 * set.
+	 *
+	 * @param <E>      the type of elements in the collections
+	 * @param first    the first collection
+	 * @param second   the second collection
+	 * @param parallel {@code true} if the elements may be looked up in parallel
+	 * @return {@code true} if every element of each collection is present in the other collection
+	 * @throws AssertionError if any of the arguments are null
+	 */
+	public static <E> boolean containsSameElements(Collection<E> first, Collection<E> second,
+		boolean parallel)
+	{
+		assert first != null : "first may not be null";
+		assert second != null : "second may not be null";
+		if (first instanceof Set<E> firstAsSet && second instanceof Set<E> secondAsSet)
+			return firstAsSet.size() == secondAsSet.size() && containsAll(firstAsSet, secondAsSet, parallel);
+		// Copy a collection that is not a Set, and iterate over the other collection
+		Set<E> copy;
+		Collection<E> iterated;
+		if (second instanceof Set<E> secondAsSet)
 		{
-			small = first;
-			big = second;
+			// A collection cannot contain all the elements of a larger set
+			if (first.size() < secondAsSet.size())
+				return false;
+			copy = new HashSet<>(first);
+			iterated = second;
 		}
 		else
 		{
-			small = second;
-			big = first;
+			if (first instanceof Set<E> firstAsSet && second.size() < firstAsSet.size())
+				return false;
+			copy = new HashSet<>(second);
+			iterated = first;
 		}
-		Set<E> unwanted = new HashSet<>(big);
-		unwanted.removeAll(small);
+		if (!allMatch(iterated, copy::contains, parallel))
+			return false;
+		// Every element of the copy must be present in the iterated collection
+		for (E element : iterated)
+			copy.remove(element);
+		return copy.isEmpty();
+	}
 
-		Set<E> result = new LinkedHashSet<>(big);
-		result.removeAll(unwanted);
-		return result;
+	/**
+	 * Indicates if a collection contains all the elements of another collection. Unlike
+	 * {@link Collection#containsAll(Collection)}, this method does not scan {@code container} once per
+	 * element.
+	 *
+	 * @param <E>       the type of elements in the collections
+	 * @param container the collection that is expected to contain the elements
+	 * @param elements  the elements
+	 * @param parallel  {@code true} if the elements may be looked up in parallel
+	 * @return {@code true} if {@code container} contains every element of {@code elements}
+	 * @throws AssertionError if any of the arguments are null
+	 */
+	public static <E> boolean containsAll(Collection<E> container, Collection<E> elements, boolean parallel)
+	{
+		assert container != null : "container may not be null";
+		assert elements != null : "elements may not be null";
+		if (elements.isEmpty())
+			return true;
+		// A set cannot contain more distinct elements than it has
+		if (container instanceof Set<?> && elements instanceof Set<?> && elements.size() > container.size())
+			return false;
+		return allMatch(elements, asHashedSet(container)::contains, parallel);
+	}
+
+	/**
+	 * Indicates if two collections have any elements in common. Unlike
+	 * {@link java.util.Collections#disjoint(Collection, Collection)}, this method does not scan a collection
+	 * once per element of the other collection.
+	 *
+	 * @param <E>      the type of elements in the collections
+	 * @param first    the first collection
+	 * @param second   the second collection
+	 * @param parallel {@code true} if the elements may be looked up in parallel
+	 * @return {@code true} if at least one element is present in both collections
+	 * @throws AssertionError if any of the arguments are null
+	 */
+	public static <E> boolean containsAny(Collection<E> first, Collection<E> second, boolean parallel)
+	{
+		assert first != null : "first may not be null";
+		assert second != null : "second may not be null";
+		if (first.isEmpty() || second.isEmpty())
+			return false;
+		// Look up elements in a Set, preferring the existing one, otherwise a copy of the smaller collection
+		Set<E> lookup;
+		Collection<E> iterated;
+		if (first instanceof Set<E> firstAsSet && second instanceof Set<E> secondAsSet)
+		{
+			// Iterate over the smaller set, such as the value, and look up its elements in the larger one, such as
+			// a ReferenceSet
+			if (first.size() <= second.size())
+			{
+				lookup = secondAsSet;
+				iterated = first;
+			}
+			else
+			{
+				lookup = firstAsSet;
+				iterated = second;
+			}
+		}
+		else if (first instanceof Set<E> firstAsSet)
+		{
+			lookup = firstAsSet;
+			iterated = second;
+		}
+		else if (second instanceof Set<?> || second.size() <= first.size())
+		{
+			lookup = asHashedSet(second);
+			iterated = first;
+		}
+		else
+		{
+			lookup = new HashSet<>(first);
+			iterated = second;
+		}
+		return !allMatch(iterated, element -> !lookup.contains(element), parallel);
+	}
+
+	/**
+	 * Indicates if all the elements of a collection match a predicate, stopping at the first mismatch.
+	 *
+	 * @param <E>       the type of elements in the collection
+	 * @param elements  a collection
+	 * @param predicate a thread-safe predicate
+	 * @param parallel  {@code true} if the predicate may be evaluated in parallel
+	 * @return {@code true} if the predicate returns {@code true} for every element
+	 */
+	private static <E> boolean allMatch(Collection<E> elements, Predicate<? super E> predicate,
+		boolean parallel)
+	{
+		if (parallel)
+			return elements.parallelStream().allMatch(predicate);
+		for (E element : elements)
+			if (!predicate.test(element))
+				return false;
+		return true;
+	}
+
+	/**
+	 * @param <E>        the type of elements in the collection
+	 * @param collection a collection
+	 * @return {@code collection} if it is already a {@code Set}; otherwise, a new {@code HashSet} containing
+	 * {@code collection}'s elements
+	 */
+	private static <E> Set<E> asHashedSet(Collection<E> collection)
+	{
+		if (collection instanceof Set<E> result)
+			return result;
+		return new HashSet<>(collection);
+	}
+
+	/**
+	 * Indicates if a collection contains duplicate elements, stopping at the first duplicate. Unlike
+	 * {@link #getDuplicates(Collection)}, this method does not gather the duplicates.
+	 *
+	 * @param <E>        the type of elements in the collection
+	 * @param collection a collection
+	 * @param parallel   {@code true} if the elements may be examined in parallel
+	 * @return {@code true} if the collection contains at least one duplicate element
+	 * @throws AssertionError if {@code collection} is null
+	 */
+	public static <E> boolean containsDuplicates(Collection<E> collection, boolean parallel)
+	{
+		assert collection != null : "collection may not be null";
+		if (collection instanceof Set<?>)
+			return false;
+		int size = collection.size();
+		if (parallel)
+		{
+			Set<Object> unique = ConcurrentHashMap.newKeySet(size);
+			return !collection.parallelStream().
+				allMatch(element -> unique.add(element == null ? NULL : element));
+		}
+		Set<E> unique = new HashSet<>(size);
+		for (E element : collection)
+			if (!unique.add(element))
+				return true;
+		return false;
 	}
 
 	/**
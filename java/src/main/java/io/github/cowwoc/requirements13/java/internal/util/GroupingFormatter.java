@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Formats numbers with locale-specific digit grouping, without creating a {@code Formatter} per call.
+ * <p>
+ * The output is identical to that of {@code String.format("%,d", value)} and
+ * {@code String.format("%,f", value)}. The symbols of the default locale are resolved once, and are only
+ * resolved again if the default locale changes.
+ */
+public final class GroupingFormatter
+{
+	/**
+	 * The number of fractional digits that {@code %f} displays.
+	 */
+	private static final int FRACTION_DIGITS = 6;
+	/**
+	 * The symbols of the most recently used locale.
+	 */
+	private static final AtomicReference<Symbols> SYMBOLS = new AtomicReference<>(Symbols.of(Locale.US));
+
+	/**
+	 * Prevent construction.
+	 */
+	private GroupingFormatter()
+	{
+	}
+
+	/**
+	 * Returns the equivalent of {@code String.format("%,d", value)}.
+	 *
+	 * @param value a value
+	 * @return the formatted value
+	 */
+	public static String format(long value)
+	{
+		StringBuilder buffer = new StringBuilder(27);
+		appendTo(buffer, value);
+		return buffer.toString();
+	}
+
+	/**
+	 * Returns the equivalent of {@code String.format("%,f", value)}.
+	 *
+	 * @param value a value
+	 * @return the formatted value
+	 */
+	public static String format(double value)
+	{
+		StringBuilder buffer = new StringBuilder(32);
+		appendTo(buffer, value);
+		return buffer.toString();
+	}
+
+	/**
+	 * Appends the equivalent of {@code String.format("%,d", value)}.
+	 *
+	 * @param buffer the buffer to append to
+	 * @param value  a value
+	 */
+	public static void appendTo(StringBuilder buffer, long value)
+	{
+		String digits = Long.toString(value);
+		int start;
+		if (value < 0)
+		{
+			buffer.append('-');
+			start = 1;
+		}
+		else
+			start = 0;
+		appendMagnitude(buffer, digits, start, digits.length(), getSymbols());
+	}
+
+	/**
+	 * Appends the equivalent of {@code String.format("%,f", value)}. A {@code float} is formatted by widening
+	 * it to a {@code double}, just like {@code Formatter} does.
+	 *
+	 * @param buffer the buffer to append to
+	 * @param value  a value
+	 */
+	public static void appendTo(StringBuilder buffer, double value)
+	{
+		if (Double.isNaN(value))
+		{
+			buffer.append("NaN");
+			return;
+		}
+		// Formatter renders -0.0 as "-0.000000"
+		if (Double.compare(value, 0.0) < 0)
+		{
+			buffer.append('-');
+			value = -value;
+		}
+		if (Double.isInfinite(value))
+		{
+			buffer.append("Infinity");
+			return;
+		}
+		// Formatter rounds the shortest decimal representation of the value, not its exact binary value
+		String digits = new BigDecimal(Double.toString(value)).setScale(FRACTION_DIGITS, RoundingMode.HALF_UP).
+			toPlainString();
+		Symbols symbols = getSymbols();
+		int dot = digits.length() - FRACTION_DIGITS - 1;
+		appendMagnitude(buffer, digits, 0, dot, symbols);
+		buffer.append(symbols.decimalSeparator);
+		appendDigits(buffer, digits, dot + 1, digits.length(), symbols);
+	}
+
+	/**
+	 * Appends the integer part of a number, inserting grouping separators.
+	 *
+	 * @param buffer  the buffer to append to
+	 * @param digits  a string that contains ASCII digits
+	 * @param start   the index of the first digit
+	 * @param end     the index after the last digit
+	 * @param symbols the symbols to use
+	 */
+	private static void appendMagnitude(StringBuilder buffer, CharSequence digits, int start, int end,
+		Symbols symbols)
+	{
+		if (symbols.groupingSize <= 0)
+		{
+			appendDigits(buffer, digits, start, end, symbols);
+			return;
+		}
+		int firstGroup = (end - start) % symbols.groupingSize;
+		if (firstGroup == 0)
+			firstGroup = symbols.groupingSize;
+		appendDigits(buffer, digits, start, start + firstGroup, symbols);
+		for (int i = start + firstGroup; i < end; i += symbols.groupingSize)
+		{
+			buffer.append(symbols.groupingSeparator);
+			appendDigits(buffer, digits, i, i + symbols.groupingSize, symbols);
+		}
+	}
+
+	/**
+	 * Appends digits, translating them to the locale's digits.
+	 *
+	 * @param buffer  the buffer to append to
+	 * @param digits  a string that contains ASCII digits
+	 * @param start   the index of the first digit
+	 * @param end     the index after the last digit
+	 * @param symbols the symbols to use
+	 */
+	private static void appendDigits(StringBuilder buffer, CharSequence digits, int start, int end,
+		Symbols symbols)
+	{
+		if (symbols.zeroDigit == '0')
+		{
+			buffer.append(digits, start, end);
+			return;
+		}
+		for (int i = start; i < end; ++i)
+			buffer.append((char) (digits.charAt(i) - '0' + symbols.zeroDigit));
+	}
+
+	/**
+	 * @return the symbols of the default locale
+	 */
+	private static Symbols getSymbols()
+	{
+		Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+		Symbols result = SYMBOLS.get();
+		if (result.locale.equals(locale))
+			return result;
+		result = Symbols.of(locale);
+		SYMBOLS.set(result);
+		return result;
+	}
+
+	/**
+	 * The locale-specific symbols used to format numbers.
+	 *
+	 * @param locale            the locale
+	 * @param zeroDigit         the character that represents zero
+	 * @param groupingSeparator the character that separates groups of digits
+	 * @param groupingSize      the number of digits in each group, or {@code 0} if digits are not grouped
+	 * @param decimalSeparator  the character that separates the integer and fractional parts of a number
+	 */
+	private record Symbols(Locale locale, char zeroDigit, char groupingSeparator, int groupingSize,
+		char decimalSeparator)
+	{
+		/**
+		 * Resolves the symbols of a locale the same way that {@code Formatter} does.
+		 *
+		 * @param locale a locale
+		 * @return the symbols of the locale
+		 */
+		public static Symbols of(Locale locale)
+		{
+			DecimalFormatSymbols decimalSymbols = DecimalFormatSymbols.getInstance(locale);
+			char zeroDigit = decimalSymbols.getZeroDigit();
+			if (locale.equals(Locale.US))
+				return new Symbols(locale, zeroDigit, ',', 3, '.');
+			int groupingSize;
+			if (NumberFormat.getNumberInstance(locale) instanceof DecimalFormat format && format.isGroupingUsed())
+				groupingSize = format.getGroupingSize();
+			else
+				groupingSize = 0;
+			return new Symbols(locale, zeroDigit, decimalSymbols.getGroupingSeparator(), groupingSize,
+				decimalSymbols.getDecimalSeparator());
+		}
+	}
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.util;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * An immutable set of {@code long} values, backed by a sorted array.
+ * <p>
+ * Used to compare the elements of primitive arrays without boxing them. Each element is mapped to a
+ * {@code long} that is equal for two elements if and only if the elements are equal.
+ */
+public final class LongSet
+{
+	/**
+	 * The distinct values in ascending order, followed by unused slots.
+	 */
+	private final long[] values;
+	/**
+	 * The number of distinct values.
+	 */
+	private final int size;
+
+	/**
+	 * @param values the distinct values in ascending order, followed by unused slots
+	 * @param size   the number of distinct values
+	 */
+	private LongSet(long[] values, int size)
+	{
+		this.values = values;
+		this.size = size;
+	}
+
+	/**
+	 * Creates a set. The caller may not access {@code values} after invoking this method.
+	 *
+	 * @param values   the values of the set, which may contain duplicates
+	 * @param parallel {@code true} if the values may be sorted in parallel
+	 * @return a set containing the distinct values
+	 * @throws AssertionError if {@code values} is null
+	 */
+	public static LongSet of(long[] values, boolean parallel)
+	{
+		assert values != null;
+		if (parallel)
+			Arrays.parallelSort(values);
+		else
+			Arrays.sort(values);
+		int size = 0;
+		for (int i = 0; i < values.length; ++i)
+		{
+			if (i == 0 || values[i] != values[size - 1])
+			{
+				values[size] = values[i];
+				++size;
+			}
+		}
+		return new LongSet(values, size);
+	}
+
+	/**
+	 * Returns the values that occur more than once. The caller may not access {@code values} after invoking
+	 * this method.
+	 *
+	 * @param values   the values to scan
+	 * @param parallel {@code true} if the values may be sorted in parallel
+	 * @return a set containing the duplicate values
+	 * @throws AssertionError if {@code values} is null
+	 */
+	public static LongSet duplicatesOf(long[] values, boolean parallel)
+	{
+		assert values != null;
+		if (parallel)
+			Arrays.parallelSort(values);
+		else
+			Arrays.sort(values);
+		int size = 0;
+		for (int i = 1; i < values.length; ++i)
+		{
+			if (values[i] == values[i - 1] && (size == 0 || values[i] != values[size - 1]))
+			{
+				values[size] = values[i];
+				++size;
+			}
+		}
+		return new LongSet(values, size);
+	}
+
+	/**
+	 * Returns the number of values in the set.
+	 *
+	 * @return the number of values in the set
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Indicates if the set contains a value.
+	 *
+	 * @param value a value
+	 * @return {@code true} if the set contains the value
+	 */
+	public boolean contains(long value)
+	{
+		return Arrays.binarySearch(values, 0, size, value) >= 0;
+	}
+
+	/**
+	 * Indicates if this set contains all the values of another set.
+	 *
+	 * @param other another set
+	 * @return {@code true} if this set contains all the values of {@code other}
+	 * @throws NullPointerException if {@code other} is null
+	 */
+	public boolean containsAll(LongSet other)
+	{
+		if (other.size > size)
+			return false;
+		int i = 0;
+		for (int j = 0; j < other.size; ++j)
+		{
+			long value = other.values[j];
+			while (i < size && values[i] < value)
+				++i;
+			if (i == size || values[i] != value)
+				return false;
+			++i;
+		}
+		return true;
+	}
+
+	/**
+	 * Indicates if this set contains any of the values of another set.
+	 *
+	 * @param other another set
+	 * @return {@code true} if the sets have at least one value in common
+	 * @throws NullPointerException if {@code other} is null
+	 */
+	public boolean containsAny(LongSet other)
+	{
+		int i = 0;
+		int j = 0;
+		while (i < size && j < other.size)
+		{
+			long left = values[i];
+			long right = other.values[j];
+			if (left == right)
+				return true;
+			if (left < right)
+				++i;
+			else
+				++j;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the values of this set that are not present in another set.
+	 *
+	 * @param other another set
+	 * @return a new set
+	 * @throws NullPointerException if {@code other} is null
+	 */
+	public LongSet minus(LongSet other)
+	{
+		long[] result = new long[size];
+		int resultSize = 0;
+		int j = 0;
+		for (int i = 0; i < size; ++i)
+		{
+			long value = values[i];
+			while (j < other.size && other.values[j] < value)
+				++j;
+			if (j == other.size || other.values[j] != value)
+			{
+				result[resultSize] = value;
+				++resultSize;
+			}
+		}
+		return new LongSet(result, resultSize);
+	}
+
+	/**
+	 * Returns the values that are present in both sets.
+	 *
+	 * @param other another set
+	 * @return a new set
+	 * @throws NullPointerException if {@code other} is null
+	 */
+	public LongSet intersection(LongSet other)
+	{
+		long[] result = new long[Math.min(size, other.size)];
+		int resultSize = 0;
+		int i = 0;
+		int j = 0;
+		while (i < size && j < other.size)
+		{
+			long left = values[i];
+			long right = other.values[j];
+			if (left == right)
+			{
+				result[resultSize] = left;
+				++resultSize;
+				++i;
+				++j;
+			}
+			else if (left < right)
+				++i;
+			else
+				++j;
+		}
+		return new LongSet(result, resultSize);
+	}
+
+	/**
+	 * Invokes an action on each value, in ascending order.
+	 *
+	 * @param action the action to invoke
+	 * @throws NullPointerException if {@code action} is null
+	 */
+	public void forEach(LongConsumer action)
+	{
+		for (int i = 0; i < size; ++i)
+			action.accept(values[i]);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		int result = 1;
+		for (int i = 0; i < size; ++i)
+			result = 31 * result + Long.hashCode(values[i]);
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object o)
+	{
+		return o instanceof LongSet other && other.size == size &&
+			Arrays.equals(other.values, 0, size, values, 0, size);
+	}
+
+	@Override
+	public String toString()
+	{
+		return Arrays.toString(Arrays.copyOf(values, size));
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.util;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * {@code MemorySegment} helper functions. Segments are read in place, without copying them.
+ */
+public final class MemorySegments
+{
+	private MemorySegments()
+	{
+	}
+
+	/**
+	 * Indicates if a segment starts with a sequence of bytes.
+	 *
+	 * @param segment a segment
+	 * @param prefix  the bytes that the segment must start with
+	 * @return {@code true} if {@code segment} starts with {@code prefix}
+	 * @throws AssertionError if any of the arguments are null
+	 */
+	public static boolean startsWith(MemorySegment segment, MemorySegment prefix)
+	{
+		assert segment != null : "segment may not be null";
+		assert prefix != null : "prefix may not be null";
+		long length = prefix.byteSize();
+		return length <= segment.byteSize() &&
+			MemorySegment.mismatch(segment, 0, length, prefix, 0, length) == -1;
+	}
+
+	/**
+	 * Returns the offset of the first occurrence of a sequence of bytes in a segment.
+	 *
+	 * @param segment a segment
+	 * @param pattern the bytes to look for
+	 * @return the offset of the first occurrence of {@code pattern}, or {@code -1} if {@code segment} does not
+	 * contain it
+	 * @throws AssertionError if any of the arguments are null
+	 */
+	public static long indexOf(MemorySegment segment, MemorySegment pattern)
+	{
+		assert segment != null : "segment may not be null";
+		assert pattern != null : "pattern may not be null";
+		long length = pattern.byteSize();
+		if (length == 0)
+			return 0;
+		byte first = pattern.get(ValueLayout.JAVA_BYTE, 0);
+		long lastOffset = segment.byteSize() - length;
+		for (long offset = 0; offset <= lastOffset; ++offset)
+		{
+			// Only compare the rest of the pattern, which mismatch() vectorizes, if the first byte matches
+			if (segment.get(ValueLayout.JAVA_BYTE, offset) == first &&
+				MemorySegment.mismatch(segment, offset, offset + length, pattern, 0, length) == -1)
+			{
+				return offset;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Indicates if a segment may be accessed using values of some alignment.
+	 *
+	 * @param segment   a segment
+	 * @param alignment the alignment in bytes, which must be a power of two
+	 * @return {@code true} if the segment is aligned
+	 * @throws AssertionError if {@code segment} is null or if {@code alignment} is not a positive power of two
+	 */
+	public static boolean isAlignedTo(MemorySegment segment, long alignment)
+	{
+		assert segment != null : "segment may not be null";
+		assert alignment > 0 && Long.bitCount(alignment) == 1 : alignment;
+		// The address of a heap segment is an offset into its array, so it cannot be used on its own. The
+		// alignment of heap segments is also limited by the size of the array's elements.
+		return segment.maxByteAlignment() >= alignment;
+	}
+
+	/**
+	 * Returns the index of the first {@code int} that is out of range.
+	 *
+	 * @param segment          a segment
+	 * @param layout           the layout of each value
+	 * @param minimumInclusive the lower bound of the range
+	 * @param maximumExclusive the upper bound of the range
+	 * @return the index of the first value that is out of range, or {@code -1} if all values are in range
+	 * @throws AssertionError if any of the arguments are null
+	 */
+	public static long indexOfOutOfRange(MemorySegment segment, ValueLayout.OfInt layout, int minimumInclusive,
+		int maximumExclusive)
+	{
+		assert segment != null : "segment may not be null";
+		assert layout != null : "layout may not be null";
+		// Alignment is validated separately by isAlignedTo()
+		ValueLayout.OfInt unaligned = layout.withByteAlignment(1);
+		long count = segment.byteSize() / unaligned.byteSize();
+		for (long i = 0; i < count; ++i)
+		{
+			int value = segment.getAtIndex(unaligned, i);
+			if (value < minimumInclusive || value >= maximumExclusive)
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the first {@code long} that is out of range.
+	 *
+	 * @param segment          a segment
+	 * @param layout           the layout of each value
+	 * @param minimumInclusive the lower bound of the range
+	 * @param maximumExclusive the upper bound of the range
+	 * @return the index of the first value that is out of range, or {@code -1} if all values are in range
+	 * @throws AssertionError if any of the arguments are null
+	 */
+	public static long indexOfOutOfRange(MemorySegment segment, ValueLayout.OfLong layout,
+		long minimumInclusive, long maximumExclusive)
+	{
+		assert segment != null : "segment may not be null";
+		assert layout != null : "layout may not be null";
+		// Alignment is validated separately by isAlignedTo()
+		ValueLayout.OfLong unaligned = layout.withByteAlignment(1);
+		long count = segment.byteSize() / unaligned.byteSize();
+		for (long i = 0; i < count; ++i)
+		{
+			long value = segment.getAtIndex(unaligned, i);
+			if (value < minimumInclusive || value >= maximumExclusive)
+				return i;
+		}
+		return -1;
+	}
+}
@@ -28,7 +28,11 @@ public enum Pluralizer
 	/**
 	 * The names of one or more elements.
 	 */
-	ELEMENT("element", "elements");
+	ELEMENT("element", "elements"),
+	/**
+	 * The names of one or more bytes.
+	 */
+	BYTE("byte", "bytes");
 
 	private final String singular;
 	private final String plural;
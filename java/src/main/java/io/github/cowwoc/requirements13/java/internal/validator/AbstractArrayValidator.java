@@ -4,12 +4,16 @@
  */
 package io.github.cowwoc.requirements13.java.internal.validator;
 
+import io.github.cowwoc.requirements13.java.ReferenceSet;
 import io.github.cowwoc.requirements13.java.ValidationFailure;
 import io.github.cowwoc.requirements13.java.internal.Configuration;
 import io.github.cowwoc.requirements13.java.internal.message.CollectionMessages;
 import io.github.cowwoc.requirements13.java.internal.message.ObjectMessages;
 import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.java.internal.util.Arrays;
+import io.github.cowwoc.requirements13.java.internal.util.Collections;
 import io.github.cowwoc.requirements13.java.internal.util.Difference;
+import io.github.cowwoc.requirements13.java.internal.util.LongSet;
 import io.github.cowwoc.requirements13.java.internal.util.Pluralizer;
 import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
 import io.github.cowwoc.requirements13.java.validator.PrimitiveUnsignedIntegerValidator;
@@ -18,12 +22,11 @@ import io.github.cowwoc.requirements13.java.validator.component.ValidatorCompone
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -42,6 +45,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 	// This is because type parameters cannot contain primitives such as "byte", but byte[] is considered to be
 	// an object.
 	private Set<E> valueAsSet;
+	private LongSet valueAsLongSet;
 
 	/**
 	 * @param scope         the application configuration
@@ -56,7 +60,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 	 *                                  or {@code failures} are null
 	 */
 	public AbstractArrayValidator(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<T> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<T> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -164,7 +168,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 	public <C extends Collection<E>> S containsExactly(C expected)
 	{
 		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
-		return containsExactlyImpl(expected, null);
+		return containsExactlyImpl(new Elements(expected), null);
 	}
 
 	@Override
@@ -172,19 +176,18 @@ public abstract class AbstractArrayValidator<S, T, E>
 	{
 		requireThatNameIsUnique(name).
 			requireThat(expected, "expected").isNotNull();
-		return containsExactlyImpl(expected, name);
+		return containsExactlyImpl(new Elements(expected), name);
 	}
 
-	private <C extends Collection<E>> S containsExactlyImpl(C expected, String name)
+	private S containsExactlyImpl(Elements expected, String name)
 	{
-		Difference<E> difference = value.nullToInvalid().map(
-			v -> Difference.actualVsOther(asList(v), expected)).or(null);
-		if (difference == null || !difference.areTheSame())
+		if (value.validationFailed(v -> containsExactly(v, expected)))
 		{
 			failOnNull();
+			Difference<E> difference = value.nullToInvalid().map(v -> getDifference(v, expected)).or(null);
 			addIllegalArgumentException(
-				CollectionMessages.containsExactlyFailed(this, difference, name, expected, Pluralizer.ELEMENT).
-					toString());
+				CollectionMessages.containsExactlyFailed(this, difference, name, expected.asCollection(),
+					Pluralizer.ELEMENT).toString());
 		}
 		return self();
 	}
@@ -193,7 +196,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 	public S containsExactly(T expected)
 	{
 		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
-		return containsExactly(asList(expected));
+		return containsExactlyImpl(new Elements(expected), null);
 	}
 
 	@Override
@@ -201,7 +204,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 	{
 		requireThatNameIsUnique(name).
 			requireThat(expected, name).isNotNull();
-		return containsExactly(asList(expected), name);
+		return containsExactlyImpl(new Elements(expected), name);
 	}
 
 	/**
@@ -216,11 +219,195 @@ public abstract class AbstractArrayValidator<S, T, E>
 		return valueAsSet;
 	}
 
+	/**
+	 * @param value the array being validated
+	 * @return the distinct elements of the value, or {@code null} if its elements are not primitives
+	 */
+	private LongSet getValueAsLongSet(T value)
+	{
+		// Lazy-initialize the set because this is an expensive operation for large arrays
+		if (valueAsLongSet == null)
+			valueAsLongSet = toLongSet(value);
+		return valueAsLongSet;
+	}
+
+	/**
+	 * @param array an array
+	 * @return the distinct converted elements, or {@code null} if the elements are not primitives
+	 */
+	private LongSet toLongSet(T array)
+	{
+		long[] values = toLongs(array);
+		if (values == null)
+			return null;
+		return LongSet.of(values, isParallel(values.length));
+	}
+
+	/**
+	 * Converts the elements of an array to {@code long} values that are equal if and only if the elements are
+	 * equal. This allows primitive arrays to be compared without boxing their elements.
+	 *
+	 * @param array an array
+	 * @return a new array containing the converted elements, or {@code null} if the elements are not
+	 * 	primitives
+	 */
+	@SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+	protected long[] toLongs(T array)
+	{
+		return null;
+	}
+
+	/**
+	 * Converts an element to a {@code long} value. Only invoked if {@link #toLongs(Object)} does not return
+	 * {@code null}.
+	 *
+	 * @param element a non-null element
+	 * @return the converted element
+	 */
+	protected long toLong(E element)
+	{
+		throw new AssertionError("Arrays of objects cannot be converted to primitives");
+	}
+
+	/**
+	 * Converts a value returned by {@link #toLong(Object)} back to an element.
+	 *
+	 * @param value a converted element
+	 * @return the element
+	 */
+	protected E fromLong(long value)
+	{
+		throw new AssertionError("Arrays of objects cannot be converted to primitives");
+	}
+
+	/**
+	 * Boxes the values of a set. Invoked on the elements of failure messages, which are typically few.
+	 *
+	 * @param set a set of converted elements
+	 * @return the elements, in ascending order of their converted values
+	 */
+	private Set<E> toElements(LongSet set)
+	{
+		Set<E> elements = LinkedHashSet.newLinkedHashSet(set.size());
+		set.forEach(element -> elements.add(fromLong(element)));
+		return elements;
+	}
+
+	/**
+	 * @param value the array being validated
+	 * @param other the elements to compare to
+	 * @return the difference between the value and {@code other}
+	 */
+	private Difference<E> getDifference(T value, Elements other)
+	{
+		LongSet valueAsLongSet = getValueAsLongSet(value);
+		if (valueAsLongSet != null)
+		{
+			LongSet otherAsLongSet = other.asLongSet();
+			if (otherAsLongSet != null)
+			{
+				return new Difference<>(toElements(valueAsLongSet.minus(otherAsLongSet)),
+					toElements(otherAsLongSet.minus(valueAsLongSet)));
+			}
+		}
+		return Difference.actualVsOther(asList(value), other.asCollection());
+	}
+
+	/**
+	 * @param value    the array being validated
+	 * @param expected the expected elements
+	 * @return the expected elements that the value does not contain
+	 */
+	private Set<E> getMissing(T value, Elements expected)
+	{
+		LongSet valueAsLongSet = getValueAsLongSet(value);
+		if (valueAsLongSet != null)
+		{
+			LongSet expectedAsLongSet = expected.asLongSet();
+			if (expectedAsLongSet != null)
+				return toElements(expectedAsLongSet.minus(valueAsLongSet));
+		}
+		return Collections.firstMinusSecond(Collections.asSet(expected.asCollection()), getValueAsSet(value));
+	}
+
+	/**
+	 * @param value    the array being validated
+	 * @param unwanted the unwanted elements
+	 * @return the unwanted elements that the value contains
+	 */
+	private Set<E> getUnwanted(T value, Elements unwanted)
+	{
+		LongSet valueAsLongSet = getValueAsLongSet(value);
+		if (valueAsLongSet != null)
+		{
+			LongSet unwantedAsLongSet = unwanted.asLongSet();
+			if (unwantedAsLongSet != null)
+				return toElements(valueAsLongSet.intersection(unwantedAsLongSet));
+		}
+		return Collections.intersection(Collections.asSet(asList(value)),
+			Collections.asSet(unwanted.asCollection()));
+	}
+
+	/**
+	 * @param value    the array being validated
+	 * @param expected the expected elements
+	 * @return {@code true} if the value contains the expected elements, and no other elements, irrespective
+	 * of ordering
+	 */
+	private boolean containsExactly(T value, Elements expected)
+	{
+		LongSet valueAsLongSet = getValueAsLongSet(value);
+		if (valueAsLongSet != null)
+		{
+			LongSet expectedAsLongSet = expected.asLongSet();
+			if (expectedAsLongSet != null)
+				return valueAsLongSet.equals(expectedAsLongSet);
+		}
+		return Collections.containsSameElements(getValueAsSet(value), expected.asCollection(),
+			isParallel(getLength(value)));
+	}
+
+	/**
+	 * @param value    the array being validated
+	 * @param expected the expected elements
+	 * @return {@code true} if the value contains any of the expected elements
+	 */
+	private boolean containsAny(T value, Elements expected)
+	{
+		LongSet valueAsLongSet = getValueAsLongSet(value);
+		if (valueAsLongSet != null)
+		{
+			LongSet expectedAsLongSet = expected.asLongSet();
+			if (expectedAsLongSet != null)
+				return valueAsLongSet.containsAny(expectedAsLongSet);
+		}
+		return Collections.containsAny(getValueAsSet(value), expected.asCollection(),
+			isParallel(getLength(value)));
+	}
+
+	/**
+	 * @param value    the array being validated
+	 * @param expected the expected elements
+	 * @return {@code true} if the value contains all the expected elements
+	 */
+	private boolean containsAll(T value, Elements expected)
+	{
+		LongSet valueAsLongSet = getValueAsLongSet(value);
+		if (valueAsLongSet != null)
+		{
+			LongSet expectedAsLongSet = expected.asLongSet();
+			if (expectedAsLongSet != null)
+				return valueAsLongSet.containsAll(expectedAsLongSet);
+		}
+		return Collections.containsAll(getValueAsSet(value), expected.asCollection(),
+			isParallel(getLength(value)));
+	}
+
 	@Override
 	public <C extends Collection<E>> S doesNotContainExactly(C unwanted)
 	{
 		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
-		return doesNotContainExactlyImpl(unwanted, null);
+		return doesNotContainExactlyImpl(new Elements(unwanted), null);
 	}
 
 	@Override
@@ -229,18 +416,17 @@ public abstract class AbstractArrayValidator<S, T, E>
 		requireThatNameIsUnique(name).
 			requireThat(unwanted, name).isNotNull();
 		scope.getInternalValidators().requireThat(unwanted, name).isNotNull();
-		return doesNotContainExactlyImpl(unwanted, name);
+		return doesNotContainExactlyImpl(new Elements(unwanted), name);
 	}
 
-	private <C extends Collection<E>> S doesNotContainExactlyImpl(C unwanted, String name)
+	private S doesNotContainExactlyImpl(Elements unwanted, String name)
 	{
-		Difference<E> difference = value.nullToInvalid().map(
-			v -> Difference.actualVsOther(asList(v), unwanted)).or(null);
-		if (difference == null || !difference.areDifferent())
+		if (value.validationFailed(v -> !containsExactly(v, unwanted)))
 		{
 			failOnNull();
 			addIllegalArgumentException(
-				CollectionMessages.doesNotContainExactlyFailed(this, name, unwanted, Pluralizer.ELEMENT).toString());
+				CollectionMessages.doesNotContainExactlyFailed(this, name, unwanted.asCollection(),
+					Pluralizer.ELEMENT).toString());
 		}
 		return self();
 	}
@@ -249,7 +435,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 	public S doesNotContainExactly(T unwanted)
 	{
 		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
-		return doesNotContainExactly(asList(unwanted), "unwanted");
+		return doesNotContainExactly(unwanted, "unwanted");
 	}
 
 	@Override
@@ -257,14 +443,14 @@ public abstract class AbstractArrayValidator<S, T, E>
 	{
 		requireThatNameIsUnique(name).
 			requireThat(unwanted, name).isNotNull();
-		return doesNotContainExactly(asList(unwanted), name);
+		return doesNotContainExactlyImpl(new Elements(unwanted), name);
 	}
 
 	@Override
 	public <C extends Collection<E>> S containsAny(C expected)
 	{
 		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
-		return containsAnyImpl(expected, null);
+		return containsAnyImpl(new Elements(expected), null);
 	}
 
 	@Override
@@ -272,16 +458,17 @@ public abstract class AbstractArrayValidator<S, T, E>
 	{
 		requireThatNameIsUnique(name).
 			requireThat(expected, name).isNotNull();
-		return containsAnyImpl(expected, name);
+		return containsAnyImpl(new Elements(expected), name);
 	}
 
-	private <C extends Collection<E>> S containsAnyImpl(C expected, String name)
+	private S containsAnyImpl(Elements expected, String name)
 	{
-		if (value.validationFailed(v -> !Collections.disjoint(getValueAsSet(v), expected)))
+		if (value.validationFailed(v -> containsAny(v, expected)))
 		{
 			failOnNull();
 			addIllegalArgumentException(
-				CollectionMessages.containsAnyFailed(this, name, expected, Pluralizer.ELEMENT).toString());
+				CollectionMessages.containsAnyFailed(this, name, expected.asCollection(), Pluralizer.ELEMENT).
+					toString());
 		}
 		return self();
 	}
@@ -290,7 +477,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 	public S containsAny(T expected)
 	{
 		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
-		return containsAny(asList(expected));
+		return containsAnyImpl(new Elements(expected), null);
 	}
 
 	@Override
@@ -298,14 +485,14 @@ public abstract class AbstractArrayValidator<S, T, E>
 	{
 		requireThatNameIsUnique(name).
 			requireThat(expected, name).isNotNull();
-		return containsAny(asList(expected), name);
+		return containsAnyImpl(new Elements(expected), name);
 	}
 
 	@Override
 	public <C extends Collection<E>> S doesNotContainAny(C unwanted)
 	{
 		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
-		return doesNotContainAnyImpl(unwanted, null);
+		return doesNotContainAnyImpl(new Elements(unwanted), null);
 	}
 
 	@Override
@@ -313,19 +500,18 @@ public abstract class AbstractArrayValidator<S, T, E>
 	{
 		requireThatNameIsUnique(name).
 			requireThat(unwanted, name).isNotNull();
-		return doesNotContainAnyImpl(unwanted, name);
+		return doesNotContainAnyImpl(new Elements(unwanted), name);
 	}
 
-	private <C extends Collection<E>> S doesNotContainAnyImpl(C unwanted, String name)
+	private S doesNotContainAnyImpl(Elements unwanted, String name)
 	{
-		Difference<E> difference = value.nullToInvalid().map(
-			v -> Difference.actualVsOther(asList(v), unwanted)).or(null);
-		if (difference == null || !difference.common().isEmpty())
+		if (value.validationFailed(v -> !containsAny(v, unwanted)))
 		{
 			failOnNull();
+			Set<E> elementsToRemove = value.nullToInvalid().map(v -> getUnwanted(v, unwanted)).or(null);
 			addIllegalArgumentException(
-				CollectionMessages.doesNotContainAnyFailed(this, difference, name, unwanted, Pluralizer.ELEMENT).
-					toString());
+				CollectionMessages.doesNotContainAnyFailed(this, elementsToRemove, name, unwanted.asCollection(),
+					Pluralizer.ELEMENT).toString());
 		}
 		return self();
 	}
@@ -334,7 +520,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 	public S doesNotContainAny(T unwanted)
 	{
 		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
-		return doesNotContainAny(asList(unwanted), "unwanted");
+		return doesNotContainAny(unwanted, "unwanted");
 	}
 
 	@Override
@@ -342,14 +528,14 @@ public abstract class AbstractArrayValidator<S, T, E>
 	{
 		requireThatNameIsUnique(name).
 			requireThat(unwanted, name).isNotNull();
-		return doesNotContainAny(asList(unwanted), name);
+		return doesNotContainAnyImpl(new Elements(unwanted), name);
 	}
 
 	@Override
 	public <C extends Collection<E>> S containsAll(C expected)
 	{
 		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
-		return containsAllImpl(expected, null);
+		return containsAllImpl(new Elements(expected), null);
 	}
 
 	@Override
@@ -357,19 +543,18 @@ public abstract class AbstractArrayValidator<S, T, E>
 	{
 		requireThatNameIsUnique(name).
 			requireThat(expected, name).isNotNull();
-		return containsAllImpl(expected, name);
+		return containsAllImpl(new Elements(expected), name);
 	}
 
-	private <C extends Collection<E>> S containsAllImpl(C expected, String name)
+	private S containsAllImpl(Elements expected, String name)
 	{
-		Difference<E> difference = value.nullToInvalid().map(
-			v -> Difference.actualVsOther(asList(v), expected)).or(null);
-		if (difference == null || !difference.onlyInOther().isEmpty())
+		if (value.validationFailed(v -> containsAll(v, expected)))
 		{
 			failOnNull();
+			Set<E> missing = value.nullToInvalid().map(v -> getMissing(v, expected)).or(null);
 			addIllegalArgumentException(
-				CollectionMessages.containsAllFailed(this, difference, name, expected, Pluralizer.ELEMENT).
-					toString());
+				CollectionMessages.containsAllFailed(this, missing, name, expected.asCollection(),
+					Pluralizer.ELEMENT).toString());
 		}
 		return self();
 	}
@@ -378,7 +563,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 	public S containsAll(T expected)
 	{
 		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
-		return containsAll(asList(expected));
+		return containsAllImpl(new Elements(expected), null);
 	}
 
 	@Override
@@ -386,14 +571,14 @@ public abstract class AbstractArrayValidator<S, T, E>
 	{
 		requireThatNameIsUnique(name).
 			requireThat(expected, name).isNotNull();
-		return containsAll(asList(expected), name);
+		return containsAllImpl(new Elements(expected), name);
 	}
 
 	@Override
 	public <C extends Collection<E>> S doesNotContainAll(C unwanted)
 	{
 		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
-		return doesNotContainAllImpl(unwanted, null);
+		return doesNotContainAllImpl(new Elements(unwanted), null);
 	}
 
 	@Override
@@ -401,16 +586,17 @@ public abstract class AbstractArrayValidator<S, T, E>
 	{
 		requireThatNameIsUnique(name).
 			requireThat(unwanted, name).isNotNull();
-		return doesNotContainAllImpl(unwanted, name);
+		return doesNotContainAllImpl(new Elements(unwanted), name);
 	}
 
-	private <C extends Collection<E>> S doesNotContainAllImpl(C unwanted, String name)
+	private S doesNotContainAllImpl(Elements unwanted, String name)
 	{
-		if (value.validationFailed(v -> !getValueAsSet(v).containsAll(unwanted)))
+		if (value.validationFailed(v -> !containsAll(v, unwanted)))
 		{
 			failOnNull();
 			addIllegalArgumentException(
-				CollectionMessages.doesNotContainAllFailed(this, name, unwanted, Pluralizer.ELEMENT).toString());
+				CollectionMessages.doesNotContainAllFailed(this, name, unwanted.asCollection(), Pluralizer.ELEMENT).
+					toString());
 		}
 		return self();
 	}
@@ -419,7 +605,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 	public S doesNotContainAll(T unwanted)
 	{
 		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
-		return doesNotContainAll(asList(unwanted));
+		return doesNotContainAllImpl(new Elements(unwanted), null);
 	}
 
 	@Override
@@ -427,18 +613,16 @@ public abstract class AbstractArrayValidator<S, T, E>
 	{
 		requireThatNameIsUnique(name).
 			requireThat(unwanted, name).isNotNull();
-		return doesNotContainAll(asList(unwanted), name);
+		return doesNotContainAllImpl(new Elements(unwanted), name);
 	}
 
 	@Override
 	public S doesNotContainDuplicates()
 	{
-		Set<E> duplicates = value.nullToInvalid().
-			map(v -> io.github.cowwoc.requirements13.java.internal.util.Collections.getDuplicates(asList(v)))
-			.or(null);
-		if (duplicates == null || !duplicates.isEmpty())
+		if (value.validationFailed(v -> !containsDuplicates(v)))
 		{
 			failOnNull();
+			Set<E> duplicates = value.nullToInvalid().map(this::getDuplicateElements).or(null);
 			addIllegalArgumentException(
 				CollectionMessages.doesNotContainDuplicatesFailed(this, duplicates, Pluralizer.ELEMENT).
 					toString());
@@ -446,24 +630,42 @@ public abstract class AbstractArrayValidator<S, T, E>
 		return self();
 	}
 
+	/**
+	 * @param value the array being validated
+	 * @return the elements that the value contains more than once
+	 */
+	private Set<E> getDuplicateElements(T value)
+	{
+		long[] values = toLongs(value);
+		if (values != null)
+			return toElements(LongSet.duplicatesOf(values, isParallel(values.length)));
+		return Collections.getDuplicates(asList(value));
+	}
+
+	/**
+	 * @param value the array being validated
+	 * @return {@code true} if the value contains duplicate elements
+	 */
+	private boolean containsDuplicates(T value)
+	{
+		LongSet valueAsLongSet = getValueAsLongSet(value);
+		if (valueAsLongSet != null)
+			return valueAsLongSet.size() != getLength(value);
+		return getValueAsSet(value).size() != getLength(value);
+	}
+
 	@Override
 	public S isSorted(Comparator<E> comparator)
 	{
-		ValidationTarget<List<E>> sorted = value.map(v ->
-		{
-			List<E> valueAsList = asList(v);
-			List<E> temp = new ArrayList<>(valueAsList);
-			temp.sort(comparator);
-			if (temp.equals(valueAsList))
-			{
-				// An empty value indicates that the value is already sorted
-				return List.of();
-			}
-			return temp;
-		});
-		if (sorted.validationFailed(List::isEmpty))
+		if (value.validationFailed(v -> Arrays.isSorted(asList(v), comparator, isParallel(getLength(v)))))
 		{
 			failOnNull();
+			ValidationTarget<List<E>> sorted = value.map(v ->
+			{
+				List<E> temp = new ArrayList<>(asList(v));
+				temp.sort(comparator);
+				return temp;
+			});
 			addIllegalArgumentException(
 				CollectionMessages.isSortedFailed(this, sorted.or(null)).toString());
 		}
@@ -477,4 +679,84 @@ public abstract class AbstractArrayValidator<S, T, E>
 		return new ObjectSizeValidatorImpl(scope, configuration, this, name + ".length()",
 			value.nullToInvalid().map(this::getLength), Pluralizer.ELEMENT, context, failures);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * The elements that the value is compared to. Elements of primitive arrays are only boxed if they are
+	 * displayed in a failure message, or compared to an array of objects.
+	 */
+	private final class Elements
+	{
+		private final T array;
+		private Collection<E> collection;
+		private LongSet longSet;
+		private boolean longSetInitialized;
+
+		/**
+		 * @param collection a collection
+		 * @throws AssertionError if {@code collection} is null
+		 */
+		Elements(Collection<E> collection)
+		{
+			assert collection != null;
+			this.array = null;
+			this.collection = collection;
+		}
+
+		/**
+		 * @param array an array
+		 * @throws AssertionError if {@code array} is null
+		 */
+		Elements(T array)
+		{
+			assert array != null;
+			this.array = array;
+		}
+
+		/**
+		 * @return the elements as a collection
+		 */
+		public Collection<E> asCollection()
+		{
+			if (collection == null)
+				collection = asList(array);
+			return collection;
+		}
+
+		/**
+		 * @return the distinct elements, or {@code null} if they cannot be converted to primitives
+		 */
+		public LongSet asLongSet()
+		{
+			// Cache the set because failure messages look it up again
+			if (!longSetInitialized)
+			{
+				longSet = toLongSetImpl();
+				longSetInitialized = true;
+			}
+			return longSet;
+		}
+
+		/**
+		 * @return the distinct elements, or {@code null} if they cannot be converted to primitives
+		 */
+		private LongSet toLongSetImpl()
+		{
+			if (array != null)
+				return toLongSet(array);
+			// Look up elements in the existing index instead of copying it
+			if (collection instanceof ReferenceSet<E>)
+				return null;
+			long[] values = new long[collection.size()];
+			int i = 0;
+			for (E element : collection)
+			{
+				// Primitive arrays cannot contain null
+				if (element == null)
+					return null;
+				values[i] = toLong(element);
+				++i;
+			}
+			return LongSet.of(values, isParallel(values.length));
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.validator;
+
+import io.github.cowwoc.requirements13.java.ValidationFailure;
+import io.github.cowwoc.requirements13.java.internal.Configuration;
+import io.github.cowwoc.requirements13.java.internal.message.BinaryMessages;
+import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.java.internal.util.MemorySegments;
+import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
+import io.github.cowwoc.requirements13.java.validator.component.BinaryComponent;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates the state of binary data by viewing it as a {@code MemorySegment}, without copying it.
+ *
+ * @param <S> the type of validator that the methods should return
+ * @param <T> the type of the value
+ */
+public abstract class AbstractBinaryValidator<S, T> extends AbstractObjectValidator<S, T>
+	implements BinaryComponent<S>
+{
+	/**
+	 * @param scope         the application configuration
+	 * @param configuration the validator configuration
+	 * @param name          the name of the value
+	 * @param value         the value being validated
+	 * @param context       the contextual information set by a parent validator or the user
+	 * @param failures      the list of validation failures
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace, or is empty
+	 * @throws AssertionError           if {@code scope}, {@code configuration}, {@code value}, {@code context}
+	 *                                  or {@code failures} are null
+	 */
+	protected AbstractBinaryValidator(ApplicationScope scope, Configuration configuration, String name,
+		ValidationTarget<T> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
+	{
+		super(scope, configuration, name, value, context, failures);
+	}
+
+	/**
+	 * Returns a view of the data that is being validated.
+	 *
+	 * @param value the value being validated
+	 * @return a segment that shares the value's memory
+	 */
+	protected abstract MemorySegment asSegment(T value);
+
+	@Override
+	public S startsWith(byte[] prefix)
+	{
+		scope.getInternalValidators().requireThat(prefix, "prefix").isNotNull();
+		MemorySegment prefixAsSegment = MemorySegment.ofArray(prefix);
+		if (value.validationFailed(v -> MemorySegments.startsWith(asSegment(v), prefixAsSegment)))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				BinaryMessages.startsWithFailed(this, prefix).toString());
+		}
+		return self();
+	}
+
+	@Override
+	public S contains(byte[] expected)
+	{
+		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
+		MemorySegment expectedAsSegment = MemorySegment.ofArray(expected);
+		if (value.validationFailed(v -> MemorySegments.indexOf(asSegment(v), expectedAsSegment) != -1))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				BinaryMessages.containsFailed(this, expected).toString());
+		}
+		return self();
+	}
+
+	@Override
+	public S isAlignedTo(long alignment)
+	{
+		scope.getInternalValidators().requireThat(alignment, "alignment").isPositive();
+		if (Long.bitCount(alignment) != 1)
+		{
+			throw new IllegalArgumentException("alignment must be a power of two.\n" +
+				"actual: " + alignment);
+		}
+		if (value.validationFailed(v -> MemorySegments.isAlignedTo(asSegment(v), alignment)))
+		{
+			failOnNull();
+			MemorySegment segment = value.nullToInvalid().map(this::asSegment).or(null);
+			addIllegalArgumentException(
+				BinaryMessages.isAlignedToFailed(this, segment, alignment).toString());
+		}
+		return self();
+	}
+
+	@Override
+	public S allBetween(ValueLayout.OfInt layout, int minimumInclusive, int maximumExclusive)
+	{
+		scope.getInternalValidators().requireThat(layout, "layout").isNotNull();
+		scope.getInternalValidators().requireThat(minimumInclusive, "minimumInclusive").
+			isLessThanOrEqualTo(maximumExclusive, "maximumExclusive");
+		ValidationTarget<Long> outOfRange = value.nullToInvalid().map(v -> MemorySegments.indexOfOutOfRange(
+			asSegment(v), layout, minimumInclusive, maximumExclusive));
+		if (outOfRange.validationFailed(index -> index == -1))
+		{
+			failOnNull();
+			long index = outOfRange.or(-1L);
+			Integer element;
+			if (index == -1)
+				element = null;
+			else
+				element = asSegment(value.or(null)).getAtIndex(layout.withByteAlignment(1), index);
+			addIllegalArgumentException(
+				BinaryMessages.allBetweenFailed(this, index, element, minimumInclusive, maximumExclusive).
+					toString());
+		}
+		return self();
+	}
+
+	@Override
+	public S allBetween(ValueLayout.OfLong layout, long minimumInclusive, long maximumExclusive)
+	{
+		scope.getInternalValidators().requireThat(layout, "layout").isNotNull();
+		scope.getInternalValidators().requireThat(minimumInclusive, "minimumInclusive").
+			isLessThanOrEqualTo(maximumExclusive, "maximumExclusive");
+		ValidationTarget<Long> outOfRange = value.nullToInvalid().map(v -> MemorySegments.indexOfOutOfRange(
+			asSegment(v), layout, minimumInclusive, maximumExclusive));
+		if (outOfRange.validationFailed(index -> index == -1))
+		{
+			failOnNull();
+			long index = outOfRange.or(-1L);
+			Long element;
+			if (index == -1)
+				element = null;
+			else
+				element = asSegment(value.or(null)).getAtIndex(layout.withByteAlignment(1), index);
+			addIllegalArgumentException(
+				BinaryMessages.allBetweenFailed(this, index, element, minimumInclusive, maximumExclusive).
+					toString());
+		}
+		return self();
+	}
+}
@@ -9,19 +9,20 @@ import io.github.cowwoc.requirements13.java.internal.Configuration;
 import io.github.cowwoc.requirements13.java.internal.message.CollectionMessages;
 import io.github.cowwoc.requirements13.java.internal.message.ObjectMessages;
 import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.java.internal.util.Collections;
 import io.github.cowwoc.requirements13.java.internal.util.Difference;
 import io.github.cowwoc.requirements13.java.internal.util.Pluralizer;
 import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
+import io.github.cowwoc.requirements13.java.validator.ObjectValidator;
 import io.github.cowwoc.requirements13.java.validator.PrimitiveUnsignedIntegerValidator;
 import io.github.cowwoc.requirements13.java.validator.component.CollectionComponent;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Validates the state of a collection.
@@ -35,6 +36,12 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 	implements CollectionComponent<S, E>
 {
 	private final Pluralizer pluralizer;
+	/**
+	 * The size of the collection, or {@code -1} if it has not been computed yet. Some collections, such as
+	 * {@code ConcurrentLinkedQueue} or lazily-loaded collections, traverse or load their elements to compute
+	 * their size.
+	 */
+	private int size = -1;
 
 	/**
 	 * @param scope         the application configuration
@@ -50,7 +57,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 	 *                                  or {@code failures} are null
 	 */
 	public AbstractCollectionValidator(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<T> value, Pluralizer pluralizer, Map<String, Optional<Object>> context,
+		ValidationTarget<T> value, Pluralizer pluralizer, Map<String, ContextValue> context,
 		List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
@@ -61,7 +68,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 	@Override
 	public S isEmpty()
 	{
-		if (value.validationFailed(Collection::isEmpty))
+		if (value.validationFailed(this::isEmpty))
 		{
 			failOnNull();
 			addIllegalArgumentException(
@@ -73,7 +80,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 	@Override
 	public S isNotEmpty()
 	{
-		if (value.validationFailed(v -> !v.isEmpty()))
+		if (value.validationFailed(v -> !isEmpty(v)))
 		{
 			failOnNull();
 			addIllegalArgumentException(
@@ -177,11 +184,11 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 
 	private S containsExactlyImpl(Collection<E> expected, String name)
 	{
-		Difference<E> difference = value.nullToInvalid().
-			map(v -> Difference.actualVsOther(v, expected)).or(null);
-		if (difference == null || !difference.areTheSame())
+		if (value.validationFailed(v -> Collections.containsSameElements(v, expected, isParallel(v))))
 		{
 			failOnNull();
+			Difference<E> difference = value.nullToInvalid().
+				map(v -> Difference.actualVsOther(v, expected)).or(null);
 			addIllegalArgumentException(
 				CollectionMessages.containsExactlyFailed(this, difference, name, expected, pluralizer).toString());
 		}
@@ -220,9 +227,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 
 	private S doesNotContainExactlyImpl(Collection<E> unwanted, String name)
 	{
-		Difference<E> difference = value.nullToInvalid().
-			map(v -> Difference.actualVsOther(v, unwanted)).or(null);
-		if (difference == null || !difference.areDifferent())
+		if (value.validationFailed(v -> !Collections.containsSameElements(v, unwanted, isParallel(v))))
 		{
 			failOnNull();
 			addIllegalArgumentException(
@@ -263,7 +268,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 
 	private S containsAnyImpl(Collection<E> expected, String name)
 	{
-		if (value.validationFailed(v -> !Collections.disjoint(v, expected)))
+		if (value.validationFailed(v -> Collections.containsAny(v, expected, isParallel(v))))
 		{
 			failOnNull();
 			addIllegalArgumentException(
@@ -304,13 +309,13 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 
 	private S doesNotContainAnyImpl(Collection<E> unwanted, String name)
 	{
-		Difference<E> difference = value.nullToInvalid().
-			map(v -> Difference.actualVsOther(v, unwanted)).or(null);
-		if (difference == null || !difference.common().isEmpty())
+		if (value.validationFailed(v -> !Collections.containsAny(v, unwanted, isParallel(v))))
 		{
 			failOnNull();
+			Set<E> elementsToRemove = value.nullToInvalid().
+				map(v -> Collections.intersection(Collections.asSet(v), Collections.asSet(unwanted))).or(null);
 			addIllegalArgumentException(
-				CollectionMessages.doesNotContainAnyFailed(this, difference, name, unwanted, pluralizer).
+				CollectionMessages.doesNotContainAnyFailed(this, elementsToRemove, name, unwanted, pluralizer).
 					toString());
 		}
 		return self();
@@ -348,13 +353,13 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 
 	private S containsAllImpl(Collection<E> expected, String name)
 	{
-		Difference<E> difference = value.nullToInvalid().
-			map(v -> Difference.actualVsOther(v, expected)).or(null);
-		if (difference == null || !difference.onlyInOther().isEmpty())
+		if (value.validationFailed(v -> Collections.containsAll(v, expected, isParallel(v))))
 		{
 			failOnNull();
+			Set<E> missing = value.nullToInvalid().map(v -> Collections.firstMinusSecond(
+				Collections.asSet(expected), Collections.asSet(v))).or(null);
 			addIllegalArgumentException(
-				CollectionMessages.containsAllFailed(this, difference, name, expected, pluralizer).
+				CollectionMessages.containsAllFailed(this, missing, name, expected, pluralizer).
 					toString());
 		}
 		return self();
@@ -392,7 +397,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 
 	private S doesNotContainAllImpl(Collection<E> unwanted, String name)
 	{
-		if (value.validationFailed(v -> !v.containsAll(unwanted)))
+		if (value.validationFailed(v -> !Collections.containsAll(v, unwanted, isParallel(v))))
 		{
 			failOnNull();
 			addIllegalArgumentException(
@@ -419,11 +424,11 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 	@Override
 	public S doesNotContainDuplicates()
 	{
-		Set<E> duplicates = value.nullToInvalid().
-			map(io.github.cowwoc.requirements13.java.internal.util.Collections::getDuplicates).or(null);
-		if (duplicates == null || !duplicates.isEmpty())
+		if (value.validationFailed(v -> !Collections.containsDuplicates(v, isParallel(v))))
 		{
 			failOnNull();
+			Set<E> duplicates = value.nullToInvalid().
+				map(Collections::getDuplicates).or(null);
 			addIllegalArgumentException(
 				CollectionMessages.doesNotContainDuplicatesFailed(this, duplicates, pluralizer).
 					toString());
@@ -431,11 +436,98 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 		return self();
 	}
 
+	@Override
+	public S eachElement(Consumer<? super ObjectValidator<E>> validation)
+	{
+		return eachElement(validation, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public S eachElement(Consumer<? super ObjectValidator<E>> validation, int maximumFailures)
+	{
+		scope.getInternalValidators().requireThat(validation, "validation").isNotNull();
+		scope.getInternalValidators().requireThat(maximumFailures, "maximumFailures").isPositive();
+
+		T collection = value.or(null);
+		if (collection == null)
+		{
+			failOnNull();
+			return self();
+		}
+		// Element validators share this validator's context and failures, so there is nothing to copy or merge
+		int index = 0;
+		int failedElements = 0;
+		for (E element : collection)
+		{
+			int failuresBefore = failures.size();
+			validation.accept(new ElementValidatorImpl<>(scope, configuration, name, index, element, context,
+				failures));
+			if (failures.size() > failuresBefore)
+			{
+				++failedElements;
+				if (failedElements == maximumFailures)
+					break;
+			}
+			++index;
+		}
+		return self();
+	}
+
 	@Override
 	public PrimitiveUnsignedIntegerValidator size()
 	{
 		failOnNull();
 		return new ObjectSizeValidatorImpl(scope, configuration, this, name + ".size()",
-			value.nullToInvalid().map(Collection::size), pluralizer, context, failures);
+			value.nullToInvalid().map(this::getSize), pluralizer, context, failures);
+	}
+
+	/**
+	 * Returns the size of the collection, computing it at most once per validator.
+	 *
+	 * @param value the value being validated
+	 * @return the size of the collection
+	 */
+	private int getSize(T value)
+	{
+		if (size == -1)
+			size = value.size();
+		return size;
+	}
+
+	/**
+	 * Sets the size of the collection, if it was already computed by another validator.
+	 *
+	 * @param size the size of the collection
+	 * @throws AssertionError if {@code size} is negative
+	 */
+	void setSize(int size)
+	{
+		assert size >= 0 : size;
+		this.size = size;
+	}
+
+	/**
+	 * Indicates if the collection is empty, without computing its size.
+	 *
+	 * @param value the value being validated
+	 * @return {@code true} if the collection is empty
+	 */
+	private boolean isEmpty(T value)
+	{
+		if (size == -1)
+			return value.isEmpty();
+		return size == 0;
+	}
+
+	/**
+	 * Indicates if the elements of the collection should be validated in parallel.
+	 *
+	 * @param value the value being validated
+	 * @return {@code true} if the elements should be validated in parallel
+	 */
+	protected boolean isParallel(T value)
+	{
+		// Avoid computing the size of the collection if parallel validation is disabled
+		return configuration.parallelThreshold() != Integer.MAX_VALUE && isParallel(getSize(value));
 	}
 }
\ No newline at end of file
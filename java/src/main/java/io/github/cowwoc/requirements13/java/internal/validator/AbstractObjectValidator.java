@@ -16,7 +16,6 @@ import io.github.cowwoc.requirements13.java.validator.component.ObjectComponent;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.BiFunction;
 
 /**
@@ -41,11 +40,27 @@ public abstract class AbstractObjectValidator<S, T> extends AbstractValidator<S,
 	 *                                  or {@code failures} are null
 	 */
 	public AbstractObjectValidator(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<T> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<T> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
 
+	/**
+	 * Creates a validator whose name is computed on demand by {@link #getName()}.
+	 *
+	 * @param scope         the application configuration
+	 * @param configuration the validator configuration
+	 * @param value         the value being validated
+	 * @param context       the contextual information set by a parent validator or the user
+	 * @param failures      the list of validation failures
+	 * @throws AssertionError if any of the arguments are null
+	 */
+	protected AbstractObjectValidator(ApplicationScope scope, Configuration configuration,
+		ValidationTarget<T> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
+	{
+		super(scope, configuration, value, context, failures);
+	}
+
 	@Override
 	public T getValue()
 	{
@@ -11,7 +11,6 @@ import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Validates the state of a primitive value, recording failures without throwing an exception.
@@ -34,7 +33,7 @@ public abstract class AbstractPrimitiveValidator<S, T> extends AbstractValidator
 	 *                                  or {@code failures} are null
 	 */
 	protected AbstractPrimitiveValidator(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<T> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<T> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
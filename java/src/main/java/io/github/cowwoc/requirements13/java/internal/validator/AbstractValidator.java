@@ -17,6 +17,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -45,7 +46,7 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 	 */
 	protected final Configuration configuration;
 	/**
-	 * The name of the value.
+	 * The name of the value, or {@code null} if {@link #getName()} computes it on demand.
 	 */
 	protected final String name;
 	/**
@@ -53,9 +54,9 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 	 */
 	public final ValidationTarget<T> value;
 	/**
-	 * The contextual information of this validator. Values are wrapped in an {@code Optional}.
+	 * The contextual information of this validator.
 	 */
-	protected final Map<String, Optional<Object>> context;
+	protected final Map<String, ContextValue> context;
 	/**
 	 * The list of validation failures.
 	 */
@@ -75,7 +76,7 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 	 *                                  or {@code failures} are null
 	 */
 	protected AbstractValidator(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<T> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<T> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		assert scope != null : "scope may not be null";
 		assert configuration != null : "configuration may not be null";
@@ -101,6 +102,33 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 		this.failures = failures;
 	}
 
+	/**
+	 * Creates a validator whose name is computed on demand by {@link #getName()}. Subclasses that use this
+	 * constructor must override {@code getName()}, and must not reference the {@code name} field.
+	 *
+	 * @param scope         the application configuration
+	 * @param configuration the validator configuration
+	 * @param value         the value being validated
+	 * @param context       the contextual information set by a parent validator or the user
+	 * @param failures      the list of validation failures
+	 * @throws AssertionError if any of the arguments are null
+	 */
+	protected AbstractValidator(ApplicationScope scope, Configuration configuration, ValidationTarget<T> value,
+		Map<String, ContextValue> context, List<ValidationFailure> failures)
+	{
+		assert scope != null : "scope may not be null";
+		assert configuration != null : "configuration may not be null";
+		assert value != null : "value may not be null";
+		assert context != null : "context may not be null";
+		assert failures != null : "failures may not be null";
+		this.scope = scope;
+		this.configuration = configuration;
+		this.name = null;
+		this.value = value;
+		this.context = context;
+		this.failures = failures;
+	}
+
 	/**
 	 * @param value a string
 	 * @return {@code true} if the value contains any whitespace characters
@@ -313,6 +341,17 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 		return configuration;
 	}
 
+	/**
+	 * Indicates if the elements of a collection or array should be validated in parallel.
+	 *
+	 * @param size the number of elements
+	 * @return {@code true} if {@code size} is at least {@link Configuration#parallelThreshold()}
+	 */
+	protected boolean isParallel(int size)
+	{
+		return size >= configuration.parallelThreshold();
+	}
+
 	/**
 	 * Returns this validator as the expected type.
 	 *
@@ -347,14 +386,24 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 	@Override
 	public Map<String, Optional<Object>> getContext()
 	{
-		return Map.copyOf(context);
+		return ContextValue.toOptionals(context);
+	}
+
+	/**
+	 * Returns the contextual information of this validator, without copying it.
+	 *
+	 * @return an unmodifiable view of the contextual information
+	 */
+	public Map<String, ContextValue> getContextValues()
+	{
+		return Collections.unmodifiableMap(context);
 	}
 
 	@Override
 	public S withContext(Object value, String name)
 	{
 		requireThatNameIsUnique(name, false);
-		context.put(name, Optional.ofNullable(value));
+		context.put(name, new ContextValue(value));
 		return self();
 	}
 
@@ -408,7 +457,7 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 		if (containsWhitespace(name))
 			throw new IllegalArgumentException("name may not contain whitespace");
 
-		if (name.equals(this.name))
+		if (name.equals(getName()))
 		{
 			throw new IllegalArgumentException("The name \"" + name + "\" is already in use by the value " +
 				"being validated. Choose a different name.");
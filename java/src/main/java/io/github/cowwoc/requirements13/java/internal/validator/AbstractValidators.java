@@ -44,7 +44,7 @@ public abstract class AbstractValidators<S> implements Validators<S>
 	private Configuration requireThatConfiguration;
 	private Configuration assertThatConfiguration;
 	private Configuration checkIfConfiguration;
-	protected final Map<String, Optional<Object>> context = new HashMap<>();
+	protected final Map<String, ContextValue> context = new HashMap<>();
 
 	/**
 	 * Creates a new instance.
@@ -176,7 +176,7 @@ public abstract class AbstractValidators<S> implements Validators<S>
 	@Override
 	public Map<String, Optional<Object>> getContext()
 	{
-		return Map.copyOf(context);
+		return ContextValue.toOptionals(context);
 	}
 
 	@Override
@@ -199,6 +199,7 @@ public abstract class AbstractValidators<S> implements Validators<S>
 		private EqualityMethod equalityMethod;
 		private boolean recordStacktrace;
 		private Function<Throwable, ? extends Throwable> exceptionTransformer;
+		private int parallelThreshold;
 		private boolean changed;
 		private boolean closed;
 
@@ -220,6 +221,7 @@ public abstract class AbstractValidators<S> implements Validators<S>
 			this.mutableStringMappers = MutableStringMappers.from(configuration.stringMappers());
 			this.recordStacktrace = configuration.recordStacktrace();
 			this.exceptionTransformer = configuration.exceptionTransformer();
+			this.parallelThreshold = configuration.parallelThreshold();
 		}
 
 		@Override
@@ -325,6 +327,27 @@ public abstract class AbstractValidators<S> implements Validators<S>
 			return this;
 		}
 
+		@Override
+		public int parallelThreshold()
+		{
+			ensureOpen();
+			return parallelThreshold;
+		}
+
+		@Override
+		public ConfigurationUpdater parallelThreshold(int parallelThreshold)
+		{
+			ensureOpen();
+			if (parallelThreshold < 0)
+				throw new IllegalArgumentException("parallelThreshold may not be negative: " + parallelThreshold);
+			if (parallelThreshold != this.parallelThreshold)
+			{
+				this.parallelThreshold = parallelThreshold;
+				changed = true;
+			}
+			return this;
+		}
+
 		/**
 		 * @throws IllegalStateException if the updater is closed
 		 */
@@ -346,7 +369,8 @@ public abstract class AbstractValidators<S> implements Validators<S>
 			if (!changed)
 				return;
 			this.setConfiguration.accept(new Configuration(cleanStackTrace, allowDiff, equalityMethod,
-				immutableStringMappers, recordStacktrace, oldConfiguration.throwOnFailure(), exceptionTransformer));
+				immutableStringMappers, recordStacktrace, oldConfiguration.throwOnFailure(), exceptionTransformer,
+				parallelThreshold));
 		}
 
 		@Override
@@ -354,7 +378,8 @@ public abstract class AbstractValidators<S> implements Validators<S>
 		{
 			return "cleanStackTrace: " + cleanStackTrace + ", allowDiff: " + allowDiff + ", equalityMethod: " +
 				equalityMethod + ", stringMappers: " + mutableStringMappers + ", recordStacktrace: " +
-				recordStacktrace + ", exceptionTransformer: " + exceptionTransformer;
+				recordStacktrace + ", exceptionTransformer: " + exceptionTransformer + ", parallelThreshold: " +
+				parallelThreshold;
 		}
 	}
 }
\ No newline at end of file
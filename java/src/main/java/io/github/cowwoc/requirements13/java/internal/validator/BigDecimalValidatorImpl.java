@@ -16,7 +16,6 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveUnsignedIntegerVa
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class BigDecimalValidatorImpl extends AbstractObjectValidator<BigDecimalValidator, BigDecimal>
 	implements BigDecimalValidator
@@ -36,7 +35,7 @@ public final class BigDecimalValidatorImpl extends AbstractObjectValidator<BigDe
 	 *                                  or {@code failures} are null
 	 */
 	public BigDecimalValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<BigDecimal> value, Map<String, Optional<Object>> context,
+		ValidationTarget<BigDecimal> value, Map<String, ContextValue> context,
 		List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
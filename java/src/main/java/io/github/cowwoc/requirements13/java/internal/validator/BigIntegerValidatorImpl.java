@@ -14,7 +14,6 @@ import io.github.cowwoc.requirements13.java.validator.BigIntegerValidator;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class BigIntegerValidatorImpl extends AbstractObjectValidator<BigIntegerValidator, BigInteger>
 	implements BigIntegerValidator
@@ -34,7 +33,7 @@ public final class BigIntegerValidatorImpl extends AbstractObjectValidator<BigIn
 	 *                                  or {@code failures} are null
 	 */
 	public BigIntegerValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<BigInteger> value, Map<String, Optional<Object>> context,
+		ValidationTarget<BigInteger> value, Map<String, ContextValue> context,
 		List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
@@ -13,7 +13,6 @@ import io.github.cowwoc.requirements13.java.validator.BooleanValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class BooleanValidatorImpl extends AbstractObjectValidator<BooleanValidator, Boolean>
 	implements BooleanValidator
@@ -31,7 +30,7 @@ public final class BooleanValidatorImpl extends AbstractObjectValidator<BooleanV
 	 *                                  or {@code failures} are null
 	 */
 	public BooleanValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Boolean> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<Boolean> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
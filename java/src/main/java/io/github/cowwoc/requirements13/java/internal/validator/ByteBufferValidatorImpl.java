@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.validator;
+
+import io.github.cowwoc.requirements13.java.ValidationFailure;
+import io.github.cowwoc.requirements13.java.internal.Configuration;
+import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.java.internal.util.Pluralizer;
+import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
+import io.github.cowwoc.requirements13.java.validator.ByteBufferValidator;
+import io.github.cowwoc.requirements13.java.validator.PrimitiveUnsignedIntegerValidator;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+public final class ByteBufferValidatorImpl extends AbstractBinaryValidator<ByteBufferValidator, ByteBuffer>
+	implements ByteBufferValidator
+{
+	private final Comparables<ByteBufferValidator, ByteBuffer> comparables = new Comparables<>(this);
+
+	/**
+	 * @param scope         the application configuration
+	 * @param configuration the validator configuration
+	 * @param name          the name of the value
+	 * @param value         the value being validated
+	 * @param context       the contextual information set by a parent validator or the user
+	 * @param failures      the list of validation failures
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace, or is empty
+	 * @throws AssertionError           if {@code scope}, {@code configuration}, {@code value}, {@code context}
+	 *                                  or {@code failures} are null
+	 */
+	public ByteBufferValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
+		ValidationTarget<ByteBuffer> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
+	{
+		super(scope, configuration, name, value, context, failures);
+	}
+
+	@Override
+	protected MemorySegment asSegment(ByteBuffer value)
+	{
+		// The segment spans the buffer's remaining bytes, and shares its memory
+		return MemorySegment.ofBuffer(value);
+	}
+
+	@Override
+	public PrimitiveUnsignedIntegerValidator remaining()
+	{
+		failOnNull();
+		return new ObjectSizeValidatorImpl(scope, configuration, this, name + ".remaining()",
+			value.nullToInvalid().map(ByteBuffer::remaining), Pluralizer.BYTE, context, failures);
+	}
+
+	@Override
+	public PrimitiveUnsignedIntegerValidator capacity()
+	{
+		failOnNull();
+		return new ObjectSizeValidatorImpl(scope, configuration, this, name + ".capacity()",
+			value.nullToInvalid().map(ByteBuffer::capacity), Pluralizer.BYTE, context, failures);
+	}
+
+	@Override
+	public ByteBufferValidator isLessThan(ByteBuffer maximumExclusive)
+	{
+		return comparables.isLessThan(maximumExclusive);
+	}
+
+	@Override
+	public ByteBufferValidator isLessThan(ByteBuffer maximumExclusive, String name)
+	{
+		return comparables.isLessThan(maximumExclusive, name);
+	}
+
+	@Override
+	public ByteBufferValidator isLessThanOrEqualTo(ByteBuffer maximumInclusive)
+	{
+		return comparables.isLessThanOrEqualTo(maximumInclusive);
+	}
+
+	@Override
+	public ByteBufferValidator isLessThanOrEqualTo(ByteBuffer maximumInclusive, String name)
+	{
+		return comparables.isLessThanOrEqualTo(maximumInclusive, name);
+	}
+
+	@Override
+	public ByteBufferValidator isGreaterThanOrEqualTo(ByteBuffer minimumInclusive)
+	{
+		return comparables.isGreaterThanOrEqualTo(minimumInclusive);
+	}
+
+	@Override
+	public ByteBufferValidator isGreaterThanOrEqualTo(ByteBuffer minimumInclusive, String name)
+	{
+		return comparables.isGreaterThanOrEqualTo(minimumInclusive, name);
+	}
+
+	@Override
+	public ByteBufferValidator isGreaterThan(ByteBuffer minimumExclusive)
+	{
+		return comparables.isGreaterThan(minimumExclusive);
+	}
+
+	@Override
+	public ByteBufferValidator isGreaterThan(ByteBuffer minimumExclusive, String name)
+	{
+		return comparables.isGreaterThan(minimumExclusive, name);
+	}
+
+	@Override
+	public ByteBufferValidator isBetween(ByteBuffer minimumInclusive, ByteBuffer maximumExclusive)
+	{
+		return comparables.isBetween(minimumInclusive, maximumExclusive);
+	}
+
+	@Override
+	public ByteBufferValidator isBetween(ByteBuffer minimum, boolean minimumIsInclusive, ByteBuffer maximum,
+		boolean maximumIsInclusive)
+	{
+		return comparables.isBetween(minimum, minimumIsInclusive, maximum, maximumIsInclusive);
+	}
+}
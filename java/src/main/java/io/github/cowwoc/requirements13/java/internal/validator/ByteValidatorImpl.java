@@ -12,7 +12,6 @@
 
  import java.util.List;
  import java.util.Map;
- import java.util.Optional;
 
  public final class ByteValidatorImpl extends AbstractObjectValidator<ByteValidator, Byte>
 	 implements ByteValidator
@@ -32,7 +31,7 @@
 	  *                                  or {@code failures} are null
 	  */
 	 public ByteValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		 ValidationTarget<Byte> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		 ValidationTarget<Byte> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	 {
 		 super(scope, configuration, name, value, context, failures);
 	 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.validator;
+
+import io.github.cowwoc.requirements13.java.ValidationFailure;
+import io.github.cowwoc.requirements13.java.internal.Configuration;
+import io.github.cowwoc.requirements13.java.internal.message.ObjectMessages;
+import io.github.cowwoc.requirements13.java.internal.message.StringMessages;
+import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.java.internal.util.CharSequences;
+import io.github.cowwoc.requirements13.java.internal.util.Pluralizer;
+import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
+import io.github.cowwoc.requirements13.java.validator.CharSequenceValidator;
+import io.github.cowwoc.requirements13.java.validator.PrimitiveUnsignedIntegerValidator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * @param <T> the type of the value
+ */
+public final class CharSequenceValidatorImpl<T extends CharSequence>
+	extends AbstractObjectValidator<CharSequenceValidator<T>, T>
+	implements CharSequenceValidator<T>
+{
+	/**
+	 * @param scope         the application configuration
+	 * @param configuration the validator configuration
+	 * @param name          the name of the value
+	 * @param value         the value being validated
+	 * @param context       the contextual information set by a parent validator or the user
+	 * @param failures      the list of validation failures
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace, or is empty
+	 * @throws AssertionError           if {@code scope}, {@code configuration}, {@code value}, {@code context}
+	 *                                  or {@code failures} are null
+	 */
+	public CharSequenceValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
+		ValidationTarget<T> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
+	{
+		super(scope, configuration, name, value, context, failures);
+	}
+
+	@Override
+	public CharSequenceValidator<T> isEmpty()
+	{
+		if (value.validationFailed(CharSequence::isEmpty))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				ObjectMessages.isEmptyFailed(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator<T> isNotEmpty()
+	{
+		if (value.validationFailed(v -> !v.isEmpty()))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				ObjectMessages.isNotEmptyFailed(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator<T> isBlank()
+	{
+		if (value.validationFailed(CharSequences::isBlank))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				StringMessages.isBlank(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator<T> isNotBlank()
+	{
+		if (value.validationFailed(v -> !CharSequences.isBlank(v)))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				StringMessages.isNotBlank(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator<T> isTrimmed()
+	{
+		if (value.validationFailed(CharSequences::isTrimmed))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				StringMessages.isTrimmed(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator<T> isStripped()
+	{
+		if (value.validationFailed(CharSequences::isStripped))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				StringMessages.isStripped(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator<T> startsWith(String prefix)
+	{
+		scope.getInternalValidators().requireThat(prefix, "prefix").isNotNull();
+		if (value.validationFailed(v -> CharSequences.startsWith(v, prefix)))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				StringMessages.startsWith(this, prefix).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator<T> doesNotStartWith(String prefix)
+	{
+		scope.getInternalValidators().requireThat(prefix, "prefix").isNotNull();
+		if (value.validationFailed(v -> !CharSequences.startsWith(v, prefix)))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				StringMessages.doesNotStartWith(this, prefix).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator<T> endsWith(String suffix)
+	{
+		scope.getInternalValidators().requireThat(suffix, "suffix").isNotNull();
+		if (value.validationFailed(v -> CharSequences.endsWith(v, suffix)))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				StringMessages.endsWith(this, suffix).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator<T> doesNotEndWith(String suffix)
+	{
+		scope.getInternalValidators().requireThat(suffix, "suffix").isNotNull();
+		if (value.validationFailed(v -> !CharSequences.endsWith(v, suffix)))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				StringMessages.doesNotEndWith(this, suffix).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator<T> contains(String expected)
+	{
+		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
+		if (value.validationFailed(v -> CharSequences.indexOf(v, expected) != -1))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				StringMessages.contains(this, expected).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator<T> doesNotContain(String unwanted)
+	{
+		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
+		if (value.validationFailed(v -> CharSequences.indexOf(v, unwanted) == -1))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				StringMessages.doesNotContain(this, unwanted).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator<T> doesNotContainWhitespace()
+	{
+		if (value.validationFailed(v -> !CharSequences.containsWhitespace(v)))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				StringMessages.doesNotContainWhitespace(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator<T> matches(String regex)
+	{
+		return matches(Pattern.compile(regex));
+	}
+
+	@Override
+	public CharSequenceValidator<T> matches(Pattern regex)
+	{
+		scope.getInternalValidators().requireThat(regex, "regex").isNotNull();
+		// Matcher reads the CharSequence directly
+		if (value.validationFailed(v -> regex.matcher(v).matches()))
+		{
+			failOnNull();
+			addIllegalArgumentException(
+				StringMessages.matches(this, regex).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public PrimitiveUnsignedIntegerValidator length()
+	{
+		failOnNull();
+		return new ObjectSizeValidatorImpl(scope, configuration, this, name + ".length()",
+			value.nullToInvalid().map(CharSequence::length), Pluralizer.CHARACTER, context, failures);
+	}
+}
@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.CharacterValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class CharacterValidatorImpl extends AbstractObjectValidator<CharacterValidator, Character>
 	implements CharacterValidator
@@ -32,7 +31,7 @@ public final class CharacterValidatorImpl extends AbstractObjectValidator<Charac
 	 *                                  or {@code failures} are null
 	 */
 	public CharacterValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Character> value, Map<String, Optional<Object>> context,
+		ValidationTarget<Character> value, Map<String, ContextValue> context,
 		List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
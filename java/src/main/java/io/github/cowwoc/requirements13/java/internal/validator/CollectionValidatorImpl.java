@@ -14,7 +14,6 @@ import io.github.cowwoc.requirements13.java.validator.CollectionValidator;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * @param <T> the type of the collection
@@ -36,7 +35,7 @@ public final class CollectionValidatorImpl<T extends Collection<E>, E>
 	 * @throws IllegalArgumentException if {@code name} contains whitespace, or is empty
 	 */
 	public CollectionValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<T> value, Pluralizer pluralizer, Map<String, Optional<Object>> context,
+		ValidationTarget<T> value, Pluralizer pluralizer, Map<String, ContextValue> context,
 		List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, pluralizer, context, failures);
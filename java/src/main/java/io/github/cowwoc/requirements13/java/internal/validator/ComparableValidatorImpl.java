@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.ComparableValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * @param <T> the type of the value that is being validated
@@ -36,7 +35,7 @@ public final class ComparableValidatorImpl<T extends Comparable<T>>
 	 *                                  or {@code failures} are null
 	 */
 	public ComparableValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<T> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<T> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.validator;
+
+import io.github.cowwoc.requirements13.java.internal.StringMappers;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * The value of a contextual entry, along with its String representation.
+ * <p>
+ * Context entries are inherited by every validator that a factory creates, so the same value may be rendered
+ * by many failures. Its String representation is computed on first use and reused until the entry is
+ * replaced. Values are expected to remain unchanged once they are added to the context.
+ */
+public final class ContextValue
+{
+	private final Object value;
+	/**
+	 * The most recent String representation of the value, or {@code null} if the value was never rendered.
+	 * <p>
+	 * {@code Rendering} is immutable and rendering is repeatable, so threads that overwrite each other's
+	 * result, or that observe an outdated result, still return the correct String.
+	 */
+	private Rendering rendering;
+
+	/**
+	 * Creates a new instance.
+	 *
+	 * @param value the value of the entry
+	 */
+	public ContextValue(Object value)
+	{
+		this.value = value;
+	}
+
+	/**
+	 * Converts context entries to the format returned by {@code getContext()}.
+	 *
+	 * @param context the contextual information
+	 * @return an unmodifiable map from each name to its value
+	 */
+	public static Map<String, Optional<Object>> toOptionals(Map<String, ContextValue> context)
+	{
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		Entry<String, Optional<Object>>[] entries = new Entry[context.size()];
+		int i = 0;
+		for (Entry<String, ContextValue> entry : context.entrySet())
+		{
+			entries[i] = Map.entry(entry.getKey(), Optional.ofNullable(entry.getValue().value));
+			++i;
+		}
+		return Map.ofEntries(entries);
+	}
+
+	/**
+	 * Returns the String representation of the value.
+	 *
+	 * @param stringMappers the configuration used to map contextual values to a String
+	 * @return the String representation of the value
+	 * @throws NullPointerException if {@code stringMappers} is null
+	 */
+	public String toString(StringMappers stringMappers)
+	{
+		Rendering cached = rendering;
+		if (cached != null && cached.stringMappers() == stringMappers)
+			return cached.value();
+		String result = stringMappers.toString(value);
+		rendering = new Rendering(stringMappers, result);
+		return result;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.valueOf(value);
+	}
+
+	/**
+	 * The String representation of a value.
+	 *
+	 * @param stringMappers the configuration that was used to render the value
+	 * @param value         the String representation of the value
+	 */
+	private record Rendering(StringMappers stringMappers, String value)
+	{
+	}
+}
@@ -12,7 +12,6 @@
 
  import java.util.List;
  import java.util.Map;
- import java.util.Optional;
 
  public final class DoubleValidatorImpl extends AbstractObjectValidator<DoubleValidator, Double>
 	 implements DoubleValidator
@@ -32,7 +31,7 @@
 	  *                                  or {@code failures} are null
 	  */
 	 public DoubleValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		 ValidationTarget<Double> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		 ValidationTarget<Double> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	 {
 		 super(scope, configuration, name, value, context, failures);
 	 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.validator;
+
+import io.github.cowwoc.requirements13.java.ValidationFailure;
+import io.github.cowwoc.requirements13.java.internal.Configuration;
+import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
+import io.github.cowwoc.requirements13.java.validator.ObjectValidator;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates an element of a collection or stream.
+ * <p>
+ * The element's name (e.g. {@code "orders[3]"}) is only built if it is needed, typically when a failure
+ * message is generated. The name of the collection was validated by its own validator, so it is not
+ * validated again for each element.
+ *
+ * @param <E> the type of the element
+ */
+public final class ElementValidatorImpl<E> extends AbstractObjectValidator<ObjectValidator<E>, E>
+	implements ObjectValidator<E>
+{
+	private final String collectionName;
+	private final long index;
+	private String elementName;
+
+	/**
+	 * @param scope          the application configuration
+	 * @param configuration  the validator configuration
+	 * @param collectionName the name of the collection that contains the element
+	 * @param index          the index of the element
+	 * @param value          the value of the element
+	 * @param context        the contextual information set by the collection's validator
+	 * @param failures       the list of validation failures
+	 * @throws AssertionError if {@code scope}, {@code configuration}, {@code collectionName}, {@code context}
+	 *                        or {@code failures} are null or if {@code index} is negative
+	 */
+	public ElementValidatorImpl(ApplicationScope scope, Configuration configuration, String collectionName,
+		long index, E value, Map<String, ContextValue> context, List<ValidationFailure> failures)
+	{
+		super(scope, configuration, ValidationTarget.valid(value), context, failures);
+		assert collectionName != null : "collectionName may not be null";
+		assert index >= 0 : "index: " + index;
+		this.collectionName = collectionName;
+		this.index = index;
+	}
+
+	@Override
+	public String getName()
+	{
+		if (elementName == null)
+			elementName = collectionName + "[" + index + "]";
+		return elementName;
+	}
+}
@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.FloatValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class FloatValidatorImpl extends AbstractObjectValidator<FloatValidator, Float>
 	implements FloatValidator
@@ -32,7 +31,7 @@ public final class FloatValidatorImpl extends AbstractObjectValidator<FloatValid
 	 *                                  or {@code failures} are null
 	 */
 	public FloatValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Float> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<Float> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -14,7 +14,6 @@ import io.github.cowwoc.requirements13.java.validator.GenericTypeValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * @param <T> the type of the class modelled by the {@code GenericType} object
@@ -36,7 +35,7 @@ public final class GenericTypeValidatorImpl<T>
 	 *                                  or {@code failures} are null
 	 */
 	public GenericTypeValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<GenericType<T>> value, Map<String, Optional<Object>> context,
+		ValidationTarget<GenericType<T>> value, Map<String, ContextValue> context,
 		List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
@@ -16,7 +16,6 @@ import java.net.Inet6Address;
 import java.net.InetAddress;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class InetAddressValidatorImpl extends AbstractObjectValidator<InetAddressValidator, InetAddress>
 	implements InetAddressValidator
@@ -34,7 +33,7 @@ public final class InetAddressValidatorImpl extends AbstractObjectValidator<Inet
 	 *                                  or {@code failures} are null
 	 */
 	public InetAddressValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<InetAddress> value, Map<String, Optional<Object>> context,
+		ValidationTarget<InetAddress> value, Map<String, ContextValue> context,
 		List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
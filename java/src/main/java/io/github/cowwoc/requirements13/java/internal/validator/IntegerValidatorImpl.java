@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.IntegerValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class IntegerValidatorImpl extends AbstractObjectValidator<IntegerValidator, Integer>
 	implements IntegerValidator
@@ -32,7 +31,7 @@ public final class IntegerValidatorImpl extends AbstractObjectValidator<IntegerV
 	 *                                  or {@code failures} are null
 	 */
 	public IntegerValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Integer> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<Integer> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
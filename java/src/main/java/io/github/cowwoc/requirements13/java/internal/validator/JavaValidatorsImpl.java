@@ -14,7 +14,9 @@ import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
 import io.github.cowwoc.requirements13.java.validator.BigDecimalValidator;
 import io.github.cowwoc.requirements13.java.validator.BigIntegerValidator;
 import io.github.cowwoc.requirements13.java.validator.BooleanValidator;
+import io.github.cowwoc.requirements13.java.validator.ByteBufferValidator;
 import io.github.cowwoc.requirements13.java.validator.ByteValidator;
+import io.github.cowwoc.requirements13.java.validator.CharSequenceValidator;
 import io.github.cowwoc.requirements13.java.validator.CharacterValidator;
 import io.github.cowwoc.requirements13.java.validator.CollectionValidator;
 import io.github.cowwoc.requirements13.java.validator.ComparableValidator;
@@ -26,6 +28,7 @@ import io.github.cowwoc.requirements13.java.validator.IntegerValidator;
 import io.github.cowwoc.requirements13.java.validator.ListValidator;
 import io.github.cowwoc.requirements13.java.validator.LongValidator;
 import io.github.cowwoc.requirements13.java.validator.MapValidator;
+import io.github.cowwoc.requirements13.java.validator.MemorySegmentValidator;
 import io.github.cowwoc.requirements13.java.validator.ObjectArrayValidator;
 import io.github.cowwoc.requirements13.java.validator.ObjectValidator;
 import io.github.cowwoc.requirements13.java.validator.OptionalValidator;
@@ -47,13 +50,17 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveLongValidator;
 import io.github.cowwoc.requirements13.java.validator.PrimitiveShortArrayValidator;
 import io.github.cowwoc.requirements13.java.validator.PrimitiveShortValidator;
 import io.github.cowwoc.requirements13.java.validator.ShortValidator;
+import io.github.cowwoc.requirements13.java.validator.StreamValidator;
 import io.github.cowwoc.requirements13.java.validator.StringValidator;
 import io.github.cowwoc.requirements13.java.validator.UriValidator;
 
+import java.lang.foreign.MemorySegment;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -61,6 +68,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * The default implementation of JavaValidators.
@@ -322,6 +330,48 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 		return newInstance(value, name, configuration());
 	}
 
+	@Override
+	public <E> StreamValidator<E> requireThat(Stream<E> value, String name)
+	{
+		return newInstance(value, name, configuration());
+	}
+
+	@Override
+	public <T extends CharSequence> CharSequenceValidator<T> requireThat(T value, String name)
+	{
+		return newInstance(value, name, configuration());
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuilder> requireThat(StringBuilder value, String name)
+	{
+		return newInstance(value, name, configuration());
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuffer> requireThat(StringBuffer value, String name)
+	{
+		return newInstance(value, name, configuration());
+	}
+
+	@Override
+	public CharSequenceValidator<CharBuffer> requireThat(CharBuffer value, String name)
+	{
+		return newInstance(value, name, configuration());
+	}
+
+	@Override
+	public ByteBufferValidator requireThat(ByteBuffer value, String name)
+	{
+		return newInstance(value, name, configuration());
+	}
+
+	@Override
+	public MemorySegmentValidator requireThat(MemorySegment value, String name)
+	{
+		return newInstance(value, name, configuration());
+	}
+
 	@Override
 	public InetAddressValidator requireThat(InetAddress value, String name)
 	{
@@ -784,6 +834,90 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 		return that(value, DEFAULT_NAME);
 	}
 
+	@Override
+	public <E> StreamValidator<E> that(Stream<E> value, String name)
+	{
+		return newInstance(value, name, getAssertThatConfiguration());
+	}
+
+	@Override
+	public <E> StreamValidator<E> that(Stream<E> value)
+	{
+		return that(value, DEFAULT_NAME);
+	}
+
+	@Override
+	public <T extends CharSequence> CharSequenceValidator<T> that(T value, String name)
+	{
+		return newInstance(value, name, getAssertThatConfiguration());
+	}
+
+	@Override
+	public <T extends CharSequence> CharSequenceValidator<T> that(T value)
+	{
+		return that(value, DEFAULT_NAME);
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuilder> that(StringBuilder value, String name)
+	{
+		return newInstance(value, name, getAssertThatConfiguration());
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuilder> that(StringBuilder value)
+	{
+		return that(value, DEFAULT_NAME);
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuffer> that(StringBuffer value, String name)
+	{
+		return newInstance(value, name, getAssertThatConfiguration());
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuffer> that(StringBuffer value)
+	{
+		return that(value, DEFAULT_NAME);
+	}
+
+	@Override
+	public CharSequenceValidator<CharBuffer> that(CharBuffer value, String name)
+	{
+		return newInstance(value, name, getAssertThatConfiguration());
+	}
+
+	@Override
+	public CharSequenceValidator<CharBuffer> that(CharBuffer value)
+	{
+		return that(value, DEFAULT_NAME);
+	}
+
+	@Override
+	public ByteBufferValidator that(ByteBuffer value, String name)
+	{
+		return newInstance(value, name, getAssertThatConfiguration());
+	}
+
+	@Override
+	public ByteBufferValidator that(ByteBuffer value)
+	{
+		return that(value, DEFAULT_NAME);
+	}
+
+	@Override
+	public MemorySegmentValidator that(MemorySegment value, String name)
+	{
+		return newInstance(value, name, getAssertThatConfiguration());
+	}
+
+	@Override
+	public MemorySegmentValidator that(MemorySegment value)
+	{
+		return that(value, DEFAULT_NAME);
+	}
+
 	@Override
 	public InetAddressValidator that(InetAddress value, String name)
 	{
@@ -1252,6 +1386,90 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 		return checkIf(value, DEFAULT_NAME);
 	}
 
+	@Override
+	public <E> StreamValidator<E> checkIf(Stream<E> value, String name)
+	{
+		return newInstance(value, name, getCheckIfConfiguration());
+	}
+
+	@Override
+	public <E> StreamValidator<E> checkIf(Stream<E> value)
+	{
+		return checkIf(value, DEFAULT_NAME);
+	}
+
+	@Override
+	public <T extends CharSequence> CharSequenceValidator<T> checkIf(T value, String name)
+	{
+		return newInstance(value, name, getCheckIfConfiguration());
+	}
+
+	@Override
+	public <T extends CharSequence> CharSequenceValidator<T> checkIf(T value)
+	{
+		return checkIf(value, DEFAULT_NAME);
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuilder> checkIf(StringBuilder value, String name)
+	{
+		return newInstance(value, name, getCheckIfConfiguration());
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuilder> checkIf(StringBuilder value)
+	{
+		return checkIf(value, DEFAULT_NAME);
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuffer> checkIf(StringBuffer value, String name)
+	{
+		return newInstance(value, name, getCheckIfConfiguration());
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuffer> checkIf(StringBuffer value)
+	{
+		return checkIf(value, DEFAULT_NAME);
+	}
+
+	@Override
+	public CharSequenceValidator<CharBuffer> checkIf(CharBuffer value, String name)
+	{
+		return newInstance(value, name, getCheckIfConfiguration());
+	}
+
+	@Override
+	public CharSequenceValidator<CharBuffer> checkIf(CharBuffer value)
+	{
+		return checkIf(value, DEFAULT_NAME);
+	}
+
+	@Override
+	public ByteBufferValidator checkIf(ByteBuffer value, String name)
+	{
+		return newInstance(value, name, getCheckIfConfiguration());
+	}
+
+	@Override
+	public ByteBufferValidator checkIf(ByteBuffer value)
+	{
+		return checkIf(value, DEFAULT_NAME);
+	}
+
+	@Override
+	public MemorySegmentValidator checkIf(MemorySegment value, String name)
+	{
+		return newInstance(value, name, getCheckIfConfiguration());
+	}
+
+	@Override
+	public MemorySegmentValidator checkIf(MemorySegment value)
+	{
+		return checkIf(value, DEFAULT_NAME);
+	}
+
 	@Override
 	public InetAddressValidator checkIf(InetAddress value, String name)
 	{
@@ -1270,9 +1488,9 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 			newValidatorContext(), newValidatorFailures());
 	}
 
-	private Map<String, Optional<Object>> newValidatorContext()
+	private Map<String, ContextValue> newValidatorContext()
 	{
-		Map<String, Optional<Object>> context = HashMap.newHashMap(this.context.size() + 2);
+		Map<String, ContextValue> context = HashMap.newHashMap(this.context.size() + 2);
 		context.putAll(this.context);
 		return context;
 	}
@@ -1510,6 +1728,48 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 			newValidatorContext(), newValidatorFailures());
 	}
 
+	private <E> StreamValidator<E> newInstance(Stream<E> value, String name, Configuration configuration)
+	{
+		return new StreamValidatorImpl<>(scope, configuration, name, ValidationTarget.valid(value),
+			newValidatorContext(), newValidatorFailures());
+	}
+
+	private <T extends CharSequence> CharSequenceValidator<T> newInstance(T value, String name, Configuration configuration)
+	{
+		return new CharSequenceValidatorImpl<>(scope, configuration, name, ValidationTarget.valid(value),
+			newValidatorContext(), newValidatorFailures());
+	}
+
+	private CharSequenceValidator<StringBuilder> newInstance(StringBuilder value, String name, Configuration configuration)
+	{
+		return new CharSequenceValidatorImpl<>(scope, configuration, name, ValidationTarget.valid(value),
+			newValidatorContext(), newValidatorFailures());
+	}
+
+	private CharSequenceValidator<StringBuffer> newInstance(StringBuffer value, String name, Configuration configuration)
+	{
+		return new CharSequenceValidatorImpl<>(scope, configuration, name, ValidationTarget.valid(value),
+			newValidatorContext(), newValidatorFailures());
+	}
+
+	private CharSequenceValidator<CharBuffer> newInstance(CharBuffer value, String name, Configuration configuration)
+	{
+		return new CharSequenceValidatorImpl<>(scope, configuration, name, ValidationTarget.valid(value),
+			newValidatorContext(), newValidatorFailures());
+	}
+
+	private ByteBufferValidator newInstance(ByteBuffer value, String name, Configuration configuration)
+	{
+		return new ByteBufferValidatorImpl(scope, configuration, name, ValidationTarget.valid(value),
+			newValidatorContext(), newValidatorFailures());
+	}
+
+	private MemorySegmentValidator newInstance(MemorySegment value, String name, Configuration configuration)
+	{
+		return new MemorySegmentValidatorImpl(scope, configuration, name, ValidationTarget.valid(value),
+			newValidatorContext(), newValidatorFailures());
+	}
+
 	private InetAddressValidator newInstance(InetAddress value, String name, Configuration configuration)
 	{
 		return new InetAddressValidatorImpl(scope, configuration, name, ValidationTarget.valid(value),
@@ -1525,7 +1785,7 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 	@Override
 	public JavaValidators withContext(Object value, String name)
 	{
-		context.put(name, Optional.ofNullable(value));
+		context.put(name, new ContextValue(value));
 		return this;
 	}
 
@@ -8,15 +8,14 @@ import io.github.cowwoc.requirements13.java.ValidationFailure;
 import io.github.cowwoc.requirements13.java.internal.Configuration;
 import io.github.cowwoc.requirements13.java.internal.message.CollectionMessages;
 import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.java.internal.util.Arrays;
 import io.github.cowwoc.requirements13.java.internal.util.Pluralizer;
 import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
 import io.github.cowwoc.requirements13.java.validator.ListValidator;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * @param <T> the type of the list
@@ -38,7 +37,7 @@ public final class ListValidatorImpl<T extends List<E>, E>
 	 * @throws IllegalArgumentException if {@code name} contains whitespace, or is empty
 	 */
 	public ListValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<T> value, Pluralizer pluralizer, Map<String, Optional<Object>> context,
+		ValidationTarget<T> value, Pluralizer pluralizer, Map<String, ContextValue> context,
 		List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, pluralizer, context, failures);
@@ -49,17 +48,11 @@ public final class ListValidatorImpl<T extends List<E>, E>
 	{
 		scope.getInternalValidators().requireThat(comparator, "comparator").isNotNull();
 
-		List<E> expected = value.map(v ->
-		{
-			List<E> sorted = new ArrayList<>(v);
-			sorted.sort(comparator);
-			return sorted;
-		}).or(null);
-		if (value.validationFailed(v -> v.equals(expected)))
+		if (value.validationFailed(v -> Arrays.isSorted(v, comparator, isParallel(v))))
 		{
 			failOnNull();
 			addIllegalArgumentException(
-				CollectionMessages.isSortedFailed(this, expected).toString());
+				CollectionMessages.isSortedFailed(this, value.or(null), comparator).toString());
 		}
 		return this;
 	}
@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.LongValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class LongValidatorImpl extends AbstractObjectValidator<LongValidator, Long>
 	implements LongValidator
@@ -32,7 +31,7 @@ public final class LongValidatorImpl extends AbstractObjectValidator<LongValidat
 	 *                                  or {@code failures} are null
 	 */
 	public LongValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Long> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<Long> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
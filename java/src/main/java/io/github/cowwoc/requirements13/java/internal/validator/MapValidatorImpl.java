@@ -18,7 +18,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -30,6 +29,12 @@ public final class MapValidatorImpl<T extends Map<K, V>, K, V>
 	extends AbstractObjectValidator<MapValidator<T, K, V>, T>
 	implements MapValidator<T, K, V>
 {
+	/**
+	 * The size of the map, or {@code -1} if it has not been computed yet. Some maps, such as
+	 * {@code ConcurrentSkipListMap}, traverse their entries to compute their size.
+	 */
+	private int size = -1;
+
 	/**
 	 * @param scope         the application configuration
 	 * @param configuration the validator configuration
@@ -43,7 +48,7 @@ public final class MapValidatorImpl<T extends Map<K, V>, K, V>
 	 *                                  or {@code failures} are null
 	 */
 	public MapValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<T> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<T> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -51,7 +56,7 @@ public final class MapValidatorImpl<T extends Map<K, V>, K, V>
 	@Override
 	public MapValidator<T, K, V> isEmpty()
 	{
-		if (value.validationFailed(Map::isEmpty))
+		if (value.validationFailed(this::isEmpty))
 		{
 			failOnNull();
 			addIllegalArgumentException(
@@ -63,7 +68,7 @@ public final class MapValidatorImpl<T extends Map<K, V>, K, V>
 	@Override
 	public MapValidator<T, K, V> isNotEmpty()
 	{
-		if (value.validationFailed(v -> !v.isEmpty()))
+		if (value.validationFailed(v -> !isEmpty(v)))
 		{
 			failOnNull();
 			addIllegalArgumentException(
@@ -80,6 +85,9 @@ public final class MapValidatorImpl<T extends Map<K, V>, K, V>
 		CollectionValidatorImpl<Set<K>, K> newValidator = new CollectionValidatorImpl<>(scope, configuration,
 			name + ".keySet()", nullToInvalid.map(Map::keySet), Pluralizer.KEY, context, failures);
 		nullToInvalid.ifValid(v -> newValidator.withContext(v, name));
+		// The view has the same size as the map
+		if (size != -1)
+			newValidator.setSize(size);
 		return newValidator;
 	}
 
@@ -92,6 +100,9 @@ public final class MapValidatorImpl<T extends Map<K, V>, K, V>
 			configuration, name + ".values()", nullToInvalid.map(Map::values), Pluralizer.VALUE, context,
 			failures);
 		nullToInvalid.ifValid(v -> newValidator.withContext(v, name));
+		// The view has the same size as the map
+		if (size != -1)
+			newValidator.setSize(size);
 		return newValidator;
 	}
 
@@ -104,6 +115,9 @@ public final class MapValidatorImpl<T extends Map<K, V>, K, V>
 			scope, configuration, name + ".entrySet()", nullToInvalid.map(Map::entrySet),
 			Pluralizer.ENTRY, context, failures);
 		nullToInvalid.ifValid(v -> newValidator.withContext(v, name));
+		// The view has the same size as the map
+		if (size != -1)
+			newValidator.setSize(size);
 		return newValidator;
 	}
 
@@ -112,6 +126,32 @@ public final class MapValidatorImpl<T extends Map<K, V>, K, V>
 	{
 		failOnNull();
 		return new ObjectSizeValidatorImpl(scope, configuration, this, name + ".size()",
-			value.nullToInvalid().map(Map::size), Pluralizer.ENTRY, context, failures);
+			value.nullToInvalid().map(this::getSize), Pluralizer.ENTRY, context, failures);
+	}
+
+	/**
+	 * Returns the size of the map, computing it at most once per validator.
+	 *
+	 * @param value the value being validated
+	 * @return the size of the map
+	 */
+	private int getSize(T value)
+	{
+		if (size == -1)
+			size = value.size();
+		return size;
+	}
+
+	/**
+	 * Indicates if the map is empty, without computing its size.
+	 *
+	 * @param value the value being validated
+	 * @return {@code true} if the map is empty
+	 */
+	private boolean isEmpty(T value)
+	{
+		if (size == -1)
+			return value.isEmpty();
+		return size == 0;
 	}
 }
\ No newline at end of file
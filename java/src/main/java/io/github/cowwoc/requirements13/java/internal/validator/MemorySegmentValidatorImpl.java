@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.validator;
+
+import io.github.cowwoc.requirements13.java.ValidationFailure;
+import io.github.cowwoc.requirements13.java.internal.Configuration;
+import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
+import io.github.cowwoc.requirements13.java.validator.MemorySegmentValidator;
+import io.github.cowwoc.requirements13.java.validator.PrimitiveLongValidator;
+
+import java.lang.foreign.MemorySegment;
+import java.util.List;
+import java.util.Map;
+
+public final class MemorySegmentValidatorImpl extends AbstractBinaryValidator<MemorySegmentValidator,
+	MemorySegment>
+	implements MemorySegmentValidator
+{
+	/**
+	 * @param scope         the application configuration
+	 * @param configuration the validator configuration
+	 * @param name          the name of the value
+	 * @param value         the value being validated
+	 * @param context       the contextual information set by a parent validator or the user
+	 * @param failures      the list of validation failures
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace, or is empty
+	 * @throws AssertionError           if {@code scope}, {@code configuration}, {@code value}, {@code context}
+	 *                                  or {@code failures} are null
+	 */
+	public MemorySegmentValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
+		ValidationTarget<MemorySegment> value, Map<String, ContextValue> context,
+		List<ValidationFailure> failures)
+	{
+		super(scope, configuration, name, value, context, failures);
+	}
+
+	@Override
+	protected MemorySegment asSegment(MemorySegment value)
+	{
+		return value;
+	}
+
+	@Override
+	public PrimitiveLongValidator byteSize()
+	{
+		failOnNull();
+		ValidationTarget<MemorySegment> nullToInvalid = value.nullToInvalid();
+		PrimitiveLongValidatorImpl newValidator = new PrimitiveLongValidatorImpl(scope, configuration,
+			name + ".byteSize()", nullToInvalid.map(MemorySegment::byteSize), context, failures);
+		nullToInvalid.ifValid(v -> newValidator.withContext(v, name));
+		return newValidator;
+	}
+}
@@ -27,6 +27,7 @@ public final class MutableConfiguration
 	private boolean recordStacktrace;
 	private boolean throwOnFailure;
 	private Function<Throwable, ? extends Throwable> exceptionTransformer;
+	private int parallelThreshold;
 
 	/**
 	 * Creates a new configuration.
@@ -46,11 +47,14 @@ public final class MutableConfiguration
 	 * @param throwOnFailure       {@code true} if an exception is thrown on validation failure.
 	 * @param exceptionTransformer a function that transforms the validation exception into a suitable runtime
 	 *                             exception or error
+	 * @param parallelThreshold    the minimum number of elements that a collection or array must contain
+	 *                             before its elements are validated in parallel
 	 * @throws NullPointerException if any of the arguments are null
 	 */
 	private MutableConfiguration(boolean cleanStackTrace, boolean allowDiff,
 		EqualityMethod equalityMethod, MutableStringMappers stringMappers, boolean recordStacktrace,
-		boolean throwOnFailure, Function<Throwable, ? extends Throwable> exceptionTransformer)
+		boolean throwOnFailure, Function<Throwable, ? extends Throwable> exceptionTransformer,
+		int parallelThreshold)
 	{
 		this.cleanStackTrace = cleanStackTrace;
 		this.allowDiff = allowDiff;
@@ -59,6 +63,7 @@ public final class MutableConfiguration
 		this.recordStacktrace = recordStacktrace;
 		this.throwOnFailure = throwOnFailure;
 		this.exceptionTransformer = exceptionTransformer;
+		this.parallelThreshold = parallelThreshold;
 	}
 
 	/**
@@ -69,7 +74,8 @@ public final class MutableConfiguration
 	{
 		return new MutableConfiguration(configuration.cleanStackTrace(), configuration.allowDiff(),
 			configuration.equalityMethod(), MutableStringMappers.from(configuration.stringMappers()),
-			configuration.recordStacktrace(), configuration.throwOnFailure(), configuration.exceptionTransformer());
+			configuration.recordStacktrace(), configuration.throwOnFailure(), configuration.exceptionTransformer(),
+			configuration.parallelThreshold());
 	}
 
 	/**
@@ -81,7 +87,7 @@ public final class MutableConfiguration
 	public Configuration toImmutable()
 	{
 		return new Configuration(cleanStackTrace, allowDiff, equalityMethod, stringMappers.toImmutable(),
-			recordStacktrace, throwOnFailure, exceptionTransformer);
+			recordStacktrace, throwOnFailure, exceptionTransformer, parallelThreshold);
 	}
 
 	/**
@@ -258,6 +264,39 @@ public final class MutableConfiguration
 		return this;
 	}
 
+	/**
+	 * Returns the minimum number of elements that a collection or array must contain before its elements are
+	 * validated in parallel. Parallel validation only affects performance: validators fail under the same
+	 * conditions and report the same failure messages regardless of this setting.
+	 *
+	 * @return {@code Integer.MAX_VALUE} by default, which disables parallel validation
+	 */
+	@CheckReturnValue
+	public int parallelThreshold()
+	{
+		return parallelThreshold;
+	}
+
+	/**
+	 * Sets the minimum number of elements that a collection or array must contain before its elements are
+	 * validated in parallel. Parallel validation runs on {@code ForkJoinPool.commonPool()}, so any comparators,
+	 * {@code equals()} or {@code hashCode()} methods that it invokes must be thread-safe. Parallel validation
+	 * only affects performance: validators fail under the same conditions and report the same failure messages
+	 * regardless of this setting.
+	 *
+	 * @param parallelThreshold the minimum number of elements, or {@code Integer.MAX_VALUE} to disable
+	 *                          parallel validation
+	 * @return this
+	 * @throws IllegalArgumentException if {@code parallelThreshold} is negative
+	 */
+	public MutableConfiguration parallelThreshold(int parallelThreshold)
+	{
+		if (parallelThreshold < 0)
+			throw new IllegalArgumentException("parallelThreshold may not be negative: " + parallelThreshold);
+		this.parallelThreshold = parallelThreshold;
+		return this;
+	}
+
 	@Override
 	public int hashCode()
 	{
@@ -268,7 +307,8 @@ public final class MutableConfiguration
 		hash = 23 * hash + stringMappers.hashCode();
 		hash = 23 * hash + Boolean.hashCode(recordStacktrace);
 		hash = 23 * hash + Boolean.hashCode(throwOnFailure);
-		return 23 * hash + exceptionTransformer.hashCode();
+		hash = 23 * hash + exceptionTransformer.hashCode();
+		return 23 * hash + parallelThreshold;
 	}
 
 	@Override
@@ -281,7 +321,7 @@ public final class MutableConfiguration
 		return other.cleanStackTrace == cleanStackTrace && other.allowDiff == allowDiff &&
 			other.equalityMethod == equalityMethod && other.stringMappers.equals(stringMappers) &&
 			other.recordStacktrace == recordStacktrace() && other.throwOnFailure == throwOnFailure &&
-			other.exceptionTransformer == exceptionTransformer;
+			other.exceptionTransformer == exceptionTransformer && other.parallelThreshold == parallelThreshold;
 	}
 
 	@Override
@@ -290,6 +330,6 @@ public final class MutableConfiguration
 		return "cleanStackTrace: " + cleanStackTrace + ", allowDiff: " + allowDiff +
 			", equalityMethod: " + equalityMethod + ", stringMappers: " + stringMappers +
 			", recordStacktrace: " + recordStacktrace + ", throwOnFailure:" + throwOnFailure +
-			", exceptionTransformer: " + exceptionTransformer;
+			", exceptionTransformer: " + exceptionTransformer + ", parallelThreshold: " + parallelThreshold;
 	}
 }
\ No newline at end of file
@@ -14,7 +14,6 @@ import io.github.cowwoc.requirements13.java.validator.ObjectArrayValidator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -34,7 +33,7 @@ public final class ObjectArrayValidatorImpl<E> extends AbstractArrayValidator<Ob
 	 * @throws IllegalArgumentException if {@code name} contains whitespace, or is empty
 	 */
 	public ObjectArrayValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<E[]> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<E[]> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
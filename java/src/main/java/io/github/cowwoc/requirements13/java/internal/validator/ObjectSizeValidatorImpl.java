@@ -19,7 +19,6 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveUnsignedIntegerVa
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Validates the state of an object's size.
@@ -49,7 +48,7 @@ public final class ObjectSizeValidatorImpl
 	 */
 	public ObjectSizeValidatorImpl(ApplicationScope scope, Configuration configuration,
 		AbstractObjectValidator<?, ?> objectValidator, String sizeName, ValidationTarget<Integer> size,
-		Pluralizer pluralizer, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		Pluralizer pluralizer, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, sizeName, size, context, failures);
 
@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.ObjectValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * @param <T> the type of the value that is being validated
@@ -33,7 +32,7 @@ public final class ObjectValidatorImpl<T> extends AbstractObjectValidator<Object
 	 *                                  or {@code failures} are null
 	 */
 	public ObjectValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<T> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<T> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -32,7 +32,7 @@ public final class OptionalValidatorImpl<T> extends AbstractObjectValidator<Opti
 	 *                                  or {@code failures} are null
 	 */
 	public OptionalValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Optional<T>> value, Map<String, Optional<Object>> context,
+		ValidationTarget<Optional<T>> value, Map<String, ContextValue> context,
 		List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
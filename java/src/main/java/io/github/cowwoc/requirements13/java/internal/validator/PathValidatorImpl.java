@@ -25,7 +25,6 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -47,7 +46,7 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 	 *                                  or {@code failures} are null
 	 */
 	public PathValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Path> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<Path> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
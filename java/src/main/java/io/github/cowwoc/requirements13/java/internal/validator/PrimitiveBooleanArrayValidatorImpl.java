@@ -14,7 +14,6 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveBooleanArrayValid
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 public final class PrimitiveBooleanArrayValidatorImpl
@@ -34,7 +33,7 @@ public final class PrimitiveBooleanArrayValidatorImpl
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveBooleanArrayValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<boolean[]> value, Map<String, Optional<Object>> context,
+		ValidationTarget<boolean[]> value, Map<String, ContextValue> context,
 		List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
@@ -58,6 +57,24 @@ public final class PrimitiveBooleanArrayValidatorImpl
 		return Arrays.contains(array, element);
 	}
 
+	@Override
+	protected long[] toLongs(boolean[] array)
+	{
+		return Arrays.toLongs(array);
+	}
+
+	@Override
+	protected long toLong(Boolean element)
+	{
+		return element ? 1 : 0;
+	}
+
+	@Override
+	protected Boolean fromLong(long value)
+	{
+		return value != 0;
+	}
+
 	@Override
 	protected Set<Boolean> getDuplicates(boolean[] value)
 	{
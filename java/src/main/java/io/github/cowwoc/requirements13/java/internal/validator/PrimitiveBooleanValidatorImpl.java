@@ -14,7 +14,6 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveBooleanValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class PrimitiveBooleanValidatorImpl extends AbstractPrimitiveValidator<PrimitiveBooleanValidator, Boolean>
 	implements PrimitiveBooleanValidator
@@ -32,7 +31,7 @@ public final class PrimitiveBooleanValidatorImpl extends AbstractPrimitiveValida
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveBooleanValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Boolean> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<Boolean> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -15,7 +15,6 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 public final class PrimitiveByteArrayValidatorImpl
@@ -35,7 +34,7 @@ public final class PrimitiveByteArrayValidatorImpl
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveByteArrayValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<byte[]> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<byte[]> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -58,6 +57,24 @@ public final class PrimitiveByteArrayValidatorImpl
 		return Arrays.contains(array, element);
 	}
 
+	@Override
+	protected long[] toLongs(byte[] array)
+	{
+		return Arrays.toLongs(array);
+	}
+
+	@Override
+	protected long toLong(Byte element)
+	{
+		return element;
+	}
+
+	@Override
+	protected Byte fromLong(long value)
+	{
+		return (byte) value;
+	}
+
 	@Override
 	protected Set<Byte> getDuplicates(byte[] value)
 	{
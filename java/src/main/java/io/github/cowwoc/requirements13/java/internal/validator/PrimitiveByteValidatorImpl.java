@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveByteValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class PrimitiveByteValidatorImpl extends AbstractPrimitiveValidator<PrimitiveByteValidator, Byte>
 	implements PrimitiveByteValidator
@@ -32,7 +31,7 @@ public final class PrimitiveByteValidatorImpl extends AbstractPrimitiveValidator
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveByteValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Byte> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<Byte> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
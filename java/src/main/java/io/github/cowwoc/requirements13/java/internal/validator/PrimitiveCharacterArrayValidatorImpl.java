@@ -15,7 +15,6 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 public final class PrimitiveCharacterArrayValidatorImpl
@@ -35,7 +34,7 @@ public final class PrimitiveCharacterArrayValidatorImpl
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveCharacterArrayValidatorImpl(ApplicationScope scope, Configuration configuration,
-		String name, ValidationTarget<char[]> value, Map<String, Optional<Object>> context,
+		String name, ValidationTarget<char[]> value, Map<String, ContextValue> context,
 		List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
@@ -59,6 +58,24 @@ public final class PrimitiveCharacterArrayValidatorImpl
 		return Arrays.contains(array, element);
 	}
 
+	@Override
+	protected long[] toLongs(char[] array)
+	{
+		return Arrays.toLongs(array);
+	}
+
+	@Override
+	protected long toLong(Character element)
+	{
+		return element;
+	}
+
+	@Override
+	protected Character fromLong(long value)
+	{
+		return (char) value;
+	}
+
 	@Override
 	protected Set<Character> getDuplicates(char[] value)
 	{
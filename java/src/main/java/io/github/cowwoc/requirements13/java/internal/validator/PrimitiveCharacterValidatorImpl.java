@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveCharacterValidato
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class PrimitiveCharacterValidatorImpl
 	extends AbstractPrimitiveValidator<PrimitiveCharacterValidator, Character>
@@ -33,7 +32,7 @@ public final class PrimitiveCharacterValidatorImpl
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveCharacterValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Character> value, Map<String, Optional<Object>> context,
+		ValidationTarget<Character> value, Map<String, ContextValue> context,
 		List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
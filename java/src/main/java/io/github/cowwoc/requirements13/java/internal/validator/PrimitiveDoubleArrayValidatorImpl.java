@@ -15,7 +15,6 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 public final class PrimitiveDoubleArrayValidatorImpl
@@ -35,7 +34,7 @@ public final class PrimitiveDoubleArrayValidatorImpl
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveDoubleArrayValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<double[]> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<double[]> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -58,6 +57,24 @@ public final class PrimitiveDoubleArrayValidatorImpl
 		return Arrays.contains(array, element);
 	}
 
+	@Override
+	protected long[] toLongs(double[] array)
+	{
+		return Arrays.toLongs(array);
+	}
+
+	@Override
+	protected long toLong(Double element)
+	{
+		return Double.doubleToLongBits(element);
+	}
+
+	@Override
+	protected Double fromLong(long value)
+	{
+		return Double.longBitsToDouble(value);
+	}
+
 	@Override
 	protected Set<Double> getDuplicates(double[] value)
 	{
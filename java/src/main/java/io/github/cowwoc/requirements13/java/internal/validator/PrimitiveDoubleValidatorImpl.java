@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveDoubleValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class PrimitiveDoubleValidatorImpl
 	extends AbstractPrimitiveValidator<PrimitiveDoubleValidator, Double>
@@ -33,7 +32,7 @@ public final class PrimitiveDoubleValidatorImpl
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveDoubleValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Double> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<Double> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
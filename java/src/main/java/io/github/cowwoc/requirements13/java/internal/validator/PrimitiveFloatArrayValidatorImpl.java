@@ -15,7 +15,6 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 public final class PrimitiveFloatArrayValidatorImpl
@@ -35,7 +34,7 @@ public final class PrimitiveFloatArrayValidatorImpl
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveFloatArrayValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<float[]> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<float[]> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -58,6 +57,24 @@ public final class PrimitiveFloatArrayValidatorImpl
 		return Arrays.contains(array, element);
 	}
 
+	@Override
+	protected long[] toLongs(float[] array)
+	{
+		return Arrays.toLongs(array);
+	}
+
+	@Override
+	protected long toLong(Float element)
+	{
+		return Float.floatToIntBits(element);
+	}
+
+	@Override
+	protected Float fromLong(long value)
+	{
+		return Float.intBitsToFloat((int) value);
+	}
+
 	@Override
 	protected Set<Float> getDuplicates(float[] value)
 	{
@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveFloatValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class PrimitiveFloatValidatorImpl
 	extends AbstractPrimitiveValidator<PrimitiveFloatValidator, Float>
@@ -33,7 +32,7 @@ public final class PrimitiveFloatValidatorImpl
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveFloatValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Float> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<Float> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -15,7 +15,6 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 public final class PrimitiveIntegerArrayValidatorImpl
@@ -35,7 +34,7 @@ public final class PrimitiveIntegerArrayValidatorImpl
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveIntegerArrayValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<int[]> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<int[]> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -58,6 +57,24 @@ public final class PrimitiveIntegerArrayValidatorImpl
 		return Arrays.contains(array, element);
 	}
 
+	@Override
+	protected long[] toLongs(int[] array)
+	{
+		return Arrays.toLongs(array);
+	}
+
+	@Override
+	protected long toLong(Integer element)
+	{
+		return element;
+	}
+
+	@Override
+	protected Integer fromLong(long value)
+	{
+		return (int) value;
+	}
+
 	@Override
 	protected Set<Integer> getDuplicates(int[] value)
 	{
@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveIntegerValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class PrimitiveIntegerValidatorImpl
 	extends AbstractPrimitiveValidator<PrimitiveIntegerValidator, Integer>
@@ -33,7 +32,7 @@ public final class PrimitiveIntegerValidatorImpl
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveIntegerValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Integer> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<Integer> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
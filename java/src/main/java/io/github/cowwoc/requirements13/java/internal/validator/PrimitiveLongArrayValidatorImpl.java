@@ -15,7 +15,6 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 public final class PrimitiveLongArrayValidatorImpl
@@ -35,7 +34,7 @@ public final class PrimitiveLongArrayValidatorImpl
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveLongArrayValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<long[]> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<long[]> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -58,6 +57,24 @@ public final class PrimitiveLongArrayValidatorImpl
 		return Arrays.contains(array, element);
 	}
 
+	@Override
+	protected long[] toLongs(long[] array)
+	{
+		return Arrays.toLongs(array);
+	}
+
+	@Override
+	protected long toLong(Long element)
+	{
+		return element;
+	}
+
+	@Override
+	protected Long fromLong(long value)
+	{
+		return value;
+	}
+
 	@Override
 	protected Set<Long> getDuplicates(long[] value)
 	{
@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveLongValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class PrimitiveLongValidatorImpl extends AbstractPrimitiveValidator<PrimitiveLongValidator, Long>
 	implements PrimitiveLongValidator
@@ -32,7 +31,7 @@ public final class PrimitiveLongValidatorImpl extends AbstractPrimitiveValidator
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveLongValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Long> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<Long> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -15,7 +15,6 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 public final class PrimitiveShortArrayValidatorImpl
@@ -35,7 +34,7 @@ public final class PrimitiveShortArrayValidatorImpl
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveShortArrayValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<short[]> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<short[]> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -58,6 +57,24 @@ public final class PrimitiveShortArrayValidatorImpl
 		return Arrays.contains(array, element);
 	}
 
+	@Override
+	protected long[] toLongs(short[] array)
+	{
+		return Arrays.toLongs(array);
+	}
+
+	@Override
+	protected long toLong(Short element)
+	{
+		return element;
+	}
+
+	@Override
+	protected Short fromLong(long value)
+	{
+		return (short) value;
+	}
+
 	@Override
 	protected Set<Short> getDuplicates(short[] value)
 	{
@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveShortValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class PrimitiveShortValidatorImpl
 	extends AbstractPrimitiveValidator<PrimitiveShortValidator, Short>
@@ -33,7 +32,7 @@ public final class PrimitiveShortValidatorImpl
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveShortValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Short> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<Short> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
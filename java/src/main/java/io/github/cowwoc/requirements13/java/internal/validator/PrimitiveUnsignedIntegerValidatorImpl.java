@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveUnsignedIntegerVa
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class PrimitiveUnsignedIntegerValidatorImpl
 	extends AbstractPrimitiveValidator<PrimitiveUnsignedIntegerValidator, Integer>
@@ -34,7 +33,7 @@ public final class PrimitiveUnsignedIntegerValidatorImpl
 	 *                                  or {@code failures} are null
 	 */
 	public PrimitiveUnsignedIntegerValidatorImpl(ApplicationScope scope, Configuration configuration,
-		String name, ValidationTarget<Integer> value, Map<String, Optional<Object>> context,
+		String name, ValidationTarget<Integer> value, Map<String, ContextValue> context,
 		List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
@@ -12,7 +12,6 @@ import io.github.cowwoc.requirements13.java.validator.ShortValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class ShortValidatorImpl extends AbstractObjectValidator<ShortValidator, Short>
 	implements ShortValidator
@@ -32,7 +31,7 @@ public final class ShortValidatorImpl extends AbstractObjectValidator<ShortValid
 	 *                                  or {@code failures} are null
 	 */
 	public ShortValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<Short> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<Short> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
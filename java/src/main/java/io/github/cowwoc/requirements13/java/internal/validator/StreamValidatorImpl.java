@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.internal.validator;
+
+import io.github.cowwoc.requirements13.java.ValidationFailure;
+import io.github.cowwoc.requirements13.java.internal.Configuration;
+import io.github.cowwoc.requirements13.java.internal.message.CollectionMessages;
+import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.java.internal.util.Pluralizer;
+import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
+import io.github.cowwoc.requirements13.java.validator.ObjectValidator;
+import io.github.cowwoc.requirements13.java.validator.StreamValidator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * @param <E> the type of elements in the stream
+ */
+public final class StreamValidatorImpl<E> extends AbstractObjectValidator<StreamValidator<E>, Stream<E>>
+	implements StreamValidator<E>
+{
+	/**
+	 * The checks that are applied to each element, in the order that they were added.
+	 */
+	private final List<ElementCheck<E>> checks = new ArrayList<>();
+
+	/**
+	 * @param scope         the application configuration
+	 * @param configuration the validator configuration
+	 * @param name          the name of the value
+	 * @param value         the value being validated
+	 * @param context       the contextual information set by a parent validator or the user
+	 * @param failures      the list of validation failures
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace, or is empty
+	 * @throws AssertionError           if {@code scope}, {@code configuration}, {@code value}, {@code context}
+	 *                                  or {@code failures} are null
+	 */
+	public StreamValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
+		ValidationTarget<Stream<E>> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
+	{
+		super(scope, configuration, name, value, context, failures);
+	}
+
+	@Override
+	public StreamValidator<E> eachElement(Consumer<? super ObjectValidator<E>> validation)
+	{
+		scope.getInternalValidators().requireThat(validation, "validation").isNotNull();
+		failOnNull();
+		// Element validators share this validator's context and failures, so there is nothing to copy or merge
+		checks.add((element, index) -> validation.accept(new ElementValidatorImpl<>(scope, configuration, name,
+			index, element, context, failures)));
+		return this;
+	}
+
+	@Override
+	public StreamValidator<E> isSorted(Comparator<E> comparator)
+	{
+		scope.getInternalValidators().requireThat(comparator, "comparator").isNotNull();
+		failOnNull();
+		checks.add(new SortedCheck(comparator));
+		return this;
+	}
+
+	@Override
+	public StreamValidator<E> doesNotContainDuplicates()
+	{
+		failOnNull();
+		checks.add(new DuplicateCheck(0));
+		return this;
+	}
+
+	@Override
+	public StreamValidator<E> doesNotContainDuplicates(int window)
+	{
+		scope.getInternalValidators().requireThat(window, "window").isPositive();
+		failOnNull();
+		checks.add(new DuplicateCheck(window));
+		return this;
+	}
+
+	@Override
+	public Stream<E> stream()
+	{
+		Stream<E> stream = value.or(null);
+		if (stream == null)
+		{
+			failOnNull();
+			return Stream.empty();
+		}
+		return StreamSupport.stream(new ValidatingSpliterator(stream.spliterator()), false).
+			onClose(stream::close);
+	}
+
+	/**
+	 * A check that is applied to each element of the stream.
+	 *
+	 * @param <E> the type of elements in the stream
+	 */
+	@FunctionalInterface
+	private interface ElementCheck<E>
+	{
+		/**
+		 * Validates an element.
+		 *
+		 * @param element the element
+		 * @param index   the index of the element in the stream
+		 */
+		void check(E element, long index);
+	}
+
+	/**
+	 * Ensures that each element is greater than or equal to the element before it.
+	 */
+	private final class SortedCheck implements ElementCheck<E>
+	{
+		private final Comparator<E> comparator;
+		private E previous;
+		private boolean failed;
+
+		/**
+		 * @param comparator the comparator that determines the order of the elements
+		 */
+		SortedCheck(Comparator<E> comparator)
+		{
+			this.comparator = comparator;
+		}
+
+		@Override
+		public void check(E element, long index)
+		{
+			if (failed)
+				return;
+			if (index > 0 && comparator.compare(previous, element) > 0)
+			{
+				failed = true;
+				addIllegalArgumentException(
+					CollectionMessages.isSortedFailed(StreamValidatorImpl.this, previous, element, index).toString());
+				return;
+			}
+			previous = element;
+		}
+	}
+
+	/**
+	 * Ensures that each element is not equal to any element before it.
+	 */
+	private final class DuplicateCheck implements ElementCheck<E>
+	{
+		/**
+		 * Maps each remembered element to the index of its first occurrence.
+		 */
+		private final Map<E, Long> elementToIndex = new HashMap<>();
+		/**
+		 * The most recent distinct elements in the order they were encountered, or {@code null} if all
+		 * elements are remembered.
+		 */
+		private final Object[] recent;
+		/**
+		 * The position in {@code recent} of the element that will be forgotten next.
+		 */
+		private int oldest;
+		private boolean failed;
+
+		/**
+		 * @param window the number of distinct elements to remember, or {@code 0} to remember all elements
+		 */
+		DuplicateCheck(int window)
+		{
+			if (window == 0)
+				this.recent = null;
+			else
+				this.recent = new Object[window];
+		}
+
+		@Override
+		public void check(E element, long index)
+		{
+			if (failed)
+				return;
+			Long firstIndex = elementToIndex.putIfAbsent(element, index);
+			if (firstIndex != null)
+			{
+				failed = true;
+				addIllegalArgumentException(
+					CollectionMessages.doesNotContainDuplicatesFailed(StreamValidatorImpl.this, element, firstIndex,
+						index, Pluralizer.ELEMENT).toString());
+				return;
+			}
+			if (recent == null)
+				return;
+			if (elementToIndex.size() > recent.length)
+				elementToIndex.remove(recent[oldest]);
+			recent[oldest] = element;
+			oldest = (oldest + 1) % recent.length;
+		}
+	}
+
+	/**
+	 * Applies the validation checks to each element as it is consumed.
+	 */
+	private final class ValidatingSpliterator implements Spliterator<E>
+	{
+		private final Spliterator<E> delegate;
+		/**
+		 * The index of the next element.
+		 */
+		private long index;
+
+		/**
+		 * @param delegate the elements of the stream
+		 */
+		ValidatingSpliterator(Spliterator<E> delegate)
+		{
+			this.delegate = delegate;
+		}
+
+		/**
+		 * Validates the next element.
+		 *
+		 * @param element the element
+		 */
+		private void validate(E element)
+		{
+			for (ElementCheck<E> check : checks)
+				check.check(element, index);
+			++index;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action)
+		{
+			return delegate.tryAdvance(element ->
+			{
+				validate(element);
+				action.accept(element);
+			});
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super E> action)
+		{
+			delegate.forEachRemaining(element ->
+			{
+				validate(element);
+				action.accept(element);
+			});
+		}
+
+		@Override
+		public Spliterator<E> trySplit()
+		{
+			// Elements are validated in encounter order
+			return null;
+		}
+
+		@Override
+		public long estimateSize()
+		{
+			return delegate.estimateSize();
+		}
+
+		@Override
+		public int characteristics()
+		{
+			// Prevent terminal operations such as count() from skipping the elements
+			return delegate.characteristics() & ~(SIZED | SUBSIZED);
+		}
+
+		@Override
+		public Comparator<? super E> getComparator()
+		{
+			return delegate.getComparator();
+		}
+	}
+}
@@ -9,6 +9,7 @@ import io.github.cowwoc.requirements13.java.internal.Configuration;
 import io.github.cowwoc.requirements13.java.internal.message.ObjectMessages;
 import io.github.cowwoc.requirements13.java.internal.message.StringMessages;
 import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.java.internal.util.CharSequences;
 import io.github.cowwoc.requirements13.java.internal.util.Pluralizer;
 import io.github.cowwoc.requirements13.java.internal.util.ValidationTarget;
 import io.github.cowwoc.requirements13.java.validator.PrimitiveUnsignedIntegerValidator;
@@ -16,7 +17,6 @@ import io.github.cowwoc.requirements13.java.validator.StringValidator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Pattern;
 
 public final class StringValidatorImpl extends AbstractObjectValidator<StringValidator, String>
@@ -35,7 +35,7 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 	 *                                  or {@code failures} are null
 	 */
 	public StringValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<String> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<String> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -91,7 +91,7 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 	@Override
 	public StringValidator isTrimmed()
 	{
-		if (value.validationFailed(StringValidatorImpl::isTrimmed))
+		if (value.validationFailed(CharSequences::isTrimmed))
 		{
 			failOnNull();
 			addIllegalArgumentException(
@@ -100,26 +100,10 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		return this;
 	}
 
-	/**
-	 * @param value a value
-	 * @return {@code true} if the value is trimmed, or {@code false} if it is undefined, {@code null} or
-	 * contains leading or trailing whitespace
-	 */
-	private static boolean isTrimmed(String value)
-	{
-		int length = value.length();
-		if (length == 0)
-			return true;
-		boolean foundWhitespace = (value.charAt(0) & 0xff) <= ' ';
-		if (!foundWhitespace && length > 1)
-			foundWhitespace = (value.charAt(length - 1) & 0xff) <= ' ';
-		return !foundWhitespace;
-	}
-
 	@Override
 	public StringValidator isStripped()
 	{
-		if (value.validationFailed(StringValidatorImpl::isStripped))
+		if (value.validationFailed(CharSequences::isStripped))
 		{
 			failOnNull();
 			addIllegalArgumentException(
@@ -128,26 +112,6 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		return this;
 	}
 
-	/**
-	 * @param value a value
-	 * @return {@code true} if the value is stripped, or {@code false} if it is undefined, {@code null} or
-	 * contains leading or trailing Unicode whitespace
-	 */
-	private static boolean isStripped(String value)
-	{
-		int length = value.length();
-		if (length == 0)
-			return true;
-		int codepoint = value.codePointAt(0);
-		boolean foundWhitespace = Character.isWhitespace(codepoint);
-		if (!foundWhitespace && length > 1)
-		{
-			codepoint = value.codePointAt(length - 1);
-			foundWhitespace = Character.isWhitespace(codepoint);
-		}
-		return !foundWhitespace;
-	}
-
 	@Override
 	public StringValidator startsWith(String prefix)
 	{
@@ -14,7 +14,6 @@ import io.github.cowwoc.requirements13.java.validator.UriValidator;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public final class UriValidatorImpl extends AbstractObjectValidator<UriValidator, URI>
 	implements UriValidator
@@ -32,7 +31,7 @@ public final class UriValidatorImpl extends AbstractObjectValidator<UriValidator
 	 *                                  or {@code failures} are null
 	 */
 	public UriValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
-		ValidationTarget<URI> value, Map<String, Optional<Object>> context, List<ValidationFailure> failures)
+		ValidationTarget<URI> value, Map<String, ContextValue> context, List<ValidationFailure> failures)
 	{
 		super(scope, configuration, name, value, context, failures);
 	}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.validator;
+
+import io.github.cowwoc.requirements13.java.validator.component.BinaryComponent;
+import io.github.cowwoc.requirements13.java.validator.component.ComparableComponent;
+import io.github.cowwoc.requirements13.java.validator.component.ObjectComponent;
+import io.github.cowwoc.requirements13.java.validator.component.ValidatorComponent;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Validates the state of a {@code ByteBuffer}.
+ * <p>
+ * Binary checks apply to the buffer's remaining bytes, between its position and limit. The buffer is read in
+ * place, without copying it or modifying its position, limit or mark.
+ * <p>
+ * Buffers are compared to each other using {@link ByteBuffer#compareTo(ByteBuffer)}.
+ */
+public interface ByteBufferValidator extends
+	ValidatorComponent<ByteBufferValidator, ByteBuffer>,
+	ObjectComponent<ByteBufferValidator, ByteBuffer>,
+	BinaryComponent<ByteBufferValidator>,
+	ComparableComponent<ByteBufferValidator, ByteBuffer>
+{
+	/**
+	 * Returns a validator for the number of bytes between the buffer's position and limit.
+	 *
+	 * @return a validator for the number of remaining bytes
+	 * @throws NullPointerException if the value is null
+	 */
+	PrimitiveUnsignedIntegerValidator remaining();
+
+	/**
+	 * Returns a validator for the buffer's capacity.
+	 *
+	 * @return a validator for the buffer's capacity
+	 * @throws NullPointerException if the value is null
+	 */
+	PrimitiveUnsignedIntegerValidator capacity();
+}
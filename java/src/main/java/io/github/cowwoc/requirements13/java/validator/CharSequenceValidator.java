@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.validator;
+
+import io.github.cowwoc.requirements13.java.validator.component.ObjectComponent;
+import io.github.cowwoc.requirements13.java.validator.component.ValidatorComponent;
+
+import java.util.regex.Pattern;
+
+/**
+ * Validates the state of a {@code CharSequence}, such as a {@code StringBuilder} or {@code CharBuffer}.
+ * <p>
+ * The value is read in place. It is only converted to a {@code String} when a failure message is rendered.
+ *
+ * @param <T> the type of the value
+ */
+public interface CharSequenceValidator<T extends CharSequence> extends
+	ValidatorComponent<CharSequenceValidator<T>, T>,
+	ObjectComponent<CharSequenceValidator<T>, T>
+{
+	/**
+	 * Ensures that the value starts with some prefix.
+	 *
+	 * @param prefix the value that the sequence must start with
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code prefix} are null
+	 * @throws IllegalArgumentException if the value does not start with {@code prefix}
+	 */
+	CharSequenceValidator<T> startsWith(String prefix);
+
+	/**
+	 * Ensures that the value does not start with some prefix.
+	 *
+	 * @param prefix the value that the sequence may not start with
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code prefix} are null
+	 * @throws IllegalArgumentException if the value starts with {@code prefix}
+	 */
+	CharSequenceValidator<T> doesNotStartWith(String prefix);
+
+	/**
+	 * Ensures that the value ends with some suffix.
+	 *
+	 * @param suffix the value that the sequence must end with
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code suffix} are null
+	 * @throws IllegalArgumentException if the value does not end with {@code suffix}
+	 */
+	CharSequenceValidator<T> endsWith(String suffix);
+
+	/**
+	 * Ensures that the value does not end with some suffix.
+	 *
+	 * @param suffix the value that the sequence may not end with
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code suffix} are null
+	 * @throws IllegalArgumentException if the value ends with {@code suffix}
+	 */
+	CharSequenceValidator<T> doesNotEndWith(String suffix);
+
+	/**
+	 * Ensures that the value contains some substring.
+	 *
+	 * @param expected the string that the value must contain
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code expected} are null
+	 * @throws IllegalArgumentException if the value does not contain {@code expected}
+	 */
+	CharSequenceValidator<T> contains(String expected);
+
+	/**
+	 * Ensures that the value does not contain some substring.
+	 *
+	 * @param unwanted the string that the value may not contain
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code unwanted} are null
+	 * @throws IllegalArgumentException if the value contains {@code unwanted}
+	 */
+	CharSequenceValidator<T> doesNotContain(String unwanted);
+
+	/**
+	 * Ensures that the value does not contain whitespace characters.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value contains whitespace characters
+	 */
+	CharSequenceValidator<T> doesNotContainWhitespace();
+
+	/**
+	 * Ensures that the value matches a regular expression.
+	 *
+	 * @param regex the regular expression
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value does not match {@code regex}
+	 */
+	CharSequenceValidator<T> matches(String regex);
+
+	/**
+	 * Ensures that the value matches a regular expression.
+	 *
+	 * @param regex the regular expression
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value does not match {@code regex}
+	 */
+	CharSequenceValidator<T> matches(Pattern regex);
+
+	/**
+	 * Ensures that the value is empty.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is not empty
+	 */
+	CharSequenceValidator<T> isEmpty();
+
+	/**
+	 * Ensures that the value is not empty.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is empty
+	 */
+	CharSequenceValidator<T> isNotEmpty();
+
+	/**
+	 * Ensures that the value does not contain leading or trailing whitespace, where whitespace is defined by
+	 * {@link String#trim()}.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value contains leading or trailing whitespace
+	 * @see String#trim()
+	 * @see #isEmpty()
+	 */
+	CharSequenceValidator<T> isTrimmed();
+
+	/**
+	 * Ensures that the value does not contain leading or trailing whitespace, where whitespace is defined by
+	 * {@link String#strip()}.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value contains leading or trailing whitespace
+	 * @see #isBlank()
+	 */
+	CharSequenceValidator<T> isStripped();
+
+	/**
+	 * Ensures that the value is empty or contains only {@link Character#isWhitespace(int) whitespace}
+	 * codepoints.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is not empty or contains non-whitespace codepoints
+	 */
+	CharSequenceValidator<T> isBlank();
+
+	/**
+	 * Ensures that the value is not empty or contains non-{@link Character#isWhitespace(int) whitespace}
+	 * codepoints.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is empty or contains only whitespace codepoints
+	 */
+	CharSequenceValidator<T> isNotBlank();
+
+	/**
+	 * Returns a validator for the length of the sequence.
+	 *
+	 * @return a validator for the length of the sequence
+	 * @throws NullPointerException if the value is null
+	 */
+	PrimitiveUnsignedIntegerValidator length();
+}
\ No newline at end of file
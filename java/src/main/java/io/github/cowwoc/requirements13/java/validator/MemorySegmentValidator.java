@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.validator;
+
+import io.github.cowwoc.requirements13.java.validator.component.BinaryComponent;
+import io.github.cowwoc.requirements13.java.validator.component.ObjectComponent;
+import io.github.cowwoc.requirements13.java.validator.component.ValidatorComponent;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Validates the state of a {@code MemorySegment}.
+ * <p>
+ * The segment is read in place, so native segments and memory-mapped files are validated without copying
+ * them onto the heap.
+ */
+public interface MemorySegmentValidator extends
+	ValidatorComponent<MemorySegmentValidator, MemorySegment>,
+	ObjectComponent<MemorySegmentValidator, MemorySegment>,
+	BinaryComponent<MemorySegmentValidator>
+{
+	/**
+	 * Returns a validator for the segment's size in bytes.
+	 *
+	 * @return a validator for the segment's size
+	 * @throws NullPointerException if the value is null
+	 */
+	PrimitiveLongValidator byteSize();
+}
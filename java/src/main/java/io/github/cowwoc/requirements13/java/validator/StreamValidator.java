@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.validator;
+
+import io.github.cowwoc.requirements13.java.validator.component.ObjectComponent;
+import io.github.cowwoc.requirements13.java.validator.component.ValidatorComponent;
+
+import java.util.Comparator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Validates the elements of a {@link Stream} as they are consumed.
+ * <p>
+ * Streams may be unbounded and can only be consumed once, so element checks are registered up front and
+ * applied by the stream that {@link #stream()} returns. Elements are validated in encounter order, one at a
+ * time, without being buffered. Failures reference elements by their index, such as {@code "records[42]"}.
+ * <p>
+ * To validate an {@code Iterable} that is not a {@code Collection}, convert it into a stream using
+ * {@link StreamSupport#stream(java.util.Spliterator, boolean)}.
+ *
+ * @param <E> the type of elements in the stream
+ */
+public interface StreamValidator<E> extends
+	ValidatorComponent<StreamValidator<E>, Stream<E>>,
+	ObjectComponent<StreamValidator<E>, Stream<E>>
+{
+	/**
+	 * Validates each element of the stream as it is consumed.
+	 * <p>
+	 * {@code validation} is invoked once per element with a validator whose name is the stream's name followed
+	 * by the element's index, such as {@code "records[42]"}.
+	 *
+	 * @param validation validates an element
+	 * @return this
+	 * @throws NullPointerException if the value or {@code validation} are null
+	 */
+	StreamValidator<E> eachElement(Consumer<? super ObjectValidator<E>> validation);
+
+	/**
+	 * Ensures that the stream is sorted, comparing each element to the one before it as they are consumed.
+	 * Only the first element that is out of order is reported.
+	 *
+	 * @param comparator the comparator that determines the order of the elements
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code comparator} are null
+	 * @throws IllegalArgumentException if an element is less than the element before it
+	 */
+	StreamValidator<E> isSorted(Comparator<E> comparator);
+
+	/**
+	 * Ensures that the stream does not contain any duplicate elements. Every distinct element is remembered
+	 * until the stream is exhausted. Only the first duplicate is reported.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the stream contains any duplicate elements
+	 * @see #doesNotContainDuplicates(int)
+	 */
+	StreamValidator<E> doesNotContainDuplicates();
+
+	/**
+	 * Ensures that the stream does not contain duplicate elements, using a bounded amount of memory.
+	 * <p>
+	 * Only the {@code window} most recent distinct elements are remembered, so duplicates that are further
+	 * apart go undetected. Unlike a probabilistic filter, this check never reports an element that is not a
+	 * duplicate. Only the first duplicate is reported.
+	 *
+	 * @param window the number of distinct elements to remember
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if {@code window} is zero or negative, or if an element is equal to
+	 *                                  one of the {@code window} distinct elements before it
+	 */
+	StreamValidator<E> doesNotContainDuplicates(int window);
+
+	/**
+	 * Returns a view of the stream that applies the validation rules to each element as it is consumed.
+	 * <p>
+	 * The view is sequential and does not report its size, so every element passes through the validation
+	 * rules even if the terminal operation could skip them. Rules must be added before the view is
+	 * consumed. If the validator throws on failure, the exception is thrown by the operation that consumes
+	 * the offending element. Otherwise, failures are available from {@link #elseGetFailures()} once the
+	 * stream has been consumed.
+	 *
+	 * @return a view of the stream, or an empty stream if the value is null
+	 * @throws NullPointerException if the value is null
+	 */
+	Stream<E> stream();
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.java.validator.component;
+
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Methods that all validators of binary data must contain.
+ * <p>
+ * The data is read in place, so validating off-heap memory or a memory-mapped file does not copy it onto the
+ * heap.
+ *
+ * @param <S> the type this validator
+ */
+public interface BinaryComponent<S>
+{
+	/**
+	 * Ensures that the data starts with a sequence of bytes.
+	 *
+	 * @param prefix the bytes that the data must start with
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code prefix} are null
+	 * @throws IllegalArgumentException if the data does not start with {@code prefix}
+	 */
+	S startsWith(byte[] prefix);
+
+	/**
+	 * Ensures that the data contains a sequence of bytes.
+	 *
+	 * @param expected the bytes that the data must contain
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code expected} are null
+	 * @throws IllegalArgumentException if the data does not contain {@code expected}
+	 */
+	S contains(byte[] expected);
+
+	/**
+	 * Ensures that the data may be accessed using values that are aligned to {@code alignment} bytes.
+	 *
+	 * @param alignment the alignment in bytes
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if:
+	 *                                  <ul>
+	 *                                    <li>{@code alignment} is not a positive power of two</li>
+	 *                                    <li>the data is not aligned to {@code alignment} bytes</li>
+	 *                                  </ul>
+	 */
+	S isAlignedTo(long alignment);
+
+	/**
+	 * Ensures that every {@code int} in the data is within a range. The data is read as a sequence of
+	 * {@code layout} values, regardless of their alignment. Trailing bytes that do not make up a whole value
+	 * are ignored.
+	 *
+	 * @param layout           the layout of each value, which determines its byte order (e.g.
+	 *                         {@code ValueLayout.JAVA_INT.withOrder(ByteOrder.BIG_ENDIAN)})
+	 * @param minimumInclusive the lower bound of the range
+	 * @param maximumExclusive the upper bound of the range
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code layout} are null
+	 * @throws IllegalArgumentException if:
+	 *                                  <ul>
+	 *                                    <li>{@code minimumInclusive} is greater than
+	 *                                    {@code maximumExclusive}</li>
+	 *                                    <li>any value is less than {@code minimumInclusive}, or greater
+	 *                                    than or equal to {@code maximumExclusive}</li>
+	 *                                  </ul>
+	 */
+	S allBetween(ValueLayout.OfInt layout, int minimumInclusive, int maximumExclusive);
+
+	/**
+	 * Ensures that every {@code long} in the data is within a range. The data is read as a sequence of
+	 * {@code layout} values, regardless of their alignment. Trailing bytes that do not make up a whole value
+	 * are ignored.
+	 *
+	 * @param layout           the layout of each value, which determines its byte order (e.g.
+	 *                         {@code ValueLayout.JAVA_LONG.withOrder(ByteOrder.BIG_ENDIAN)})
+	 * @param minimumInclusive the lower bound of the range
+	 * @param maximumExclusive the upper bound of the range
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code layout} are null
+	 * @throws IllegalArgumentException if:
+	 *                                  <ul>
+	 *                                    <li>{@code minimumInclusive} is greater than
+	 *                                    {@code maximumExclusive}</li>
+	 *                                    <li>any value is less than {@code minimumInclusive}, or greater
+	 *                                    than or equal to {@code maximumExclusive}</li>
+	 *                                  </ul>
+	 */
+	S allBetween(ValueLayout.OfLong layout, long minimumInclusive, long maximumExclusive);
+}
@@ -4,9 +4,11 @@
  */
 package io.github.cowwoc.requirements13.java.validator.component;
 
+import io.github.cowwoc.requirements13.java.validator.ObjectValidator;
 import io.github.cowwoc.requirements13.java.validator.PrimitiveUnsignedIntegerValidator;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 /**
  * Methods that all {@code Collection} validators must contain.
@@ -506,6 +508,38 @@ public interface CollectionComponent<S, E>
 	 */
 	S doesNotContainDuplicates();
 
+	/**
+	 * Validates each element of the collection.
+	 * <p>
+	 * {@code validation} is invoked once per element, in iteration order, with a validator whose name is the
+	 * collection's name followed by the element's index, such as {@code "orders[3]"}. Failures are recorded
+	 * by this validator. This is equivalent to {@code eachElement(validation, Integer.MAX_VALUE)}.
+	 *
+	 * @param validation validates an element
+	 * @return this
+	 * @throws NullPointerException if the value or {@code validation} are null
+	 * @see #eachElement(Consumer, int)
+	 */
+	S eachElement(Consumer<? super ObjectValidator<E>> validation);
+
+	/**
+	 * Validates each element of the collection, stopping once {@code maximumFailures} elements have failed
+	 * validation.
+	 * <p>
+	 * {@code validation} is invoked once per element, in iteration order, with a validator whose name is the
+	 * collection's name followed by the element's index, such as {@code "orders[3]"}. Failures are recorded
+	 * by this validator. Element validators share this validator's context, and must not be used after
+	 * {@code validation} returns.
+	 *
+	 * @param validation      validates an element
+	 * @param maximumFailures the number of elements that may fail validation before the remaining elements are
+	 *                        skipped
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code validation} are null
+	 * @throws IllegalArgumentException if {@code maximumFailures} is zero or negative
+	 */
+	S eachElement(Consumer<? super ObjectValidator<E>> validation, int maximumFailures);
+
 	/**
 	 * Returns a validator for the collection's size.
 	 *
@@ -19,7 +19,9 @@ import io.github.cowwoc.requirements13.java.internal.validator.JavaValidatorsImp
 import io.github.cowwoc.requirements13.java.validator.BigDecimalValidator;
 import io.github.cowwoc.requirements13.java.validator.BigIntegerValidator;
 import io.github.cowwoc.requirements13.java.validator.BooleanValidator;
+import io.github.cowwoc.requirements13.java.validator.ByteBufferValidator;
 import io.github.cowwoc.requirements13.java.validator.ByteValidator;
+import io.github.cowwoc.requirements13.java.validator.CharSequenceValidator;
 import io.github.cowwoc.requirements13.java.validator.CharacterValidator;
 import io.github.cowwoc.requirements13.java.validator.CollectionValidator;
 import io.github.cowwoc.requirements13.java.validator.ComparableValidator;
@@ -31,6 +33,7 @@ import io.github.cowwoc.requirements13.java.validator.IntegerValidator;
 import io.github.cowwoc.requirements13.java.validator.ListValidator;
 import io.github.cowwoc.requirements13.java.validator.LongValidator;
 import io.github.cowwoc.requirements13.java.validator.MapValidator;
+import io.github.cowwoc.requirements13.java.validator.MemorySegmentValidator;
 import io.github.cowwoc.requirements13.java.validator.ObjectArrayValidator;
 import io.github.cowwoc.requirements13.java.validator.ObjectValidator;
 import io.github.cowwoc.requirements13.java.validator.OptionalValidator;
@@ -52,14 +55,18 @@ import io.github.cowwoc.requirements13.java.validator.PrimitiveLongValidator;
 import io.github.cowwoc.requirements13.java.validator.PrimitiveShortArrayValidator;
 import io.github.cowwoc.requirements13.java.validator.PrimitiveShortValidator;
 import io.github.cowwoc.requirements13.java.validator.ShortValidator;
+import io.github.cowwoc.requirements13.java.validator.StreamValidator;
 import io.github.cowwoc.requirements13.java.validator.StringValidator;
 import io.github.cowwoc.requirements13.java.validator.UriValidator;
 import tools.jackson.databind.JsonNode;
 
+import java.lang.foreign.MemorySegment;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
@@ -67,6 +74,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public final class TestValidatorsImpl implements TestValidators
 {
@@ -342,6 +350,48 @@ public final class TestValidatorsImpl implements TestValidators
 		return javaValidators.requireThat(value, name);
 	}
 
+	@Override
+	public <E> StreamValidator<E> requireThat(Stream<E> value, String name)
+	{
+		return javaValidators.requireThat(value, name);
+	}
+
+	@Override
+	public <T extends CharSequence> CharSequenceValidator<T> requireThat(T value, String name)
+	{
+		return javaValidators.requireThat(value, name);
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuilder> requireThat(StringBuilder value, String name)
+	{
+		return javaValidators.requireThat(value, name);
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuffer> requireThat(StringBuffer value, String name)
+	{
+		return javaValidators.requireThat(value, name);
+	}
+
+	@Override
+	public CharSequenceValidator<CharBuffer> requireThat(CharBuffer value, String name)
+	{
+		return javaValidators.requireThat(value, name);
+	}
+
+	@Override
+	public ByteBufferValidator requireThat(ByteBuffer value, String name)
+	{
+		return javaValidators.requireThat(value, name);
+	}
+
+	@Override
+	public MemorySegmentValidator requireThat(MemorySegment value, String name)
+	{
+		return javaValidators.requireThat(value, name);
+	}
+
 	@Override
 	public InetAddressValidator requireThat(InetAddress value, String name)
 	{
@@ -804,6 +854,90 @@ public final class TestValidatorsImpl implements TestValidators
 		return javaValidators.that(value);
 	}
 
+	@Override
+	public <E> StreamValidator<E> that(Stream<E> value, String name)
+	{
+		return javaValidators.that(value, name);
+	}
+
+	@Override
+	public <E> StreamValidator<E> that(Stream<E> value)
+	{
+		return javaValidators.that(value);
+	}
+
+	@Override
+	public <T extends CharSequence> CharSequenceValidator<T> that(T value, String name)
+	{
+		return javaValidators.that(value, name);
+	}
+
+	@Override
+	public <T extends CharSequence> CharSequenceValidator<T> that(T value)
+	{
+		return javaValidators.that(value);
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuilder> that(StringBuilder value, String name)
+	{
+		return javaValidators.that(value, name);
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuilder> that(StringBuilder value)
+	{
+		return javaValidators.that(value);
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuffer> that(StringBuffer value, String name)
+	{
+		return javaValidators.that(value, name);
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuffer> that(StringBuffer value)
+	{
+		return javaValidators.that(value);
+	}
+
+	@Override
+	public CharSequenceValidator<CharBuffer> that(CharBuffer value, String name)
+	{
+		return javaValidators.that(value, name);
+	}
+
+	@Override
+	public CharSequenceValidator<CharBuffer> that(CharBuffer value)
+	{
+		return javaValidators.that(value);
+	}
+
+	@Override
+	public ByteBufferValidator that(ByteBuffer value, String name)
+	{
+		return javaValidators.that(value, name);
+	}
+
+	@Override
+	public ByteBufferValidator that(ByteBuffer value)
+	{
+		return javaValidators.that(value);
+	}
+
+	@Override
+	public MemorySegmentValidator that(MemorySegment value, String name)
+	{
+		return javaValidators.that(value, name);
+	}
+
+	@Override
+	public MemorySegmentValidator that(MemorySegment value)
+	{
+		return javaValidators.that(value);
+	}
+
 	@Override
 	public InetAddressValidator that(InetAddress value, String name)
 	{
@@ -1272,6 +1406,90 @@ public final class TestValidatorsImpl implements TestValidators
 		return javaValidators.checkIf(value);
 	}
 
+	@Override
+	public <E> StreamValidator<E> checkIf(Stream<E> value, String name)
+	{
+		return javaValidators.checkIf(value, name);
+	}
+
+	@Override
+	public <E> StreamValidator<E> checkIf(Stream<E> value)
+	{
+		return javaValidators.checkIf(value);
+	}
+
+	@Override
+	public <T extends CharSequence> CharSequenceValidator<T> checkIf(T value, String name)
+	{
+		return javaValidators.checkIf(value, name);
+	}
+
+	@Override
+	public <T extends CharSequence> CharSequenceValidator<T> checkIf(T value)
+	{
+		return javaValidators.checkIf(value);
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuilder> checkIf(StringBuilder value, String name)
+	{
+		return javaValidators.checkIf(value, name);
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuilder> checkIf(StringBuilder value)
+	{
+		return javaValidators.checkIf(value);
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuffer> checkIf(StringBuffer value, String name)
+	{
+		return javaValidators.checkIf(value, name);
+	}
+
+	@Override
+	public CharSequenceValidator<StringBuffer> checkIf(StringBuffer value)
+	{
+		return javaValidators.checkIf(value);
+	}
+
+	@Override
+	public CharSequenceValidator<CharBuffer> checkIf(CharBuffer value, String name)
+	{
+		return javaValidators.checkIf(value, name);
+	}
+
+	@Override
+	public CharSequenceValidator<CharBuffer> checkIf(CharBuffer value)
+	{
+		return javaValidators.checkIf(value);
+	}
+
+	@Override
+	public ByteBufferValidator checkIf(ByteBuffer value, String name)
+	{
+		return javaValidators.checkIf(value, name);
+	}
+
+	@Override
+	public ByteBufferValidator checkIf(ByteBuffer value)
+	{
+		return javaValidators.checkIf(value);
+	}
+
+	@Override
+	public MemorySegmentValidator checkIf(MemorySegment value, String name)
+	{
+		return javaValidators.checkIf(value, name);
+	}
+
+	@Override
+	public MemorySegmentValidator checkIf(MemorySegment value)
+	{
+		return javaValidators.checkIf(value);
+	}
+
 	@Override
 	public InetAddressValidator checkIf(InetAddress value, String name)
 	{
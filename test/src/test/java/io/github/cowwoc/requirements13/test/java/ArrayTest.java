@@ -893,6 +893,114 @@ public final class ArrayTest
 		}
 	}
 
+	@Test
+	public void primitiveContainsExactly()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			int[] actual = {3, 1, 2, 3};
+			validators.requireThat(actual, "actual").containsExactly(new int[]{1, 2, 3}).
+				containsExactly(List.of(2, 3, 1)).
+				containsAll(new int[]{3, 3}).
+				containsAny(List.of(5, 2)).
+				doesNotContainAny(new int[]{4, 5}).
+				doesNotContainAll(List.of(1, 4)).
+				doesNotContainExactly(new int[]{1, 2});
+		}
+	}
+
+	@Test
+	public void primitiveContainsExactly_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			int[] actual = {1, 2, 3};
+			List<String> expectedMessages = List.of("""
+				"actual" must consist of the elements [1, 2, 4], regardless of their order.
+				actual  : [1, 2, 3]
+				missing : [4]
+				unwanted: [3]""");
+			List<String> actualMessages = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				containsExactly(new int[]{1, 2, 4}).elseGetFailures().getMessages();
+			TestValidators validators = TestValidators.of(scope);
+			validators.requireThat(actualMessages, "actualMessages").isEqualTo(expectedMessages);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void primitiveContainsAll_nullElement()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			int[] actual = {1, 2, 3};
+			validators.requireThat(actual, "actual").containsAll(Arrays.asList(1, null));
+		}
+	}
+
+	@Test
+	public void primitiveFloatingPointEquality()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			// Float.equals() treats NaN as equal to itself, and 0.0 as different from -0.0
+			float[] actual = {Float.NaN, 0.0f};
+			validators.requireThat(actual, "actual").containsExactly(List.of(Float.NaN, 0.0f)).
+				doesNotContainAny(List.of(-0.0f));
+
+			double[] actualDouble = {Double.NaN, -0.0, Double.NaN};
+			validators.requireThat(actualDouble, "actualDouble").containsExactly(new double[]{-0.0, Double.NaN}).
+				doesNotContainAny(new double[]{0.0});
+		}
+	}
+
+	/**
+	 * Ensures that the elements listed by failure messages are converted back to their original values.
+	 */
+	@Test
+	public void primitiveFailureMessages()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			double[] actual = {1.5, -2.0, 1.5, 3.0};
+			List<String> expectedMessages = List.of("""
+					"actual" must contain all the elements present in the set [-2.0, 4.5].
+					actual : [1.5, -2.0, 1.5, 3.0]
+					missing: [4.5]""",
+				"""
+					"actual" may not contain any of the elements present in the set [3.0, 7.0].
+					actual          : [1.5, -2.0, 1.5, 3.0]
+					elementsToRemove: [3.0]""",
+				"""
+					"actual" may not contain any duplicate elements.
+					duplicates: [1.5]
+					actual    : [1.5, -2.0, 1.5, 3.0]""");
+			List<String> actualMessages = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				containsAll(new double[]{-2.0, 4.5}).
+				doesNotContainAny(List.of(3.0, 7.0)).
+				doesNotContainDuplicates().elseGetFailures().getMessages();
+			TestValidators validators = TestValidators.of(scope);
+			validators.requireThat(actualMessages, "actualMessages").isEqualTo(expectedMessages);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void primitiveDoesNotContainDuplicates_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			long[] actual = {Long.MIN_VALUE, 5, Long.MAX_VALUE, 5};
+			validators.requireThat(actual, "actual").doesNotContainDuplicates();
+		}
+	}
+
 	@Test
 	public void isSorted()
 	{
@@ -1675,4 +1783,34 @@ public final class ArrayTest
 			validators.requireThat(actualMessages, "actualMessages").isEqualTo(expectedMessages);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Ensures that parallel validation reports the same failures as sequential validation.
+	 */
+	@Test
+	public void parallelMatchesSequential()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			int[] actual = {5, 1, 4, 1, 3};
+			Integer[] actualAsObjects = {5, 1, 4, 1, 3};
+			List<String> sequential = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				isSorted().doesNotContainDuplicates().containsAll(new int[]{1, 2}).containsExactly(new int[]{1, 3}).
+				elseGetFailures().getMessages();
+			sequential.addAll(new TestValidatorsImpl(scope).checkIf(actualAsObjects, "actual").
+				isSorted(Comparator.naturalOrder()).doesNotContainDuplicates().containsAny(new Integer[]{2, 6}).
+				elseGetFailures().getMessages());
+			TestValidators parallelValidators = new TestValidatorsImpl(scope).updateConfiguration(c ->
+				c.parallelThreshold(0));
+			List<String> parallel = parallelValidators.checkIf(actual, "actual").
+				isSorted().doesNotContainDuplicates().containsAll(new int[]{1, 2}).containsExactly(new int[]{1, 3}).
+				elseGetFailures().getMessages();
+			parallel.addAll(parallelValidators.checkIf(actualAsObjects, "actual").
+				isSorted(Comparator.naturalOrder()).doesNotContainDuplicates().containsAny(new Integer[]{2, 6}).
+				elseGetFailures().getMessages());
+			validators.requireThat(parallel, "parallel").isEqualTo(sequential, "sequential");
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.test.java;
+
+import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.test.TestValidators;
+import io.github.cowwoc.requirements13.test.TestValidatorsImpl;
+import io.github.cowwoc.requirements13.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import static io.github.cowwoc.requirements13.java.TerminalEncoding.NONE;
+
+public final class ByteBufferTest
+{
+	@Test(expectedExceptions = NullPointerException.class)
+	public void nameIsNull()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocate(0);
+			validators.requireThat(actual, null);
+		}
+	}
+
+	@Test
+	public void remainingAndCapacity()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocate(10).position(4);
+			validators.requireThat(actual, "actual").remaining().isEqualTo(6);
+			validators.requireThat(actual, "actual").capacity().isEqualTo(10);
+		}
+	}
+
+	@Test
+	public void remaining_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocate(10);
+			List<String> messages = new TestValidatorsImpl(scope).checkIf(actual, "actual").remaining().
+				isEqualTo(4).elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			String message = messages.getFirst();
+			assert message.startsWith("\"actual\" must contain 4 bytes.") : message;
+		}
+	}
+
+	/**
+	 * Ensures that buffers can still be compared to each other, as they were before they had a dedicated
+	 * validator.
+	 */
+	@Test
+	public void compareTo()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.wrap(new byte[]{1, 2, 3});
+			validators.requireThat(actual, "actual").
+				isGreaterThan(ByteBuffer.wrap(new byte[]{1, 2})).
+				isLessThan(ByteBuffer.wrap(new byte[]{1, 3})).
+				isBetween(ByteBuffer.wrap(new byte[]{1}), ByteBuffer.wrap(new byte[]{2})).
+				startsWith(new byte[]{1, 2});
+
+			List<String> messages = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				isLessThan(ByteBuffer.wrap(new byte[]{1, 2}), "expected").elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+		}
+	}
+
+	/**
+	 * Ensures that binary checks apply to the remaining bytes, without modifying the buffer.
+	 */
+	@Test
+	public void remainingBytes()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.wrap(new byte[]{9, 9, 1, 2, 3, 4, 9}).position(2).limit(6);
+			validators.requireThat(actual, "actual").
+				startsWith(new byte[]{1, 2}).
+				contains(new byte[]{3, 4}).
+				allBetween(ValueLayout.JAVA_INT.withOrder(ByteOrder.BIG_ENDIAN), 0x0102_0304, 0x0102_0305);
+			validators.requireThat(actual.position(), "actual.position()").isEqualTo(2);
+			validators.requireThat(actual.limit(), "actual.limit()").isEqualTo(6);
+
+			List<String> messages = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				contains(new byte[]{4, 9}).elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+		}
+	}
+
+	@Test
+	public void directBuffer()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocateDirect(16).putInt(7).putInt(8).flip();
+			validators.requireThat(actual, "actual").
+				allBetween(ValueLayout.JAVA_INT.withOrder(ByteOrder.BIG_ENDIAN), 7, 9).
+				isAlignedTo(1);
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.test.java;
+
+import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.test.TestValidators;
+import io.github.cowwoc.requirements13.test.TestValidatorsImpl;
+import io.github.cowwoc.requirements13.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.nio.CharBuffer;
+import java.util.List;
+
+import static io.github.cowwoc.requirements13.java.TerminalEncoding.NONE;
+
+public final class CharSequenceTest
+{
+	@Test(expectedExceptions = NullPointerException.class)
+	public void nameIsNull()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringBuilder actual = new StringBuilder();
+			validators.requireThat(actual, null);
+		}
+	}
+
+	@Test
+	public void stringBuilder()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringBuilder actual = new StringBuilder("GET /index.html");
+			validators.requireThat(actual, "actual").
+				startsWith("GET ").
+				endsWith(".html").
+				contains("/index").
+				doesNotContain("POST").
+				isTrimmed().
+				isStripped().
+				isNotBlank().
+				matches("[A-Z]+ /\\S+").
+				length().isEqualTo(15);
+		}
+	}
+
+	@Test
+	public void stringBuilder_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringBuilder actual = new StringBuilder(" value");
+			List<String> messages = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				isTrimmed().
+				startsWith("value").
+				isEmpty().elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(3);
+			String message = messages.getFirst();
+			assert message.startsWith("\"actual\" may not contain leading or trailing whitespace.") : message;
+			assert message.contains("actual: \" value\"") : message;
+			message = messages.get(2);
+			assert message.startsWith("\"actual\" must be empty.") : message;
+			assert message.contains("actual: \" value\"") : message;
+		}
+	}
+
+	/**
+	 * Ensures that checks apply to the remaining characters of a heap buffer, without modifying the buffer.
+	 */
+	@Test
+	public void heapCharBuffer()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			CharBuffer actual = CharBuffer.wrap("xx key=value yy".toCharArray(), 3, 9);
+			validators.requireThat(actual.hasArray(), "actual.hasArray()").isTrue();
+			validators.requireThat(actual, "actual").
+				startsWith("key").
+				endsWith("value").
+				doesNotEndWith("yy").
+				contains("=val").
+				doesNotContain("xx").
+				doesNotContainWhitespace().
+				length().isEqualTo(9);
+			validators.requireThat(actual.position(), "actual.position()").isEqualTo(3);
+
+			List<String> messages = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				contains("value yy").elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			String message = messages.getFirst();
+			assert message.contains("actual: \"key=value\"") : message;
+		}
+	}
+
+	/**
+	 * Ensures that read-only buffers, which do not expose their backing array, are supported.
+	 */
+	@Test
+	public void readOnlyCharBuffer()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			CharBuffer actual = CharBuffer.wrap(" \t\n".toCharArray()).asReadOnlyBuffer();
+			validators.requireThat(actual.hasArray(), "actual.hasArray()").isFalse();
+			validators.requireThat(actual, "actual").isBlank().doesNotStartWith("x");
+
+			List<String> messages = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				isStripped().
+				doesNotContainWhitespace().elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(2);
+		}
+	}
+
+	@Test
+	public void charSequence()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			CharSequence actual = new StringBuffer("ab");
+			validators.requireThat(actual, "actual").isNotEmpty().length().isEqualTo(2);
+			validators.requireThat(new StringBuffer(), "actual").isEmpty().isBlank();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void matches_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringBuilder actual = new StringBuilder("abc");
+			validators.requireThat(actual, "actual").matches("\\d+");
+		}
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void startsWith_actualIsNull()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringBuilder actual = null;
+			validators.requireThat(actual, "actual").startsWith("a");
+		}
+	}
+}
@@ -11,8 +11,10 @@ import io.github.cowwoc.requirements13.test.TestValidatorsImpl;
 import io.github.cowwoc.requirements13.test.scope.TestApplicationScope;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import static io.github.cowwoc.requirements13.java.TerminalEncoding.NONE;
 
@@ -247,6 +249,21 @@ public final class ClassTest
 		}
 	}
 
+	@Test
+	public void isSubtypeOf_typeVariable()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			GenericType<?> bounded = GenericType.from(BoundedHolder.class.getTypeParameters()[0]);
+			assert bounded.getRawType() == List.class : bounded.getRawType();
+			validators.requireThat(ArrayList.class, "actual").isSubtypeOf(bounded);
+			validators.requireThat(Random.class, "actual").isSubtypeOf(bounded);
+			assert !GenericType.from(Object.class).isSubtypeOf(bounded);
+		}
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void isSubtypeOf_actualIsNull()
 	{
@@ -301,4 +318,14 @@ public final class ClassTest
 			validators.requireThat(actualMessages, "actualMessages").isEqualTo(expectedMessages);
 		}
 	}
+
+	/**
+	 * Declares a type variable with multiple bounds.
+	 *
+	 * @param <V> a type variable whose first bound is parameterized
+	 */
+	@SuppressWarnings("unused")
+	private static final class BoundedHolder<V extends List<String> & RandomGenerator>
+	{
+	}
 }
@@ -6,14 +6,19 @@ package io.github.cowwoc.requirements13.test.java;
 
 import com.google.common.collect.ImmutableList;
 import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.java.validator.CollectionValidator;
+import io.github.cowwoc.requirements13.java.validator.ObjectValidator;
 import io.github.cowwoc.requirements13.test.TestValidators;
 import io.github.cowwoc.requirements13.test.TestValidatorsImpl;
 import io.github.cowwoc.requirements13.test.scope.TestApplicationScope;
 import org.testng.annotations.Test;
 
+import java.util.AbstractCollection;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.github.cowwoc.requirements13.java.TerminalEncoding.NONE;
 
@@ -1407,4 +1412,119 @@ public final class CollectionTest
 			validators.requireThat(actualMessages, "actualMessages").isEqualTo(expectedMessages);
 		}
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void eachElement()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<Integer> actual = List.of(1, 2, 3);
+			validators.requireThat(actual, "actual").eachElement(v -> v.isNotNull().isNotEqualTo(4));
+		}
+	}
+
+	@Test
+	public void eachElement_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<Integer> actual = Arrays.asList(null, 1, null, null);
+			List<String> messages = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				eachElement(ObjectValidator::isNotNull, 2).elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").isEqualTo(List.of(
+				"\"actual[0]\" may not be null",
+				"\"actual[2]\" may not be null"));
+		}
+	}
+
+	/**
+	 * Ensures that element names, which are built on demand, are still reserved.
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void eachElement_contextConflictsWithName()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<Integer> actual = List.of(1, 2, 3);
+			validators.requireThat(actual, "actual").eachElement(v -> v.withContext(5, "actual[1]"));
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void eachElement_maximumFailuresIsZero()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<Integer> actual = List.of(1, 2, 3);
+			validators.requireThat(actual, "actual").eachElement(ObjectValidator::isNotNull, 0);
+		}
+	}
+
+	/**
+	 * Ensures that chained checks compute the size of the collection at most once.
+	 */
+	@Test
+	public void sizeIsComputedOnce()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			AtomicInteger sizeCalls = new AtomicInteger();
+			Collection<Integer> actual = new SizeCountingCollection<>(List.of(1, 2, 3), sizeCalls);
+			CollectionValidator<Collection<Integer>, Integer> validator =
+				validators.requireThat(actual, "actual").isNotEmpty();
+			validator.size().isGreaterThan(0);
+			validator.size().isLessThan(10);
+			validators.requireThat(sizeCalls.get(), "sizeCalls").isEqualTo(1);
+		}
+	}
+
+	/**
+	 * A collection that counts the number of times that its size is computed.
+	 *
+	 * @param <E> the type of elements in the collection
+	 */
+	private static final class SizeCountingCollection<E> extends AbstractCollection<E>
+	{
+		private final List<E> elements;
+		private final AtomicInteger sizeCalls;
+
+		/**
+		 * @param elements  the elements of the collection
+		 * @param sizeCalls the number of times that the size of the collection was computed
+		 */
+		SizeCountingCollection(List<E> elements, AtomicInteger sizeCalls)
+		{
+			this.elements = elements;
+			this.sizeCalls = sizeCalls;
+		}
+
+		@Override
+		public Iterator<E> iterator()
+		{
+			return elements.iterator();
+		}
+
+		@Override
+		public int size()
+		{
+			sizeCalls.incrementAndGet();
+			return elements.size();
+		}
+
+		@Override
+		public boolean isEmpty()
+		{
+			return elements.isEmpty();
+		}
+	}
+}
@@ -7,6 +7,7 @@ package io.github.cowwoc.requirements13.test.java;
 import com.google.common.collect.Sets;
 import io.github.cowwoc.requirements13.java.internal.Configuration;
 import io.github.cowwoc.requirements13.java.internal.ConfigurationUpdater;
+import io.github.cowwoc.requirements13.java.internal.StringMappers;
 import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
 import io.github.cowwoc.requirements13.test.TestValidators;
 import io.github.cowwoc.requirements13.test.TestValidatorsImpl;
@@ -15,9 +16,13 @@ import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.github.cowwoc.requirements13.java.TerminalEncoding.NONE;
 
@@ -56,6 +61,144 @@ public final class ConfigurationTest
 		}
 	}
 
+	/**
+	 * Ensures that mappers that were resolved before a configuration update do not leak into the updated
+	 * configuration.
+	 */
+	@Test
+	public void updateStringConverterAfterUse()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Set<Integer> actual = Sets.newLinkedHashSetWithExpectedSize(2);
+			actual.add(1);
+			actual.add(2);
+			Set<Integer> notEqual = Set.of();
+			try
+			{
+				validators.requireThat(actual, "actual").isEqualTo(notEqual);
+			}
+			catch (IllegalArgumentException e)
+			{
+				validators.requireThat(e.getMessage(), "e.getMessage()").contains("[1, 2]");
+			}
+
+			try (ConfigurationUpdater configurationUpdater = validators.updateConfiguration())
+			{
+				configurationUpdater.stringMappers().put(LinkedHashSet.class, (value, seen) -> "custom");
+			}
+			try
+			{
+				validators.requireThat(actual, "actual").isEqualTo(notEqual);
+			}
+			catch (IllegalArgumentException e)
+			{
+				validators.requireThat(e.getMessage(), "e.getMessage()").contains("custom");
+			}
+		}
+	}
+
+	/**
+	 * Ensures that large values are summarized instead of being rendered in full.
+	 */
+	@Test
+	public void stringMapperLimits()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+			try (ConfigurationUpdater configurationUpdater = validators.updateConfiguration())
+			{
+				configurationUpdater.stringMappers().maximumElements(3).maximumStringLength(5).maximumDepth(2);
+			}
+			StringMappers stringMappers = validators.configuration().stringMappers();
+
+			List<Integer> list = new ArrayList<>(1_000_000);
+			for (int i = 0; i < 1_000_000; ++i)
+				list.add(i);
+			String actual = stringMappers.toString(list);
+			assert actual.equals("[0, 1, 2, ... 999,997 more]") : actual;
+
+			actual = stringMappers.toString(new int[1_000]);
+			assert actual.equals("[0, 0, 0, ... 997 more]") : actual;
+
+			actual = stringMappers.toString(Map.of(1, 2, 3, 4, 5, 6, 7, 8));
+			assert actual.equals("{1=2, 3=4, 5=6, ... 1 more}") : actual;
+
+			actual = stringMappers.toString("Hello world");
+			assert actual.equals("\"Hello\"... 6 more characters") : actual;
+
+			actual = stringMappers.toString(List.of(List.of(List.of(1)), new Object[]{new int[]{1}}));
+			assert actual.equals("[[[...]], [[...]]]") : actual;
+		}
+	}
+
+	/**
+	 * Ensures that truncated sets and maps display their smallest elements, in order.
+	 */
+	@Test
+	public void stringMapperLimitsOnUnsortedCollections()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+			try (ConfigurationUpdater configurationUpdater = validators.updateConfiguration())
+			{
+				configurationUpdater.stringMappers().maximumElements(3);
+			}
+			StringMappers stringMappers = validators.configuration().stringMappers();
+
+			Set<Integer> set = new HashSet<>();
+			Map<Integer, Integer> map = new HashMap<>();
+			for (int i = 1000; i > 0; --i)
+			{
+				set.add(i * 7);
+				map.put(i * 7, i);
+			}
+			String actual = stringMappers.toString(set);
+			assert actual.equals("[7, 14, 21, ... 997 more]") : actual;
+
+			actual = stringMappers.toString(map);
+			assert actual.equals("{7=1, 14=2, 21=3, ... 997 more}") : actual;
+		}
+	}
+
+	/**
+	 * Ensures that sets and maps that contain {@code null} are rendered in iteration order instead of failing.
+	 */
+	@Test
+	public void stringMapperUnsortableNulls()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+			StringMappers stringMappers = validators.configuration().stringMappers();
+
+			Map<Integer, Integer> map = new HashMap<>();
+			map.put(null, 0);
+			map.put(2, 2);
+			map.put(1, 1);
+			String actual = stringMappers.toString(map);
+			assert actual.contains("null=0") : actual;
+			assert actual.contains("1=1") : actual;
+
+			Set<Integer> set = new HashSet<>();
+			set.add(null);
+			set.add(2);
+			set.add(1);
+			actual = stringMappers.toString(set);
+			assert actual.contains("null") : actual;
+
+			List<String> messages = new TestValidatorsImpl(scope).checkIf(map, "actual").isEmpty().
+				elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			String message = messages.getFirst();
+			assert message.startsWith("\"actual\" must be empty.") : message;
+		}
+	}
+
 	@Test(expectedExceptions = IllegalStateException.class)
 	public void exceptionTransformer()
 	{
@@ -178,6 +321,44 @@ public final class ConfigurationTest
 		}
 	}
 
+	/**
+	 * Ensures that a context value is rendered once, regardless of the number of failures that reference it.
+	 */
+	@Test
+	public void contextRenderedOnce()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			AtomicInteger renderCount = new AtomicInteger();
+			TestValidatorsImpl factory = new TestValidatorsImpl(scope);
+			try (ConfigurationUpdater configurationUpdater = factory.updateConfiguration())
+			{
+				configurationUpdater.stringMappers().put(Payload.class, (value, seen) ->
+				{
+					renderCount.incrementAndGet();
+					return "payload";
+				});
+			}
+			factory.withContext(new Payload(), "payload");
+			List<String> messages = factory.checkIf(5, "value").isLessThan(3).isGreaterThan(10).
+				elseGetFailures().getMessages();
+
+			validators.requireThat(messages, "messages").size().isEqualTo(2);
+			for (String message : messages)
+				validators.requireThat(message, "message").contains("payload: payload");
+			validators.requireThat(renderCount.get(), "renderCount").isEqualTo(1);
+		}
+	}
+
+	/**
+	 * A type whose String representation is expensive to compute.
+	 */
+	private static final class Payload
+	{
+	}
+
 	/**
 	 * Ensure that the validator context is separate from the factory context.
 	 */
@@ -248,4 +429,17 @@ public final class ConfigurationTest
 				doesNotContain("missing: \"factoryValue\"");
 		}
 	}
-}
\ No newline at end of file
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void parallelThreshold_negative()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+			try (ConfigurationUpdater configuration = validators.updateConfiguration())
+			{
+				configuration.parallelThreshold(-1);
+			}
+		}
+	}
+}
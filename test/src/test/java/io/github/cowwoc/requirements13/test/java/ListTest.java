@@ -6,10 +6,13 @@ package io.github.cowwoc.requirements13.test.java;
 
 import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
 import io.github.cowwoc.requirements13.test.TestValidators;
+import io.github.cowwoc.requirements13.test.TestValidatorsImpl;
 import io.github.cowwoc.requirements13.test.scope.TestApplicationScope;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedList;
 import java.util.List;
 
 import static io.github.cowwoc.requirements13.java.TerminalEncoding.NONE;
@@ -39,4 +42,99 @@ public final class ListTest
 			validators.requireThat(actual, "actual").isSorted(Comparator.naturalOrder());
 		}
 	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isSorted_LinkedList_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<Integer> actual = new LinkedList<>(List.of(1, 3, 2));
+			validators.requireThat(actual, "actual").isSorted(Comparator.naturalOrder());
+		}
+	}
+
+	@Test
+	public void isSorted_largeList_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<Integer> actual = new ArrayList<>(10_000);
+			for (int i = 0; i < 10_000; ++i)
+				actual.add(i);
+			actual.set(5000, 0);
+			List<String> messages = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				isSorted(Comparator.naturalOrder()).elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			String message = messages.getFirst();
+			assert message.contains("unsortedIndex") : message;
+			assert message.contains("actual.subList(4995, 5005): [4995, 4996, 4997, 4998, 4999, 0, 5001, " +
+				"5002, 5003, 5004]") : message;
+		}
+	}
+
+	@Test
+	public void listToStringWithCycle()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<Object> actual = new ArrayList<>();
+			actual.add(1);
+			actual.add(actual);
+			String output = validators.configuration().stringMappers().toString(actual);
+			validators.requireThat(output, "output").isEqualTo("[1, ...]");
+		}
+	}
+
+	/**
+	 * Ensures that repeated elements are not mistaken for cycles.
+	 */
+	@Test
+	public void listToStringWithRepeatedElements()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<Integer> element = List.of(1, 2);
+			List<Object> actual = List.of(element, element, List.of(1, 2));
+			String output = validators.configuration().stringMappers().toString(actual);
+			validators.requireThat(output, "output").isEqualTo("[[1, 2], [1, 2], [1, 2]]");
+		}
+	}
+
+	/**
+	 * Ensures that parallel validation reports the same failures as sequential validation.
+	 */
+	@Test
+	public void isSorted_parallel()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<Integer> actual = new ArrayList<>(10_000);
+			for (int i = 0; i < 10_000; ++i)
+				actual.add(i);
+			TestValidators parallelValidators = new TestValidatorsImpl(scope).updateConfiguration(c ->
+				c.parallelThreshold(0));
+			parallelValidators.requireThat(actual, "actual").isSorted(Comparator.naturalOrder()).
+				doesNotContainDuplicates().containsAll(List.of(9999, 0));
+
+			actual.set(5000, 0);
+			List<String> sequential = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				isSorted(Comparator.naturalOrder()).doesNotContainDuplicates().
+				elseGetFailures().getMessages();
+			List<String> parallel = parallelValidators.checkIf(actual, "actual").
+				isSorted(Comparator.naturalOrder()).doesNotContainDuplicates().
+				elseGetFailures().getMessages();
+			validators.requireThat(parallel, "parallel").size().isEqualTo(2);
+			validators.requireThat(parallel, "parallel").isEqualTo(sequential, "sequential");
+		}
+	}
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.test.java;
+
+import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.test.TestValidators;
+import io.github.cowwoc.requirements13.test.TestValidatorsImpl;
+import io.github.cowwoc.requirements13.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static io.github.cowwoc.requirements13.java.TerminalEncoding.NONE;
+
+public final class MemorySegmentTest
+{
+	@Test(expectedExceptions = NullPointerException.class)
+	public void nameIsNull()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			MemorySegment actual = MemorySegment.ofArray(new byte[0]);
+			validators.requireThat(actual, null);
+		}
+	}
+
+	@Test
+	public void byteSize()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			MemorySegment actual = MemorySegment.ofArray(new byte[]{1, 2, 3});
+			validators.requireThat(actual, "actual").byteSize().isEqualTo(3L);
+		}
+	}
+
+	@Test
+	public void startsWith()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			MemorySegment actual = MemorySegment.ofArray(new byte[]{(byte) 0xCA, (byte) 0xFE, 1, 2});
+			validators.requireThat(actual, "actual").startsWith(new byte[]{(byte) 0xCA, (byte) 0xFE}).
+				startsWith(new byte[0]);
+		}
+	}
+
+	@Test
+	public void startsWith_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			MemorySegment actual = MemorySegment.ofArray(new byte[]{1, 2});
+			List<String> messages = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				startsWith(new byte[]{1, 3}).
+				startsWith(new byte[]{1, 2, 3}).elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(2);
+			String message = messages.getFirst();
+			assert message.startsWith("\"actual\" must start with [1, 3].") : message;
+		}
+	}
+
+	@Test
+	public void contains()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			MemorySegment actual = MemorySegment.ofArray(new byte[]{1, 2, 1, 2, 3, 4});
+			validators.requireThat(actual, "actual").contains(new byte[]{2, 3, 4}).contains(new byte[]{1});
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void contains_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			MemorySegment actual = MemorySegment.ofArray(new byte[]{1, 2, 1, 2});
+			validators.requireThat(actual, "actual").contains(new byte[]{2, 1, 2, 1});
+		}
+	}
+
+	@Test
+	public void isAlignedTo()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE);
+		     Arena arena = Arena.ofConfined())
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			MemorySegment actual = arena.allocate(64, 16);
+			validators.requireThat(actual, "actual").isAlignedTo(16);
+
+			List<String> messages = new TestValidatorsImpl(scope).checkIf(actual.asSlice(4), "actual").
+				isAlignedTo(8).elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			String message = messages.getFirst();
+			assert message.startsWith("\"actual\" must be aligned to 8 bytes.") : message;
+			assert message.contains("actual.maxByteAlignment(): 4") : message;
+			assert message.contains("actual.address()") : message;
+		}
+	}
+
+	/**
+	 * Ensures that the alignment of heap segments accounts for the array that holds them.
+	 */
+	@Test
+	public void isAlignedTo_heapSegment()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat(MemorySegment.ofArray(new long[2]), "actual").isAlignedTo(8);
+
+			List<String> messages = new TestValidatorsImpl(scope).checkIf(MemorySegment.ofArray(new byte[16]),
+				"actual").isAlignedTo(8).elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			// The address of a heap segment is an offset into its array, so it is omitted
+			String message = messages.getFirst();
+			assert message.contains("actual.maxByteAlignment(): 1") : message;
+			assert !message.contains("address()") : message;
+
+			messages = new TestValidatorsImpl(scope).checkIf(MemorySegment.ofArray(new long[2]).asSlice(4),
+				"actual").isAlignedTo(8).elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+
+			messages = new TestValidatorsImpl(scope).checkIf(ByteBuffer.allocate(16), "actual").
+				isAlignedTo(2).elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isAlignedTo_notPowerOfTwo()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			MemorySegment actual = MemorySegment.ofArray(new byte[8]);
+			validators.requireThat(actual, "actual").isAlignedTo(3);
+		}
+	}
+
+	@Test
+	public void allBetween()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			// The last byte does not make up a whole int, so it is ignored
+			MemorySegment actual = MemorySegment.ofArray(new byte[]{0, 0, 0, 5, 0, 0, 0, 99, 127});
+			validators.requireThat(actual, "actual").
+				allBetween(ValueLayout.JAVA_INT.withOrder(ByteOrder.BIG_ENDIAN), 0, 100);
+		}
+	}
+
+	@Test
+	public void allBetween_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			MemorySegment actual = MemorySegment.ofArray(new long[]{5, 512, 7});
+			List<String> messages = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				allBetween(ValueLayout.JAVA_LONG, 0, 100).elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			String message = messages.getFirst();
+			assert message.startsWith("\"actual\" contains a value that is out of bounds.") : message;
+			assert message.contains("actual[1]: 512") : message;
+			assert message.contains("bounds   : [0, 100)") : message;
+		}
+	}
+
+	/**
+	 * Ensures that memory-mapped files are validated in place.
+	 */
+	@Test
+	public void mappedFile() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path path = Files.createTempFile(MemorySegmentTest.class.getSimpleName(), ".bin");
+			try
+			{
+				Files.write(path, new byte[]{'R', 'I', 'F', 'F', 0, 0, 0, 42});
+				try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+				     Arena arena = Arena.ofConfined())
+				{
+					MemorySegment actual = channel.map(MapMode.READ_ONLY, 0, channel.size(), arena);
+					validators.requireThat(actual, "actual").
+						startsWith(new byte[]{'R', 'I', 'F', 'F'}).
+						allBetween(ValueLayout.JAVA_INT.withOrder(ByteOrder.BIG_ENDIAN), 0, Integer.MAX_VALUE).
+						byteSize().isEqualTo(8L);
+				}
+			}
+			finally
+			{
+				Files.delete(path);
+			}
+		}
+	}
+}
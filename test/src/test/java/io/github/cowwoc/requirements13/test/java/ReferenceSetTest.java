@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.test.java;
+
+import io.github.cowwoc.requirements13.java.ReferenceSet;
+import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.test.TestValidators;
+import io.github.cowwoc.requirements13.test.TestValidatorsImpl;
+import io.github.cowwoc.requirements13.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static io.github.cowwoc.requirements13.java.TerminalEncoding.NONE;
+
+public final class ReferenceSetTest
+{
+	@Test(expectedExceptions = NullPointerException.class)
+	public void elementsIsNull()
+	{
+		ReferenceSet.of(null);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void falsePositiveProbabilityIsOne()
+	{
+		ReferenceSet.withBloomFilter(List.of(1), 1.0);
+	}
+
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void isImmutable()
+	{
+		Set<Integer> set = ReferenceSet.of(List.of(1, 2, 3));
+		set.add(4);
+	}
+
+	@Test
+	public void equalsSet()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Set<Integer> actual = ReferenceSet.withBloomFilter(Arrays.asList(1, 2, 2, null), 0.01);
+			validators.requireThat(actual, "actual").isEqualTo(new HashSet<>(Arrays.asList(1, 2, null)));
+		}
+	}
+
+	/**
+	 * Ensures that the Bloom filter never rejects an element that is present.
+	 */
+	@Test
+	public void bloomFilterHasNoFalseNegatives()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<String> elements = IntStream.range(0, 10_000).mapToObj(i -> "element" + i).toList();
+			Set<String> actual = ReferenceSet.withBloomFilter(elements, 0.01);
+			for (String element : elements)
+				assert actual.contains(element) : element;
+			validators.requireThat(actual.contains("missing"), "actual.contains(\"missing\")").isFalse();
+		}
+	}
+
+	@Test
+	public void doesNotContainAny()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Set<Integer> denyList = ReferenceSet.withBloomFilter(
+				IntStream.range(100, 10_000).boxed().toList(), 0.01);
+			validators.requireThat(List.of(1, 2, 3), "actual").doesNotContainAny(denyList, "denyList");
+			validators.requireThat(new int[]{1, 2, 3}, "actual").doesNotContainAny(denyList, "denyList");
+		}
+	}
+
+	@Test
+	public void doesNotContainAny_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Set<Integer> denyList = ReferenceSet.of(List.of(3, 4, 5));
+			List<String> messages = new TestValidatorsImpl(scope).checkIf(List.of(5, 1, 3), "actual").
+				doesNotContainAny(denyList, "denyList").elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			String message = messages.getFirst();
+			assert message.contains("elementsToRemove: [3, 5]") : message;
+		}
+	}
+
+	@Test
+	public void containsAny()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Set<Integer> allowList = ReferenceSet.withBloomFilter(
+				IntStream.range(0, 10_000).boxed().toList(), 0.01);
+			validators.requireThat(Set.of(-1, 5), "actual").containsAny(allowList, "allowList");
+			validators.requireThat(new Integer[]{-1, 5}, "actual").containsAny(allowList, "allowList");
+		}
+	}
+
+	@Test
+	public void containsAll()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<Integer> elements = new ArrayList<>(List.of(1, 2, 3));
+			Set<Integer> expected = ReferenceSet.of(elements);
+			// The set is a copy
+			elements.add(4);
+			validators.requireThat(elements, "actual").containsAll(expected, "expected");
+			validators.requireThat(expected, "expected").doesNotContain(4);
+		}
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.test.java;
+
+import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.java.validator.ObjectValidator;
+import io.github.cowwoc.requirements13.java.validator.StreamValidator;
+import io.github.cowwoc.requirements13.test.TestValidators;
+import io.github.cowwoc.requirements13.test.TestValidatorsImpl;
+import io.github.cowwoc.requirements13.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.github.cowwoc.requirements13.java.TerminalEncoding.NONE;
+
+public final class StreamTest
+{
+	@Test(expectedExceptions = NullPointerException.class)
+	public void nameIsNull()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Stream<Integer> actual = Stream.of(1);
+			validators.requireThat(actual, null);
+		}
+	}
+
+	@Test
+	public void eachElement()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Stream<Integer> actual = Stream.of(1, 2, 3);
+			List<Integer> elements = validators.requireThat(actual, "actual").
+				eachElement(v -> v.isNotNull().isNotEqualTo(4)).stream().toList();
+			validators.requireThat(elements, "elements").isEqualTo(List.of(1, 2, 3));
+		}
+	}
+
+	@Test
+	public void eachElement_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Stream<Integer> actual = Stream.of(1, null, 3, null);
+			StreamValidator<Integer> validator = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				eachElement(ObjectValidator::isNotNull);
+			validator.stream().forEach(_ ->
+			{
+			});
+			List<String> messages = validator.elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").isEqualTo(List.of(
+				"\"actual[1]\" may not be null",
+				"\"actual[3]\" may not be null"));
+		}
+	}
+
+	/**
+	 * Ensures that elements are validated as they are consumed, without buffering the stream.
+	 */
+	@Test
+	public void unboundedStream()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Stream<Integer> actual = Stream.iterate(0, i -> i + 1);
+			int match = validators.requireThat(actual, "actual").
+				isSorted(Comparator.naturalOrder()).
+				doesNotContainDuplicates(16).
+				stream().filter(i -> i == 1000).findFirst().orElseThrow();
+			validators.requireThat(match, "match").isEqualTo(1000);
+		}
+	}
+
+	@Test
+	public void isSorted()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Stream<Integer> actual = Stream.of(1, 2, 2, 5);
+			long count = validators.requireThat(actual, "actual").isSorted(Comparator.naturalOrder()).
+				stream().count();
+			validators.requireThat(count, "count").isEqualTo(4L);
+		}
+	}
+
+	/**
+	 * Ensures that terminal operations which may skip elements, such as {@code count()}, still validate them.
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isSorted_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Stream<Integer> actual = List.of(1, 2, 5, 3).stream();
+			long _ = validators.requireThat(actual, "actual").isSorted(Comparator.naturalOrder()).
+				stream().count();
+		}
+	}
+
+	@Test
+	public void isSorted_failureMessage()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Stream<Integer> actual = Stream.of(1, 2, 5, 3, 4, 0);
+			StreamValidator<Integer> validator = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				isSorted(Comparator.naturalOrder());
+			long _ = validator.stream().count();
+			List<String> messages = validator.elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			String message = messages.getFirst();
+			assert message.startsWith("\"actual\" must be sorted.") : message;
+			assert message.contains("actual[2]: 5") : message;
+			assert message.contains("actual[3]: 3") : message;
+		}
+	}
+
+	@Test
+	public void doesNotContainDuplicates_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Stream<Integer> actual = Stream.of(1, 2, 3, 1, 2);
+			StreamValidator<Integer> validator = new TestValidatorsImpl(scope).checkIf(actual, "actual").
+				doesNotContainDuplicates();
+			long _ = validator.stream().count();
+			List<String> messages = validator.elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			String message = messages.getFirst();
+			assert message.startsWith("\"actual\" may not contain any duplicate elements.") : message;
+			assert message.contains("actual[0]: 1") : message;
+			assert message.contains("actual[3]: 1") : message;
+		}
+	}
+
+	@Test
+	public void doesNotContainDuplicates_window()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			// Duplicates that are further apart than the window go undetected
+			StreamValidator<Integer> validator = new TestValidatorsImpl(scope).
+				checkIf(Stream.of(1, 2, 3, 1, null, null), "actual").doesNotContainDuplicates(2);
+			long _ = validator.stream().count();
+			List<String> messages = validator.elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			String message = messages.getFirst();
+			assert message.contains("actual[4]: null") : message;
+			assert message.contains("actual[5]: null") : message;
+
+			validator = new TestValidatorsImpl(scope).checkIf(Stream.of(1, 2, 3, 1), "actual").
+				doesNotContainDuplicates(3);
+			long _ = validator.stream().count();
+			validators.requireThat(validator.elseGetFailures().getMessages(), "messages").size().isEqualTo(1);
+		}
+	}
+
+	@Test
+	public void nullStream()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StreamValidator<Integer> validator = new TestValidatorsImpl(scope).checkIf((Stream<Integer>) null,
+				"actual");
+			long count = validator.stream().count();
+			validators.requireThat(count, "count").isEqualTo(0L);
+			validators.requireThat(validator.elseGetFailures().getMessages(), "messages").
+				isEqualTo(List.of("\"actual\" may not be null"));
+		}
+	}
+}
@@ -6,6 +6,8 @@ package io.github.cowwoc.requirements13.test.java.internal.diff;
 
 import io.github.cowwoc.requirements13.java.internal.ConfigurationUpdater;
 import io.github.cowwoc.requirements13.java.internal.message.ValidatorMessages;
+import io.github.cowwoc.requirements13.java.internal.message.diff.DiffGenerator;
+import io.github.cowwoc.requirements13.java.internal.message.diff.DiffResult;
 import io.github.cowwoc.requirements13.java.internal.message.diff.TextOnly;
 import io.github.cowwoc.requirements13.java.internal.message.diff.Writer16Colors;
 import io.github.cowwoc.requirements13.java.internal.message.diff.Writer16MillionColors;
@@ -19,10 +21,17 @@ import io.github.cowwoc.requirements13.test.java.SameMultilineWithDifferentHashC
 import io.github.cowwoc.requirements13.test.scope.TestApplicationScope;
 import org.testng.annotations.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 import static io.github.cowwoc.requirements13.java.TerminalEncoding.NONE;
 import static io.github.cowwoc.requirements13.java.TerminalEncoding.RGB_888_COLORS;
@@ -769,25 +778,203 @@ public final class DiffTest
 					DIFF_EQUAL.repeat(("\"" + EOS_MARKER).length()) + "\n" +
 					"expected[1]: \"2" + DIFF_PADDING.repeat(", 3, 4".length()) + "\"" + EOS_MARKER + "\n" +
 					"\n" +
-					"actual[2]  : \"5\"" + DIFF_PADDING.repeat("\"3\"".length()) + EOS_MARKER + "\n" +
-					"diff       : " + DIFF_DELETE.repeat("\"5\"".length()) + DIFF_INSERT.repeat("\"3\"".length()) +
-					DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
-					"expected[2]: " + DIFF_PADDING.repeat("\"5\"".length()) + "\"3\"" + EOS_MARKER + "\n" +
+					"actual     : " + DIFF_PADDING.repeat("\"3\"".length()) + EOS_MARKER + "\n" +
+					"diff       : " + DIFF_INSERT.repeat("\"3\"".length()) + DIFF_EQUAL.repeat(EOS_MARKER.length()) +
+					"\n" +
+					"expected[2]: \"3\"" + EOS_MARKER + "\n" +
 					"\n" +
 					"actual     : " + DIFF_PADDING.repeat("\"4\"".length()) + EOS_MARKER + "\n" +
 					"diff       : " + DIFF_INSERT.repeat("\"4\"".length()) + DIFF_EQUAL.repeat(EOS_MARKER.length()) +
 					"\n" +
 					"expected[3]: \"4\"" + EOS_MARKER + "\n" +
 					"\n" +
-					"actual     : " + DIFF_PADDING.repeat("\"5\"".length()) + EOS_MARKER + "\n" +
-					"diff       : " + DIFF_INSERT.repeat("\"5\"".length()) + DIFF_EQUAL.repeat(EOS_MARKER.length()) +
-					"\n" +
+					"actual[2]  : \"5\"" + EOS_MARKER + "\n" +
 					"expected[4]: \"5\"" + EOS_MARKER;
 			assert actualMessage.contains(expectedMessage) : "actual:\n" + actualMessage +
 				"\n**************** Expected:\n" + expectedMessage;
 		}
 	}
 
+	@Test
+	public void elementInsertedAtStartOfList()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<Integer> actual = List.of(1, 2, 3, 4, 5);
+			List<Integer> expected = List.of(0, 1, 2, 3, 4, 5);
+			validators.requireThat(actual, "actual").isEqualTo(expected);
+			fail("The method should have thrown an exception");
+		}
+		catch (IllegalArgumentException e)
+		{
+			String actualMessage = e.getMessage();
+			String expectedMessage = "actual     :  " + EOS_MARKER + "\n" +
+				"diff       : " + DIFF_INSERT + DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
+				"expected[0]: 0" + EOS_MARKER + "\n" +
+				"\n" +
+				"[...]\n" +
+				"\n" +
+				"actual[4]  : 5" + EOS_MARKER + "\n" +
+				"expected[5]: 5" + EOS_MARKER;
+			assert actualMessage.contains(expectedMessage) : "actual:\n" + actualMessage +
+				"\n**************** Expected:\n" + expectedMessage;
+		}
+	}
+
+	@Test
+	public void mapOfIntegers()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Map<String, Integer> actual = new LinkedHashMap<>();
+			actual.put("a", 1);
+			actual.put("b", 2);
+			actual.put("c", 3);
+			Map<String, Integer> expected = new LinkedHashMap<>();
+			expected.put("a", 1);
+			expected.put("b", 5);
+			expected.put("d", 4);
+			validators.requireThat(actual, "actual").isEqualTo(expected);
+			fail("The method should have thrown an exception");
+		}
+		catch (IllegalArgumentException e)
+		{
+			String actualMessage = e.getMessage();
+			String expectedMessage = "actual[\"b\"]  : 2" + DIFF_PADDING + EOS_MARKER + "\n" +
+				"diff         : " + DIFF_DELETE + DIFF_INSERT + DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
+				"expected[\"b\"]: " + DIFF_PADDING + "5" + EOS_MARKER + "\n" +
+				"\n" +
+				"actual[\"c\"]  : 3" + EOS_MARKER + "\n" +
+				"diff         : " + DIFF_DELETE + DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
+				"expected     : " + DIFF_PADDING + EOS_MARKER + "\n" +
+				"\n" +
+				"actual       : " + DIFF_PADDING + EOS_MARKER + "\n" +
+				"diff         : " + DIFF_INSERT + DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
+				"expected[\"d\"]: 4" + EOS_MARKER + "\n" +
+				"\n" +
+				"[...]";
+			assert actualMessage.contains(expectedMessage) : "actual:\n" + actualMessage +
+				"\n**************** Expected:\n" + expectedMessage;
+		}
+	}
+
+	@Test
+	public void setOfIntegers()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Set<Integer> actual = new LinkedHashSet<>(List.of(1, 2, 3, 4, 5));
+			Set<Integer> expected = new LinkedHashSet<>(List.of(1, 3, 4, 5, 6));
+			validators.requireThat(actual, "actual").isEqualTo(expected);
+			fail("The method should have thrown an exception");
+		}
+		catch (IllegalArgumentException e)
+		{
+			String actualMessage = e.getMessage();
+			String expectedMessage = "actual  : 2" + EOS_MARKER + "\n" +
+				"diff    : " + DIFF_DELETE + DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
+				"expected: " + DIFF_PADDING + EOS_MARKER + "\n" +
+				"\n" +
+				"actual  : " + DIFF_PADDING + EOS_MARKER + "\n" +
+				"diff    : " + DIFF_INSERT + DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
+				"expected: 6" + EOS_MARKER + "\n" +
+				"\n" +
+				"[...]";
+			assert actualMessage.contains(expectedMessage) : "actual:\n" + actualMessage +
+				"\n**************** Expected:\n" + expectedMessage;
+		}
+	}
+
+	/**
+	 * Ensures that the elements of a {@code HashSet} are listed in their natural order, regardless of the
+	 * order in which the set iterates over them.
+	 */
+	@Test
+	public void hashSetOfIntegers()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			// HashSet iterates over these elements in the order 33, 17, 1, 2, 4, 5, 40
+			Set<Integer> actual = new HashSet<>(List.of(40, 33, 17, 1, 2, 4, 5));
+			Set<Integer> expected = new HashSet<>(List.of(1, 2, 3, 4, 5));
+			validators.requireThat(actual, "actual").isEqualTo(expected);
+			fail("The method should have thrown an exception");
+		}
+		catch (IllegalArgumentException e)
+		{
+			String actualMessage = e.getMessage();
+			String expectedMessage = "actual  : 17" + EOS_MARKER + "\n" +
+				"diff    : " + DIFF_DELETE.repeat(2) + DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
+				"expected: " + DIFF_PADDING.repeat(2) + EOS_MARKER + "\n" +
+				"\n" +
+				"actual  : 33" + EOS_MARKER + "\n" +
+				"diff    : " + DIFF_DELETE.repeat(2) + DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
+				"expected: " + DIFF_PADDING.repeat(2) + EOS_MARKER + "\n" +
+				"\n" +
+				"actual  : 40" + EOS_MARKER + "\n" +
+				"diff    : " + DIFF_DELETE.repeat(2) + DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
+				"expected: " + DIFF_PADDING.repeat(2) + EOS_MARKER + "\n" +
+				"\n" +
+				"actual  : " + DIFF_PADDING + EOS_MARKER + "\n" +
+				"diff    : " + DIFF_INSERT + DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
+				"expected: 3" + EOS_MARKER + "\n" +
+				"\n" +
+				"[...]";
+			assert actualMessage.contains(expectedMessage) : "actual:\n" + actualMessage +
+				"\n**************** Expected:\n" + expectedMessage;
+		}
+	}
+
+	/**
+	 * Ensures that the elements of a {@code HashSet} are listed in the order of their String representation
+	 * if they are not comparable to each other.
+	 */
+	@Test
+	public void hashSetOfMixedTypes()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Set<Object> actual = new HashSet<>(List.of(40, "33", 17, "1", 2, 4, 5));
+			Set<Object> expected = new HashSet<>(List.of("1", 2, 3, 4, 5));
+			validators.requireThat(actual, "actual").isEqualTo(expected);
+			fail("The method should have thrown an exception");
+		}
+		catch (IllegalArgumentException e)
+		{
+			String actualMessage = e.getMessage();
+			// "33" is quoted, which sorts before the digits
+			String expectedMessage = "actual  : \"33\"" + EOS_MARKER + "\n" +
+				"diff    : " + DIFF_DELETE.repeat(4) + DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
+				"expected: " + DIFF_PADDING.repeat(4) + EOS_MARKER + "\n" +
+				"\n" +
+				"actual  : 17" + EOS_MARKER + "\n" +
+				"diff    : " + DIFF_DELETE.repeat(2) + DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
+				"expected: " + DIFF_PADDING.repeat(2) + EOS_MARKER + "\n" +
+				"\n" +
+				"actual  : 40" + EOS_MARKER + "\n" +
+				"diff    : " + DIFF_DELETE.repeat(2) + DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
+				"expected: " + DIFF_PADDING.repeat(2) + EOS_MARKER + "\n" +
+				"\n" +
+				"actual  : " + DIFF_PADDING + EOS_MARKER + "\n" +
+				"diff    : " + DIFF_INSERT + DIFF_EQUAL.repeat(EOS_MARKER.length()) + "\n" +
+				"expected: 3" + EOS_MARKER + "\n" +
+				"\n" +
+				"[...]";
+			assert actualMessage.contains(expectedMessage) : "actual:\n" + actualMessage +
+				"\n**************** Expected:\n" + expectedMessage;
+		}
+	}
+
 	/**
 	 * Ensure that text-mode diffs generate the expected value.
 	 */
@@ -1064,4 +1251,160 @@ public final class DiffTest
 				"\n**************** Expected:\n" + expectedMessage;
 		}
 	}
+
+	/**
+	 * Ensures that diffing very large values in parallel returns the same result as diffing them on a single
+	 * thread, including lines that were inserted or removed.
+	 */
+	@Test
+	public void parallelDiffMatchesSequentialDiff()
+	{
+		StringBuilder actual = new StringBuilder(120_000);
+		StringBuilder expected = new StringBuilder(120_000);
+		for (int i = 0; i < 10_000; ++i)
+		{
+			if (i % 1000 == 0)
+			{
+				// Repeated lines give the diff equally short alternatives to choose from
+				actual.append("duplicate\n");
+				expected.append("duplicate\n");
+			}
+			if (i != 5000)
+				actual.append("line ").append(i).append('\n');
+			if (i == 100)
+				expected.append("line one hundred\n");
+			else
+				expected.append("line ").append(i).append('\n');
+			if (i == 8000)
+				expected.append("inserted line\n");
+			if (i == 9000)
+				actual.append("removed line\n");
+		}
+
+		DiffResult sequential = new DiffGenerator(NONE, 1).diff(actual.toString(), expected.toString());
+		DiffResult parallel = new DiffGenerator(NONE, 4).diff(actual.toString(), expected.toString());
+		assert parallel.getActualLines().equals(sequential.getActualLines()) :
+			"parallel  : " + parallel.getActualLines() + "\n" +
+				"sequential: " + sequential.getActualLines();
+		assert parallel.getDiffLines().equals(sequential.getDiffLines()) :
+			"parallel  : " + parallel.getDiffLines() + "\n" +
+				"sequential: " + sequential.getDiffLines();
+		assert parallel.getExpectedLines().equals(sequential.getExpectedLines()) :
+			"parallel  : " + parallel.getExpectedLines() + "\n" +
+				"sequential: " + sequential.getExpectedLines();
+		assert parallel.getEqualLines().equals(sequential.getEqualLines()) :
+			"parallel  : " + parallel.getEqualLines() + "\n" +
+				"sequential: " + sequential.getEqualLines();
+		assert sequential.getEqualLines().contains(false) : "Expected differences to be found";
+	}
+
+	/**
+	 * Ensures that diffing very large values with many scattered differences in parallel returns the same
+	 * result as diffing them on a single thread.
+	 */
+	@Test
+	public void parallelDiffMatchesSequentialDiff_manyDifferences()
+	{
+		Random random = new Random(42);
+		StringBuilder actual = new StringBuilder(70_000);
+		for (int i = 0; i < 70_000; ++i)
+			actual.append((char) ('a' + random.nextInt(4)));
+		StringBuilder expected = new StringBuilder(actual);
+		for (int i = 0; i < 100; ++i)
+		{
+			int index = random.nextInt(expected.length());
+			switch (random.nextInt(3))
+			{
+				case 0 -> expected.deleteCharAt(index);
+				case 1 -> expected.insert(index, 'x');
+				default -> expected.setCharAt(index, 'y');
+			}
+		}
+
+		DiffResult sequential = new DiffGenerator(NONE, 1).diff(actual.toString(), expected.toString());
+		DiffResult parallel = new DiffGenerator(NONE, 4).diff(actual.toString(), expected.toString());
+		assert parallel.getActualLines().equals(sequential.getActualLines()) : "actual lines differ";
+		assert parallel.getDiffLines().equals(sequential.getDiffLines()) : "diff lines differ";
+		assert parallel.getExpectedLines().equals(sequential.getExpectedLines()) : "expected lines differ";
+		assert parallel.getEqualLines().equals(sequential.getEqualLines()) : "equal lines differ";
+	}
+
+	@Test
+	public void largeByteArrays()
+	{
+		byte[] actual = new byte[1_000_000];
+		byte[] expected = new byte[1_000_000];
+		for (int i = 0; i < actual.length; ++i)
+		{
+			actual[i] = (byte) i;
+			expected[i] = (byte) i;
+		}
+		expected[500_000] = 'A';
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat(actual, "actual").isEqualTo(expected);
+			fail("The method should have thrown an exception");
+		}
+		catch (IllegalArgumentException e)
+		{
+			String actualMessage = e.getMessage();
+			assert actualMessage.contains("actual[500000]  : 20") : actualMessage;
+			assert actualMessage.contains("expected[500000]:   41") : actualMessage;
+			assert actualMessage.contains("| A!\"#$%&'()*+,-./|") : actualMessage;
+			assert actualMessage.length() < 2000 : actualMessage;
+		}
+	}
+
+	@Test
+	public void byteBuffersWithDifferentLengths()
+	{
+		ByteBuffer actual = ByteBuffer.wrap("Hello world".getBytes(StandardCharsets.US_ASCII));
+		ByteBuffer expected = ByteBuffer.wrap("Hello world, goodbye world".getBytes(StandardCharsets.US_ASCII));
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat(actual, "actual").isEqualTo(expected);
+			fail("The method should have thrown an exception");
+		}
+		catch (IllegalArgumentException e)
+		{
+			String actualMessage = e.getMessage();
+			String lastRow = "64 62 79 65 20 77 6f 72 6c 64                    |dbye world      |";
+			String expectedMessage = "actual      : " + DIFF_PADDING.repeat(lastRow.length()) + EOS_MARKER + "\n" +
+				"diff        : " + DIFF_INSERT.repeat(lastRow.length()) + DIFF_EQUAL.repeat(EOS_MARKER.length()) +
+				"\n" +
+				"expected[16]: " + lastRow + EOS_MARKER;
+			assert actualMessage.contains(expectedMessage) : "actual:\n" + actualMessage +
+				"\n**************** Expected:\n" + expectedMessage;
+		}
+	}
+
+	/**
+	 * Ensures that a {@code byte[]} and a {@code ByteBuffer} that contain the same bytes, but are not equal to
+	 * each other, still produce a diff.
+	 */
+	@Test
+	public void byteArrayAndByteBufferWithSameBytes()
+	{
+		byte[] actual = "Hello world".getBytes(StandardCharsets.US_ASCII);
+		ByteBuffer expected = ByteBuffer.wrap(actual.clone());
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat(actual, "actual").isEqualTo(expected);
+			fail("The method should have thrown an exception");
+		}
+		catch (IllegalArgumentException e)
+		{
+			String actualMessage = e.getMessage();
+			String bytes = "[72, 101, 108, 108, 111, 32, 119, 111, 114, 108, 100]";
+			assert actualMessage.indexOf(bytes) != actualMessage.lastIndexOf(bytes) : actualMessage;
+			assert actualMessage.contains("expected.class") : actualMessage;
+			assert !actualMessage.contains("HeapByteBuffer[") : actualMessage;
+		}
+	}
 }
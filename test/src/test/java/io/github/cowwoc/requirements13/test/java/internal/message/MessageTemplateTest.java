@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.test.java.internal.message;
+
+import io.github.cowwoc.requirements13.java.internal.message.MessageTemplate;
+import org.testng.annotations.Test;
+
+public final class MessageTemplateTest
+{
+	@Test
+	public void quotesNames()
+	{
+		MessageTemplate template = MessageTemplate.of("{name} may not point to the same object as {otherName}");
+		String actual = template.format("actual", "other");
+		String expected = "\"actual\" may not point to the same object as \"other\"";
+		assert actual.equals(expected) : "actual: " + actual + ", expected: " + expected;
+	}
+
+	@Test
+	public void doesNotQuoteExpressions()
+	{
+		MessageTemplate template = MessageTemplate.of("{name} must be sorted.");
+		String actual = template.format("actual.keySet()");
+		String expected = "actual.keySet() must be sorted.";
+		assert actual.equals(expected) : "actual: " + actual + ", expected: " + expected;
+	}
+
+	@Test
+	public void insertsOtherArgumentsVerbatim()
+	{
+		MessageTemplate template = MessageTemplate.of("{name} must contain all the {elements} present in " +
+			"{expected}.");
+		String actual = template.format("actual", "elements", "the set [1, 2]");
+		String expected = "\"actual\" must contain all the elements present in the set [1, 2].";
+		assert actual.equals(expected) : "actual: " + actual + ", expected: " + expected;
+	}
+}
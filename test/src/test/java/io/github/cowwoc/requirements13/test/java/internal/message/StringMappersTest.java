@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.test.java.internal.message;
+
+import io.github.cowwoc.requirements13.java.internal.ConfigurationUpdater;
+import io.github.cowwoc.requirements13.java.internal.StringMappers;
+import io.github.cowwoc.requirements13.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements13.test.TestValidators;
+import io.github.cowwoc.requirements13.test.TestValidatorsImpl;
+import io.github.cowwoc.requirements13.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.github.cowwoc.requirements13.java.TerminalEncoding.NONE;
+
+public final class StringMappersTest
+{
+	@Test
+	public void appendNestedCollections()
+	{
+		StringBuilder actual = new StringBuilder("value: ");
+		StringMappers.DEFAULT.appendTo(actual, List.of(List.of(1, 2), Set.of("a"), List.of()));
+		String expected = "value: [[1, 2], [\"a\"], []]";
+		assert actual.toString().equals(expected) : "actual: " + actual + ", expected: " + expected;
+	}
+
+	@Test
+	public void appendNestedMaps()
+	{
+		Map<String, Object> value = new LinkedHashMap<>();
+		value.put("first", Map.of("inner", List.of(1, 2)));
+		value.put("second", List.of(Map.of("key", Set.of(3))));
+		StringBuilder actual = new StringBuilder("value: ");
+		StringMappers.DEFAULT.appendTo(actual, value);
+		String expected = "value: {\"first\"={\"inner\"=[1, 2]}, \"second\"=[{\"key\"=[3]}]}";
+		assert actual.toString().equals(expected) : "actual: " + actual + ", expected: " + expected;
+	}
+
+	@Test
+	public void appendMatchesToString()
+	{
+		Map<String, Object> value = new LinkedHashMap<>();
+		value.put("list", List.of(List.of("a", "b"), Map.of(1, List.of(2))));
+		StringBuilder actual = new StringBuilder();
+		StringMappers.DEFAULT.appendTo(actual, value);
+		String expected = StringMappers.DEFAULT.toString(value);
+		assert actual.toString().equals(expected) : "actual: " + actual + ", expected: " + expected;
+	}
+
+	@Test
+	public void quoteString()
+	{
+		String actual = StringMappers.quoteString("");
+		assert actual.equals("\"\"") : actual;
+
+		actual = StringMappers.quoteString("\"a\"\"b\"");
+		assert actual.equals("\"\\\"a\\\"\\\"b\\\"\"") : actual;
+
+		actual = StringMappers.quoteString("\uD83D\uDE00\"\u00E9");
+		assert actual.equals("\"\uD83D\uDE00\\\"\u00E9\"") : actual;
+
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+			try (ConfigurationUpdater configurationUpdater = validators.updateConfiguration())
+			{
+				configurationUpdater.stringMappers().maximumStringLength(3);
+			}
+			actual = validators.configuration().stringMappers().toString("a\"bcd");
+			assert actual.equals("\"a\\\"b\"... 2 more characters") : actual;
+		}
+	}
+
+	/**
+	 * Ensures that nested collections and maps in the context of a failure are rendered into the exception
+	 * message.
+	 */
+	@Test
+	public void nestedContext()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			Map<String, Object> context = new LinkedHashMap<>();
+			context.put("key", List.of(Set.of(1), Map.of("inner", 2)));
+			List<String> actual = new TestValidatorsImpl(scope).checkIf(5, "actual").
+				withContext(context, "nested").
+				isNegative().elseGetFailures().getMessages();
+			List<String> expected = List.of("""
+				"actual" must be negative.
+				actual: 5
+				nested: {"key"=[[1], {"inner"=2}]}""");
+			assert actual.equals(expected) : "actual: " + actual + ", expected: " + expected;
+		}
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements13.test.java.internal.util;
+
+import io.github.cowwoc.requirements13.java.internal.util.GroupingFormatter;
+import org.testng.annotations.Test;
+
+public final class GroupingFormatterTest
+{
+	/**
+	 * Ensures that integers are formatted the same way as {@code String.format("%,d")}.
+	 */
+	@Test
+	public void formatLong()
+	{
+		long[] values = {0, 7, -7, 999, 1000, -1000, 1_234_567, Integer.MIN_VALUE, Long.MIN_VALUE,
+			Long.MAX_VALUE};
+		for (long value : values)
+		{
+			String expected = String.format("%,d", value);
+			String actual = GroupingFormatter.format(value);
+			assert actual.equals(expected) : "actual: " + actual + ", expected: " + expected;
+		}
+	}
+
+	/**
+	 * Ensures that floating-point numbers are formatted the same way as {@code String.format("%,f")}.
+	 */
+	@Test
+	public void formatDouble()
+	{
+		double[] values = {0.0, -0.0, 0.125, 1.000_000_5, -1.0e-7, 2.5e-6, 1_234_567.890_123_5, 1.0e300,
+			Double.MIN_VALUE, Double.MAX_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+			0.1f};
+		for (double value : values)
+		{
+			String expected = String.format("%,f", value);
+			String actual = GroupingFormatter.format(value);
+			assert actual.equals(expected) : "actual: " + actual + ", expected: " + expected;
+		}
+	}
+}
@@ -12,7 +12,9 @@ import io.github.cowwoc.requirements13.test.TestValidators;
 import io.github.cowwoc.requirements13.test.scope.TestApplicationScope;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import static io.github.cowwoc.requirements13.java.TerminalEncoding.NONE;
@@ -74,4 +76,62 @@ public final class SetsTest
 				containsExactly(ImmutableSet.of(2, 3));
 		}
 	}
+
+	@Test
+	public void containsSameElements()
+	{
+		for (boolean parallel : new boolean[]{false, true})
+		{
+			List<Integer> list = List.of(1, 2, 2, 3);
+			Set<Integer> set = Set.of(3, 2, 1);
+			assert Collections.containsSameElements(list, set, parallel);
+			assert Collections.containsSameElements(set, list, parallel);
+			assert Collections.containsSameElements(list, List.of(3, 3, 1, 2), parallel);
+			assert Collections.containsSameElements(set, Set.of(1, 2, 3), parallel);
+			assert !Collections.containsSameElements(list, List.of(1, 2), parallel);
+			assert !Collections.containsSameElements(List.of(1, 2), list, parallel);
+			assert !Collections.containsSameElements(set, Set.of(1, 2, 4), parallel);
+			assert !Collections.containsSameElements(List.of(1, 1, 1, 1), set, parallel);
+		}
+	}
+
+	@Test
+	public void containsAll()
+	{
+		for (boolean parallel : new boolean[]{false, true})
+		{
+			List<Integer> list = List.of(1, 2, 2, 3);
+			assert Collections.containsAll(list, List.of(3, 1, 1), parallel);
+			assert Collections.containsAll(list, List.of(), parallel);
+			assert !Collections.containsAll(list, Set.of(4), parallel);
+			assert !Collections.containsAll(List.of(), list, parallel);
+		}
+	}
+
+	@Test
+	public void containsAny()
+	{
+		for (boolean parallel : new boolean[]{false, true})
+		{
+			List<Integer> list = List.of(1, 2, 2, 3);
+			assert Collections.containsAny(list, List.of(5, 3), parallel);
+			assert Collections.containsAny(Set.of(5, 3), list, parallel);
+			assert Collections.containsAny(list, List.of(0, 0, 0, 0, 0, 2), parallel);
+			assert !Collections.containsAny(list, Set.of(4, 5), parallel);
+			assert !Collections.containsAny(list, List.of(), parallel);
+		}
+	}
+
+	@Test
+	public void containsDuplicates()
+	{
+		for (boolean parallel : new boolean[]{false, true})
+		{
+			assert Collections.containsDuplicates(List.of(1, 2, 3, 2), parallel);
+			assert Collections.containsDuplicates(Arrays.asList(null, 1, null), parallel);
+			assert !Collections.containsDuplicates(Arrays.asList(1, null, 2), parallel);
+			assert !Collections.containsDuplicates(Set.of(1, 2), parallel);
+			assert !Collections.containsDuplicates(List.of(), parallel);
+		}
+	}
 }
@@ -8,10 +8,12 @@ import io.github.cowwoc.requirements13.java.GlobalConfiguration;
 import io.github.cowwoc.requirements13.java.TerminalEncoding;
 
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class TestGlobalConfiguration implements GlobalConfiguration
 {
 	private final TerminalEncoding terminalEncoding;
+	private final AtomicInteger diffParallelism = new AtomicInteger(1);
 
 	/**
 	 * @param terminalEncoding the terminal encoding that the test should use
@@ -46,4 +48,19 @@ public final class TestGlobalConfiguration implements GlobalConfiguration
 		}
 		return this;
 	}
+
+	@Override
+	public int diffParallelism()
+	{
+		return diffParallelism.get();
+	}
+
+	@Override
+	public TestGlobalConfiguration diffParallelism(int parallelism)
+	{
+		if (parallelism < 1)
+			throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+		diffParallelism.set(parallelism);
+		return this;
+	}
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ module io.github.cowwoc.requirements13.test
 	exports io.github.cowwoc.requirements13.test.jackson to org.testng;
 	exports io.github.cowwoc.requirements13.test.java to org.testng;
 	exports io.github.cowwoc.requirements13.test.java.internal.diff to org.testng;
+	exports io.github.cowwoc.requirements13.test.java.internal.message to org.testng;
 	exports io.github.cowwoc.requirements13.test.java.internal.terminal to org.testng;
 	exports io.github.cowwoc.requirements13.test.java.internal.util to org.testng;
 	exports io.github.cowwoc.requirements13.test.java.terminal to org.testng;